@@ -0,0 +1,446 @@
+package seedu.duke;
+
+import seedu.duke.command.Command;
+import seedu.duke.command.ResponseCache;
+import seedu.duke.parser.Parser;
+import seedu.duke.profiling.CommandEvent;
+import seedu.duke.reminder.ReminderScheduler;
+import seedu.duke.replication.ReplicationPrimary;
+import seedu.duke.storage.Storage;
+import seedu.duke.storage.StorageWatcher;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskList;
+import seedu.duke.ui.BufferedOutput;
+import seedu.duke.ui.Ui;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Main class of Duke. It does not use JavaFX, so the console can be started without loading any GUI classes.
+ */
+public class Duke {
+    private static final String PIPELINE_FLAG = "--pipeline";
+    private static final int INPUT_BUFFER_SIZE = 1 << 16;
+    private static final int FIRST_PAGE_SIZE = 50;
+
+    private String filePath;
+    private Ui ui;
+    private TaskList taskList;
+    private Storage storage;
+    private ReminderScheduler reminders;
+    private ResponseCache responses = ResponseCache.fromSystemProperties();
+    private boolean isExit;
+    private String loadWarning;
+    private String loadFailure;
+    private ExecutorService commandExecutor;
+    private CompletableFuture<Void> loading = CompletableFuture.completedFuture(null);
+
+    /**
+     * Constructor for Duke, which loads the task file before it returns.
+     *
+     * @throws UncheckedIOException If the task file exists but cannot be read.
+     */
+    public Duke() {
+        this("duke.txt");
+        load();
+    }
+
+    private Duke(String filePath) {
+        this.filePath = filePath;
+        ui = new Ui();
+        storage = Storage.fromSystemProperties(filePath);
+        openJournal();
+    }
+
+    /**
+     * Creates Duke and loads the task file on the command thread, so that the GUI can show its window at once.
+     * Commands given to {@link #submit} run on the same thread, so they wait in turn until the task file is loaded.
+     *
+     * @param firstPageListener Given the first tasks of the sorted list on the command thread as soon as they are
+     *     known, before the rest of the list is ready. The tasks may change after it returns.
+     * @return Duke, whose task list is null until it is loaded, or for good if it cannot be loaded.
+     */
+    public static Duke startLoading(Consumer<List<Task>> firstPageListener) {
+        Duke duke = new Duke("duke.txt");
+        duke.storage.setFirstPageListener(FIRST_PAGE_SIZE, firstPageListener);
+        duke.loading = CompletableFuture.runAsync(() -> {
+            try {
+                duke.load();
+            } catch (UncheckedIOException e) { // the commands waiting for the list are told why there is none
+                duke.loadFailure = duke.ui.formatLoadFailure(e);
+                throw e;
+            }
+        }, duke.getCommandExecutor());
+        return duke;
+    }
+
+    /**
+     * Loads the task file into the task list, warning about the lines that could not be read, and starts the
+     * reminders, the watcher of the hard disk and the replication that follow the list. Only a task file that does
+     * not exist yet gives an empty list; if it exists but cannot be read, Duke does not start, as any later write
+     * would save the empty list over it.
+     *
+     * @throws UncheckedIOException If the task file exists but cannot be read.
+     */
+    private void load() {
+        try {
+            taskList = new TaskList(storage.load(), storage);
+        } catch (IOException e) {
+            if (new File(filePath).exists()) { // an empty list would be saved over the tasks that could not be read
+                throw new UncheckedIOException("Cannot load " + filePath, e);
+            }
+            storage.makeNewFile();
+            taskList = new TaskList(new ArrayList<>(), storage);
+        }
+        try {
+            taskList.applyArchivePolicy();
+        } catch (IOException e) { // the tasks stay in the list, to be archived another time
+            ui.print(e.toString());
+        }
+
+        if (!storage.getLoadErrors().isEmpty()) {
+            loadWarning = ui.formatQuarantined(storage.getLoadErrors(), storage.getQuarantineFile());
+            ui.print(loadWarning);
+        }
+
+        if (!taskList.isPaged()) { // reminders hold on to their tasks, which a paged list does not keep
+            reminders = ReminderScheduler.fromSystemProperties(taskList.getTasks());
+            taskList.addObserver(reminders);
+            reminders.start();
+        }
+        watchStorage();
+        startReplication();
+    }
+
+    /**
+     * Shares the task file safely with other Duke processes, such as the GUI and scripts run at the same time.
+     */
+    private void openJournal() {
+        try {
+            storage.openJournal();
+        } catch (IOException e) {
+            ui.print(e.toString());
+        }
+    }
+
+    /**
+     * Ships every change to the list to follower processes, if a port is set by duke.replication.port.
+     */
+    private void startReplication() {
+        ReplicationPrimary primary = ReplicationPrimary.fromSystemProperties(taskList.getTasks());
+        if (primary == null) {
+            return;
+        }
+        taskList.addObserver(primary);
+        try {
+            primary.start();
+        } catch (IOException e) {
+            ui.print(e.toString());
+        }
+    }
+
+    /**
+     * Keeps the list in line with the hard disk when it is edited outside of Duke. Commands and reloads both hold
+     * the lock of the list and the lock of the hard disk, so a reload never sees the hard disk halfway through a
+     * command of this or another Duke process. If the task file is shared through its journal, only the lines
+     * that changed are read, unless it was edited outside of Duke.
+     */
+    private void watchStorage() {
+        StorageWatcher watcher = new StorageWatcher(storage, () -> {
+            synchronized (taskList) {
+                try {
+                    Closeable lock = storage.lock();
+                    try (lock) {
+                        if (storage.getJournal() == null) {
+                            taskList.reloadFromStorage();
+                        } else {
+                            taskList.syncWithStorage();
+                        }
+                    }
+                } catch (IOException e) {
+                    ui.print(e.toString());
+                }
+            }
+        });
+        try {
+            watcher.start();
+        } catch (IOException e) {
+            ui.print(e.toString());
+        }
+    }
+
+    /**
+     * Gets the loading of the task file, e.g. so that the GUI can follow the tasks once they are loaded.
+     *
+     * @return The loading, which is done already if Duke was not created by {@link #startLoading}.
+     */
+    public CompletableFuture<Void> getLoading() {
+        return loading;
+    }
+
+    private synchronized ExecutorService getCommandExecutor() {
+        if (commandExecutor == null) {
+            commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "duke-commands");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return commandExecutor;
+    }
+
+    /**
+     * Queues user input to be run on the command thread after the commands given before it, and after the task file
+     * is loaded, so that the caller, e.g. the JavaFX thread, never waits for a command.
+     *
+     * @param input The user input.
+     * @return Duke's response, once the command has run.
+     */
+    public CompletableFuture<String> submit(String input) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return getResponse(input);
+            } catch (IOException e) {
+                return e.toString();
+            }
+        }, getCommandExecutor());
+    }
+
+    /**
+     * Gets the warning about the lines of the task file that could not be read and were moved to the quarantine
+     * file, e.g. so that the GUI can show it once the task file is loaded.
+     *
+     * @return The warning, or null if every line was read.
+     */
+    public String getLoadWarning() {
+        return loadWarning;
+    }
+
+    /**
+     * Gets the reason the task file could not be loaded, e.g. so that the GUI can show it once loading is done.
+     *
+     * @return The reason, or null if the task file was loaded or is still loading.
+     */
+    public String getLoadFailure() {
+        return loadFailure;
+    }
+
+    public ReminderScheduler getReminders() {
+        return reminders;
+    }
+
+    /**
+     * Gets the task list, e.g. so that the GUI can follow its changes.
+     *
+     * @return The task list, or null until the task file is loaded.
+     */
+    public TaskList getTaskList() {
+        return taskList;
+    }
+
+    /**
+     * Checks if the user has asked to exit, e.g. so that the GUI can close its window.
+     *
+     * @return true if the latest command was bye.
+     */
+    public boolean isExit() {
+        return isExit;
+    }
+
+    /**
+     * Reads the user command and passes it to Ui to be processed accordingly.
+     */
+    private void runDuke() {
+        ui.print(ui.greet());
+        Parser parser = new Parser();
+        Scanner sc = new Scanner(System.in);
+        while (sc.hasNext()) {
+            if (!runCommand(parser, sc.nextLine())) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Runs the commands piped into standard input one after another, without greeting the user.
+     * Input is read through a large buffer and output is written through a BufferedOutput, so that the console is
+     * not the bottleneck. How many commands were run per second is reported on standard error at the end.
+     *
+     * @throws IOException If standard input cannot be read.
+     */
+    private void runPipeline() throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8),
+                INPUT_BUFFER_SIZE);
+        Parser parser = new Parser();
+        long commandCount = 0;
+        long startNanos = System.nanoTime();
+        BufferedOutput output = BufferedOutput.install();
+        try (output) {
+            String input;
+            while ((input = reader.readLine()) != null) {
+                if (!runCommand(parser, input)) {
+                    break;
+                }
+                commandCount++;
+            }
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.err.printf("Ran %d commands in %.2f s (%.0f commands/s)%n", commandCount, seconds,
+                commandCount / Math.max(seconds, 1e-9));
+        System.err.printf("Answered %d of %d list and find commands from the response cache (%.0f%%)%n",
+                responses.getHitCount(), responses.getHitCount() + responses.getMissCount(),
+                responses.getHitRate() * 100);
+    }
+
+    /**
+     * Parses and executes one line of user input.
+     *
+     * @param parser The parser of the user input.
+     * @param input The user input.
+     * @return false if the user has asked to exit.
+     */
+    private boolean runCommand(Parser parser, String input) {
+        try {
+            String[] inputs = input.split(" ", 2);
+            Command cmd = parser.handleCommands(inputs, taskList);
+            if (!cmd.hasNextCommand()) {
+                return false;
+            }
+            synchronized (taskList) {
+                execute(inputs, cmd);
+            }
+        } catch (NullPointerException e) {
+            ui.print(e.toString());
+        } catch (IOException e) {
+            ui.print(e.toString());
+        }
+        return true;
+    }
+
+    /**
+     * Executes a command while holding the lock of the hard disk, after catching up with the changes other Duke
+     * processes have saved to it. The caller should hold the lock of the list. A list or find command repeated
+     * before the list changed is answered with its response from the response cache instead.
+     *
+     * @param inputs The user input, split into the first word and the rest.
+     * @param cmd The command.
+     * @throws IOException If an input or output exception occurred.
+     */
+    private void execute(String[] inputs, Command cmd) throws IOException {
+        Closeable lock = storage.lock();
+        try (lock) {
+            taskList.syncWithStorage();
+            String key = ResponseCache.keyOf(inputs, cmd);
+            if (key == null) {
+                CommandEvent.execute(inputs[0], cmd, taskList, ui, storage);
+                return;
+            }
+            String response = responses.get(key, taskList);
+            if (response != null) {
+                System.out.print(response);
+                CommandEvent.cached(inputs[0], taskList);
+                return;
+            }
+            executeAndCache(inputs[0], key, cmd);
+        }
+    }
+
+    /**
+     * Executes a command whose response can be kept, printing its response into a buffer so that it can be kept
+     * once the command succeeds, and then printing it to where it would have gone. The command and the list print
+     * through a Ui bound to the buffer, so what other threads print meanwhile, e.g. reminders, is not kept.
+     * The caller should hold the lock of the list.
+     */
+    private void executeAndCache(String command, String key, Command cmd) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream commandOut = new PrintStream(buffer);
+        Ui commandUi = new Ui(commandOut);
+        Ui listUi = taskList.setUi(commandUi);
+        boolean isDone = false;
+        try {
+            CommandEvent.execute(command, cmd, taskList, commandUi, storage);
+            isDone = true;
+        } finally {
+            taskList.setUi(listUi);
+            commandOut.flush();
+            String response = buffer.toString();
+            System.out.print(response);
+            if (isDone) {
+                responses.put(key, taskList, response);
+            }
+        }
+    }
+
+    /**
+     * Main method to run Duke. With the argument --pipeline, Duke runs the commands piped into it as fast as it
+     * can instead of chatting.
+     */
+    public static void main(String[] args) throws IOException {
+        Duke duke;
+        try {
+            duke = new Duke();
+        } catch (UncheckedIOException e) {
+            System.err.println(e.getMessage() + ": " + e.getCause());
+            System.exit(1);
+            return;
+        }
+        if (duke.reminders != null) {
+            duke.reminders.addListener(duke.ui::printReminder);
+        }
+        if (args.length > 0 && args[0].equals(PIPELINE_FLAG)) {
+            duke.runPipeline();
+        } else {
+            duke.runDuke();
+        }
+    }
+
+    //@@author johannagwan-reused
+    //Reused from https://stackoverflow.com/questions/8708342/redirect-console-output-to-string-in-java/8708357
+    //with minor modifications.
+    /**
+     * Generates a response to user input.
+     *
+     * @param input The user input.
+     * @return Duke's response, or why there is none if the task file could not be loaded.
+     */
+    public String getResponse(String input) throws IOException {
+        if (taskList == null && loadFailure != null) {
+            return loadFailure;
+        }
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PrintStream ps = new PrintStream(baos);
+        PrintStream old = System.out;
+        System.setOut(ps);
+
+        try {
+            Parser parser = new Parser();
+            String[] inputs = input.split(" ", 2);
+            Command cmd = parser.handleCommands(inputs, taskList);
+            synchronized (taskList) {
+                execute(inputs, cmd);
+            }
+
+            isExit = !cmd.hasNextCommand();
+        } finally {
+            System.out.flush();
+            System.setOut(old);
+        }
+        return baos.toString();
+    }
+    //@@author
+}
\ No newline at end of file
@@ -0,0 +1,135 @@
+package seedu.duke.autocomplete;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Keeps a set of words in a trie, so that the words under a prefix are found without looking at any other word.
+ * Children are kept in sorted arrays, so words come out in alphabetical order, and nodes without words below them
+ * are removed, so a walk under a prefix only visits nodes that lead to words and can stop as soon as it has found
+ * enough.
+ */
+public class PrefixTrie {
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root = new Node();
+
+    /**
+     * Adds a word.
+     *
+     * @param word The word, already in lower case.
+     */
+    public void add(String word) {
+        Node node = root;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.getOrAddChild(word.charAt(i));
+        }
+        node.isWord = true;
+    }
+
+    /**
+     * Removes a word, and the nodes that no longer lead to any word.
+     *
+     * @param word The word, already in lower case.
+     */
+    public void remove(String word) {
+        Node[] path = new Node[word.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < word.length(); i++) {
+            path[i + 1] = path[i].getChild(word.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+        path[word.length()].isWord = false;
+        for (int i = word.length(); i > 0 && path[i].isEmpty(); i--) {
+            path[i - 1].removeChild(word.charAt(i - 1));
+        }
+    }
+
+    /**
+     * Visits the words that start with a prefix, in alphabetical order, until the visitor asks to stop.
+     *
+     * @param prefix The prefix, already in lower case.
+     * @param visitor Takes each word and returns false to stop.
+     */
+    public void visitWords(String prefix, Predicate<String> visitor) {
+        Node node = find(prefix);
+        if (node != null) {
+            visitWords(node, new StringBuilder(prefix), visitor);
+        }
+    }
+
+    private static boolean visitWords(Node node, StringBuilder word, Predicate<String> visitor) {
+        if (node.isWord && !visitor.test(word.toString())) {
+            return false;
+        }
+        for (int i = 0; i < node.keys.length; i++) {
+            word.append(node.keys[i]);
+            boolean isVisiting = visitWords(node.children[i], word, visitor);
+            word.setLength(word.length() - 1);
+            if (!isVisiting) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.getChild(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    private static class Node {
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private boolean isWord;
+
+        private Node getChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index < 0 ? null : children[index];
+        }
+
+        private Node getOrAddChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                return children[index];
+            }
+            index = -index - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[keys.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newKeys[index] = key;
+            newChildren[index] = new Node();
+            System.arraycopy(keys, index, newKeys, index + 1, keys.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, keys.length - index);
+            keys = newKeys;
+            children = newChildren;
+            return children[index];
+        }
+
+        private void removeChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index < 0) {
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[keys.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, keys.length - index - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        private boolean isEmpty() {
+            return !isWord && keys.length == 0;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.duke.autocomplete;
+
+/**
+ * A way to complete what the user is typing.
+ */
+public class Suggestion {
+    private final String text;
+    private final String label;
+
+    /**
+     * Constructor for Suggestion.
+     *
+     * @param text The whole input once completed, e.g. "done #17".
+     * @param label What the suggestion is shown as, e.g. the task that "#17" stands for.
+     */
+    public Suggestion(String text, String label) {
+        this.text = text;
+        this.label = label;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    @Override
+    public String toString() {
+        return text + " (" + label + ")";
+    }
+}
@@ -0,0 +1,163 @@
+package seedu.duke.autocomplete;
+
+import seedu.duke.parser.Parser;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskListObserver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Suggests ways to complete a command as it is typed: command words, words from task descriptions, and for the
+ * commands that take a task, the tasks whose descriptions match the words typed, by their ids. The words of the
+ * descriptions are kept in a PrefixTrie, and the tasks with each word in a hash map, both following the TaskList
+ * observed. Its methods are synchronized, so suggestions can be worked out on another thread while commands change
+ * the list.
+ */
+public class TaskCompleter implements TaskListObserver {
+    private static final Set<String> TASK_COMMANDS = Set.of("done", "delete", "tag", "untag", "priority");
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_CHECKED_TASKS = 1000;
+
+    private final PrefixTrie words = new PrefixTrie();
+    private final Map<String, Set<Task>> postings = new HashMap<>();
+
+    /**
+     * Creates a completer for the given tasks.
+     *
+     * @param tasks The tasks whose descriptions are suggested.
+     */
+    public TaskCompleter(List<Task> tasks) {
+        for (Task task : tasks) {
+            add(task);
+        }
+    }
+
+    @Override
+    public synchronized void taskAdded(int index, Task task) {
+        add(task);
+    }
+
+    @Override
+    public void taskStatusChanged(int index, Task task) {
+        // the description, and so the words, of a task never change
+    }
+
+    @Override
+    public synchronized void taskRemoved(int index, Task task) {
+        for (String word : wordsOf(task.getDescription())) {
+            Set<Task> tasks = postings.get(word);
+            if (tasks != null && tasks.remove(task) && tasks.isEmpty()) {
+                postings.remove(word);
+                words.remove(word);
+            }
+        }
+    }
+
+    private void add(Task task) {
+        for (String word : wordsOf(task.getDescription())) {
+            postings.computeIfAbsent(word, key -> {
+                words.add(key);
+                return new LinkedHashSet<>(); // tasks are equal only to themselves, and suggested in the order added
+            }).add(task);
+        }
+    }
+
+    /**
+     * Suggests ways to complete the last word of an input. Only the tasks and words under the prefix being typed
+     * are looked at, and at most a bounded number of tasks are checked against the other words typed, so the time
+     * taken does not grow with the length of the list.
+     *
+     * @param input The input typed so far.
+     * @param limit The largest number of suggestions.
+     * @return The suggestions, which are empty if there is nothing to complete.
+     */
+    public synchronized List<Suggestion> complete(String input, int limit) {
+        List<Suggestion> suggestions = new ArrayList<>();
+        int lastSpace = input.lastIndexOf(' ');
+        String lastWord = input.substring(lastSpace + 1).toLowerCase();
+        if (lastWord.isEmpty() || WORD_SEPARATOR.split(lastWord, -1).length != 1) {
+            return suggestions; // e.g. "#17" or "/by", which are not words of a description
+        }
+
+        if (lastSpace < 0) {
+            for (String command : Parser.COMMANDS) {
+                if (command.startsWith(lastWord) && !command.equals(lastWord) && suggestions.size() < limit) {
+                    suggestions.add(new Suggestion(command + " ", command));
+                }
+            }
+            return suggestions;
+        }
+
+        String command = input.substring(0, input.indexOf(' '));
+        String argument = input.substring(command.length() + 1).toLowerCase();
+        if (TASK_COMMANDS.contains(command)) {
+            if (argument.matches("\\p{L}[\\p{L}\\p{N} ]*")) { // not an index, a list or an id
+                completeTask(command, wordsOf(argument), limit, suggestions);
+            }
+        } else {
+            completeWord(input.substring(0, lastSpace + 1), lastWord, limit, suggestions);
+        }
+        return suggestions;
+    }
+
+    /**
+     * Suggests the tasks with a word starting with the last keyword and words starting with every other keyword.
+     */
+    private void completeTask(String command, List<String> keywords, int limit, List<Suggestion> suggestions) {
+        String lastKeyword = keywords.get(keywords.size() - 1);
+        List<String> otherKeywords = keywords.subList(0, keywords.size() - 1);
+        Set<Task> foundTasks = new LinkedHashSet<>();
+        int[] checkedCount = new int[1];
+        words.visitWords(lastKeyword, word -> {
+            for (Task task : postings.get(word)) {
+                if (hasWordsStartingWith(task, otherKeywords)) {
+                    foundTasks.add(task);
+                }
+                if (foundTasks.size() >= limit || ++checkedCount[0] >= MAX_CHECKED_TASKS) {
+                    return false;
+                }
+            }
+            return true;
+        });
+
+        String separator = command.equals("done") || command.equals("delete") ? "" : " ";
+        for (Task task : foundTasks) {
+            suggestions.add(new Suggestion(command + " #" + task.getId() + separator, task.toString()));
+        }
+    }
+
+    private static boolean hasWordsStartingWith(Task task, List<String> prefixes) {
+        if (prefixes.isEmpty()) {
+            return true;
+        }
+        List<String> taskWords = wordsOf(task.getDescription());
+        for (String prefix : prefixes) {
+            if (taskWords.stream().noneMatch(word -> word.startsWith(prefix))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void completeWord(String start, String prefix, int limit, List<Suggestion> suggestions) {
+        words.visitWords(prefix, word -> {
+            if (!word.equals(prefix)) {
+                suggestions.add(new Suggestion(start + word, word));
+            }
+            return suggestions.size() < limit;
+        });
+    }
+
+    private static List<String> wordsOf(String text) {
+        List<String> textWords = new ArrayList<>(Arrays.asList(WORD_SEPARATOR.split(text.toLowerCase())));
+        textWords.removeIf(String::isEmpty);
+        return textWords;
+    }
+}
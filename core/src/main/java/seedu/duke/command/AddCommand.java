@@ -11,6 +11,7 @@ import seedu.duke.ui.Ui;
 import seedu.duke.enums.TaskTypes;
 import seedu.duke.task.Deadline;
 import seedu.duke.task.Event;
+import seedu.duke.task.Recurring;
 import seedu.duke.task.Task;
 import seedu.duke.task.Todo;
 
@@ -18,11 +19,16 @@ import java.io.IOException;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Represents a command object to add task to the list.
  */
 public class AddCommand extends Command {
+    private static final Pattern RECURRING_FORMAT =
+            Pattern.compile("(?<desc>.*?) /from (?<from>\\S+) /every (?<every>\\S+)( /until (?<until>\\S+))?");
+
     private TaskTypes taskType;
     private String[] inputs;
 
@@ -106,16 +112,18 @@ public class AddCommand extends Command {
 
                 task = new Event(eventDesc, formattedEventDate);
                 break;
+            case RECURRING:
+                task = toRecurring(desc.trim());
+                break;
             default:
                 throw new InvalidCommandException();
             }
 
             taskList.addTask(task);
-            storage.addToStorage(task);
-            storage.sortStorage();
             ui.printAddToList();
-            ui.print(task.toString());
+            ui.print(Ui.withId(task));
             ui.printNumTask(taskList.getTasks());
+            taskList.applyArchivePolicy();
         } catch (DukeException e) {
             ui.print(e.toString());
         }
@@ -127,6 +135,61 @@ public class AddCommand extends Command {
         return true;
     }
 
+    /**
+     * Creates a recurring task from an input like "gym /from 2020-01-06 /every week /until 2020-12-31".
+     * The interval is a number of days, or one of day, week and fortnight.
+     *
+     * @param desc The description typed by the user.
+     * @return The recurring task.
+     * @throws DukeException If the input is keyed in a wrong format.
+     */
+    private Task toRecurring(String desc) throws DukeException {
+        Matcher matcher = RECURRING_FORMAT.matcher(desc);
+        if (!matcher.matches()) { // invalid Recurring input format
+            throw new InvalidInputFormatException();
+        }
+        String recurringDesc = matcher.group("desc").trim();
+        if (recurringDesc.isBlank()) { // if description is just white space
+            throw new EmptyDescriptionException();
+        }
+
+        String startDate = matcher.group("from");
+        String endDate = matcher.group("until");
+        if (!(startDate.length() == 10 && isValidDate(startDate))
+                || (endDate != null && !(endDate.length() == 10 && isValidDate(endDate)))) {
+            throw new InvalidDateException();
+        }
+        LocalDate formattedStartDate = LocalDate.parse(startDate);
+        LocalDate formattedEndDate = endDate == null ? null : LocalDate.parse(endDate);
+        if (formattedEndDate != null && formattedEndDate.isBefore(formattedStartDate)) {
+            throw new InvalidDateException();
+        }
+
+        return new Recurring(recurringDesc, formattedStartDate, toIntervalDays(matcher.group("every")),
+                formattedEndDate);
+    }
+
+    private int toIntervalDays(String every) throws InvalidInputFormatException {
+        switch (every) {
+        case "day":
+            return 1;
+        case "week":
+            return 7;
+        case "fortnight":
+            return 14;
+        default:
+            try {
+                int intervalDays = Integer.parseInt(every);
+                if (intervalDays < 1) {
+                    throw new InvalidInputFormatException();
+                }
+                return intervalDays;
+            } catch (NumberFormatException e) {
+                throw new InvalidInputFormatException();
+            }
+        }
+    }
+
     //@@author johannagwan-reused
     //Reused from http://www.java2s.com/Tutorial/Java/0120__Development/CheckifaStringisavaliddate.htmv
     //with minor modifications.
@@ -0,0 +1,102 @@
+package seedu.duke.command;
+
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InvalidDateException;
+import seedu.duke.exception.InvalidInputFormatException;
+import seedu.duke.stats.TaskStatistics;
+import seedu.duke.storage.Storage;
+import seedu.duke.task.TaskList;
+import seedu.duke.ui.Ui;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a command to display how many deadlines and events are open and done per day, week or month.
+ */
+public class AgendaCommand extends Command {
+    private static final int PERIODS = 7;
+    private static final String FROM_FLAG = "/from";
+
+    private String[] inputs;
+
+    /**
+     * Represents an AgendaCommand object.
+     *
+     * @param inputs The user input.
+     */
+    public AgendaCommand(String[] inputs) {
+        this.inputs = inputs;
+    }
+
+    /**
+     * Prints the number of open and done deadlines and events in each of the seven days, weeks or months from
+     * today, or from the given date.
+     *
+     * @param taskList The TaskList object.
+     * @param ui The User Interface object.
+     * @param storage The hard disk object.
+     */
+    @Override
+    public void execute(TaskList taskList, Ui ui, Storage storage) {
+        try {
+            String[] parts = inputs.length > 1 ? inputs[1].split(FROM_FLAG, 2) : new String[] {""};
+            String period = parts[0].trim();
+            LocalDate from = LocalDate.now();
+            if (parts.length > 1) {
+                String date = parts[1].trim();
+                if (date.length() != 10 || !Storage.isValidDate(date)) {
+                    throw new InvalidDateException();
+                }
+                from = LocalDate.parse(date);
+            }
+
+            TaskStatistics statistics = taskList.getStatistics();
+            List<String> lines = new ArrayList<>(PERIODS);
+            switch (period) {
+            case "day":
+                for (int i = 0; i < PERIODS; i++) {
+                    LocalDate day = from.plusDays(i);
+                    lines.add(formatPeriod(day.format(DateTimeFormatter.ofPattern("EEE, MMM d yyyy")),
+                            statistics, day, day));
+                }
+                break;
+            case "":
+            case "week":
+                LocalDate monday = from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                for (int i = 0; i < PERIODS; i++) {
+                    LocalDate start = monday.plusWeeks(i);
+                    lines.add(formatPeriod("Week of " + start.format(DateTimeFormatter.ofPattern("MMM d yyyy")),
+                            statistics, start, start.plusDays(6)));
+                }
+                break;
+            case "month":
+                LocalDate first = from.withDayOfMonth(1);
+                for (int i = 0; i < PERIODS; i++) {
+                    LocalDate start = first.plusMonths(i);
+                    lines.add(formatPeriod(start.format(DateTimeFormatter.ofPattern("MMM yyyy")),
+                            statistics, start, start.with(TemporalAdjusters.lastDayOfMonth())));
+                }
+                break;
+            default:
+                throw new InvalidInputFormatException();
+            }
+            ui.printAgenda(lines);
+        } catch (DukeException e) {
+            ui.print(e.toString());
+        }
+    }
+
+    private static String formatPeriod(String label, TaskStatistics statistics, LocalDate from, LocalDate to) {
+        return label + ": " + statistics.countOpen(from, to) + " open, " + statistics.countDone(from, to) + " done";
+    }
+
+    @Override
+    public boolean hasNextCommand() {
+        return true;
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.duke.command;
+
+import seedu.duke.storage.Storage;
+import seedu.duke.task.TaskList;
+import seedu.duke.ui.Ui;
+
+import java.io.IOException;
+
+/**
+ * Represents a command to move every done task into the archive.
+ */
+public class ArchiveCommand extends Command {
+    /**
+     * Represents an ArchiveCommand object.
+     */
+    public ArchiveCommand() {
+
+    }
+
+    /**
+     * Moves every done task from the list into the archive.
+     *
+     * @param taskList The TaskList object.
+     * @param ui The User Interface object.
+     * @param storage The hard disk object.
+     * @throws IOException If an input or output exception occurred.
+     */
+    @Override
+    public void execute(TaskList taskList, Ui ui, Storage storage) throws IOException {
+        taskList.archiveTasks();
+    }
+
+    @Override
+    public boolean hasNextCommand() {
+        return true;
+    }
+}
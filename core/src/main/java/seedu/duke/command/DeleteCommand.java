@@ -1,11 +1,11 @@
 package seedu.duke.command;
 
 import seedu.duke.exception.DukeException;
+import seedu.duke.parser.TaskSelector;
 import seedu.duke.storage.Storage;
 import seedu.duke.task.TaskList;
 import seedu.duke.ui.Ui;
 import seedu.duke.exception.EmptyDescriptionException;
-import seedu.duke.exception.InvalidInputFormatException;
 import seedu.duke.exception.TaskIndexOutOfBoundsException;
 
 import java.io.IOException;
@@ -26,7 +26,7 @@ public class DeleteCommand extends Command {
     }
 
     /**
-     * Deletes the task from the list.
+     * Deletes the selected task(s) from the list.
      *
      * @param taskList The TaskList object.
      * @param ui The User Interface object.
@@ -39,8 +39,18 @@ public class DeleteCommand extends Command {
             if (inputs.length == 1) {
                 throw new EmptyDescriptionException();
             }
+            if (TaskSelector.isId(inputs[1])) {
+                taskList.deleteTask(TaskSelector.toIndexNumber(inputs[1], taskList));
+                return;
+            }
             if (!isNumeric(inputs[1])) {
-                throw new InvalidInputFormatException();
+                int[] indexes = TaskSelector.select(inputs[1], taskList.getTasks());
+                if (indexes.length == 0) {
+                    ui.printNoFoundTask();
+                } else {
+                    taskList.deleteTasks(indexes);
+                }
+                return;
             }
             int index = Integer.parseInt(inputs[1]);
             if (index < 1 || index > taskList.getTasks().size()) {
@@ -1,7 +1,10 @@
 package seedu.duke.command;
 
 import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InvalidDateException;
+import seedu.duke.parser.TaskSelector;
 import seedu.duke.storage.Storage;
+import seedu.duke.task.Recurring;
 import seedu.duke.task.TaskList;
 import seedu.duke.ui.Ui;
 import seedu.duke.exception.EmptyDescriptionException;
@@ -9,11 +12,14 @@ import seedu.duke.exception.InvalidInputFormatException;
 import seedu.duke.exception.TaskIndexOutOfBoundsException;
 
 import java.io.IOException;
+import java.time.LocalDate;
 
 /**
  * Represents a command to mark a task as done.
  */
 public class DoneCommand extends Command {
+    private static final String ON_FLAG = " /on ";
+
     private String[] inputs;
 
     /**
@@ -26,7 +32,7 @@ public class DoneCommand extends Command {
     }
 
     /**
-     * Marks a task as done.
+     * Marks the selected task(s) as done.
      *
      * @param taskList The TaskList object.
      * @param ui The User Interface object.
@@ -40,8 +46,22 @@ public class DoneCommand extends Command {
                 throw new EmptyDescriptionException();
             }
 
+            if (inputs[1].contains(ON_FLAG)) {
+                markOccurrenceAsDone(taskList);
+                return;
+            }
+            if (TaskSelector.isId(inputs[1])) {
+                taskList.markTaskAsDone(TaskSelector.toIndexNumber(inputs[1], taskList));
+                return;
+            }
             if (!isNumeric(inputs[1])) {
-                throw new InvalidInputFormatException();
+                int[] indexes = TaskSelector.select(inputs[1], taskList.getTasks());
+                if (indexes.length == 0) {
+                    ui.printNoFoundTask();
+                } else {
+                    taskList.markTasksAsDone(indexes);
+                }
+                return;
             }
             int index = Integer.parseInt(inputs[1]);
             if (index < 1 || index > taskList.getTasks().size()) {
@@ -54,6 +74,28 @@ public class DoneCommand extends Command {
 
     }
 
+    /**
+     * Marks the occurrence of a recurring task on a given date as done, from an input like "2 /on 2020-01-06" or
+     * "#17 /on 2020-01-06".
+     *
+     * @param taskList The TaskList object.
+     * @throws DukeException If the input is keyed in a wrong format.
+     * @throws IOException If an input or output exception occurred.
+     */
+    private void markOccurrenceAsDone(TaskList taskList) throws DukeException, IOException {
+        String[] parts = inputs[1].split(ON_FLAG, 2);
+        String date = parts[1].trim();
+        int index = TaskSelector.toIndexNumber(parts[0], taskList);
+        if (!(taskList.getTasks().get(index - 1) instanceof Recurring)) {
+            throw new InvalidInputFormatException();
+        }
+        if (date.length() != 10 || !Storage.isValidDate(date)
+                || !((Recurring) taskList.getTasks().get(index - 1)).isOccurrence(LocalDate.parse(date))) {
+            throw new InvalidDateException();
+        }
+        taskList.markOccurrenceAsDone(index, LocalDate.parse(date));
+    }
+
     @Override
     public boolean hasNextCommand() {
         return true;
@@ -1,28 +1,28 @@
 package seedu.duke.command;
 
 import seedu.duke.exception.DukeException;
+import seedu.duke.exception.EmptyDescriptionException;
 import seedu.duke.storage.Storage;
 import seedu.duke.task.TaskList;
 import seedu.duke.ui.Ui;
-import seedu.duke.exception.EmptyDescriptionException;
 
 /**
- * Represents a command to find a task based on user input.
+ * Represents a command to find the tasks that match a filter over their tags, priority, type and done status.
  */
-public class FindCommand extends Command {
+public class FilterCommand extends Command {
     private String[] inputs;
 
     /**
-     * Represents a FindCommand object.
+     * Represents a FilterCommand object.
      *
      * @param inputs The user input.
      */
-    public FindCommand(String[] inputs) {
+    public FilterCommand(String[] inputs) {
         this.inputs = inputs;
     }
 
     /**
-     * Finds a task from the list.
+     * Prints the tasks that match the filter.
      *
      * @param taskList The TaskList object.
      * @param ui The User Interface object.
@@ -31,15 +31,13 @@ public class FindCommand extends Command {
     @Override
     public void execute(TaskList taskList, Ui ui, Storage storage) {
         try {
-            if (inputs.length == 1) {
+            if (inputs.length == 1 || inputs[1].isBlank()) {
                 throw new EmptyDescriptionException();
             }
-            String desc = inputs[1];
-            taskList.findTask(desc);
+            taskList.filterTasks(inputs[1]);
         } catch (DukeException e) {
             ui.print(e.toString());
         }
-
     }
 
     @Override
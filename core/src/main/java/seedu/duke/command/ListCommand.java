@@ -4,8 +4,6 @@ import seedu.duke.storage.Storage;
 import seedu.duke.task.TaskList;
 import seedu.duke.ui.Ui;
 
-import java.util.Collections;
-
 /**
  * Represents a command to display the list of tasks.
  */
@@ -30,7 +28,7 @@ public class ListCommand extends Command {
      */
     @Override
     public void execute(TaskList taskList, Ui ui, Storage storage) {
-        Collections.sort(taskList.getTasks());
+        taskList.sortTasks();
         taskList.printList();
     }
 
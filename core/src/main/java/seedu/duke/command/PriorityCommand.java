@@ -0,0 +1,57 @@
+package seedu.duke.command;
+
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.EmptyDescriptionException;
+import seedu.duke.exception.InvalidInputFormatException;
+import seedu.duke.parser.TaskSelector;
+import seedu.duke.storage.Storage;
+import seedu.duke.task.TaskList;
+import seedu.duke.ui.Ui;
+
+import java.io.IOException;
+
+/**
+ * Represents a command to set the priority of a task.
+ */
+public class PriorityCommand extends Command {
+    private String[] inputs;
+
+    /**
+     * Represents a PriorityCommand object.
+     *
+     * @param inputs The user input.
+     */
+    public PriorityCommand(String[] inputs) {
+        this.inputs = inputs;
+    }
+
+    /**
+     * Sets the priority of the task to high, medium, low or none.
+     *
+     * @param taskList The TaskList object.
+     * @param ui The User Interface object.
+     * @param storage The hard disk object.
+     * @throws IOException If an input or output exception occurred.
+     */
+    @Override
+    public void execute(TaskList taskList, Ui ui, Storage storage) throws IOException {
+        try {
+            if (inputs.length == 1) {
+                throw new EmptyDescriptionException();
+            }
+            String[] words = inputs[1].trim().split("\\s+");
+            if (words.length != 2) {
+                throw new InvalidInputFormatException();
+            }
+            int index = TaskSelector.toIndexNumber(words[0], taskList);
+            taskList.setTaskPriority(index, Storage.toPriority(words[1]));
+        } catch (DukeException e) {
+            ui.print(e.toString());
+        }
+    }
+
+    @Override
+    public boolean hasNextCommand() {
+        return true;
+    }
+}
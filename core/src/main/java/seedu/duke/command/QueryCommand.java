@@ -0,0 +1,48 @@
+package seedu.duke.command;
+
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.EmptyDescriptionException;
+import seedu.duke.parser.QueryParser;
+import seedu.duke.storage.Storage;
+import seedu.duke.task.TaskList;
+import seedu.duke.ui.Ui;
+
+/**
+ * Represents a command to find the tasks that match a query, sorted and limited as the query asks.
+ */
+public class QueryCommand extends Command {
+    private String[] inputs;
+
+    /**
+     * Represents a QueryCommand object.
+     *
+     * @param inputs The user input.
+     */
+    public QueryCommand(String[] inputs) {
+        this.inputs = inputs;
+    }
+
+    /**
+     * Prints the tasks that match the query, and how they were found if the query asks for it.
+     *
+     * @param taskList The TaskList object.
+     * @param ui The User Interface object.
+     * @param storage The hard disk object.
+     */
+    @Override
+    public void execute(TaskList taskList, Ui ui, Storage storage) {
+        try {
+            if (inputs.length == 1 || inputs[1].isBlank()) {
+                throw new EmptyDescriptionException();
+            }
+            taskList.queryTasks(QueryParser.parse(inputs[1]));
+        } catch (DukeException e) {
+            ui.print(e.toString());
+        }
+    }
+
+    @Override
+    public boolean hasNextCommand() {
+        return true;
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.duke.command;
+
+import seedu.duke.storage.Storage;
+import seedu.duke.task.TaskList;
+import seedu.duke.ui.Ui;
+
+import java.io.IOException;
+
+/**
+ * Represents a command to redo the latest undone change to the list.
+ */
+public class RedoCommand extends Command {
+    /**
+     * Represents a RedoCommand object.
+     */
+    public RedoCommand() {
+
+    }
+
+    /**
+     * Redoes the latest undone change to the list.
+     *
+     * @param taskList The TaskList object.
+     * @param ui The User Interface object.
+     * @param storage The hard disk object.
+     * @throws IOException If an input or output exception occurred.
+     */
+    @Override
+    public void execute(TaskList taskList, Ui ui, Storage storage) throws IOException {
+        taskList.redo();
+    }
+
+    @Override
+    public boolean hasNextCommand() {
+        return true;
+    }
+}
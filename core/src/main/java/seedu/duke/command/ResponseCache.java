@@ -0,0 +1,127 @@
+package seedu.duke.command;
+
+import seedu.duke.parser.Parser;
+import seedu.duke.task.TaskList;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the responses of the latest list and find commands, so that a command repeated before the list changes is
+ * answered with a hash lookup instead of sorting or scanning the list and printing every task again. Each response
+ * is kept with the modification count of the list it was printed from, so any change to the list makes every kept
+ * response stale at once without touching them. Responses are also stale the next day, as recurring tasks show
+ * their next occurrence from today. The least recently used response is dropped when the cache is full.
+ */
+public class ResponseCache {
+    private static final int MAX_RESPONSE_LENGTH = 1 << 20;
+
+    private final Map<String, CachedResponse> responses;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates a cache of responses.
+     *
+     * @param size The most responses to keep, or 0 to keep none.
+     */
+    public ResponseCache(int size) {
+        responses = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > size;
+            }
+        };
+    }
+
+    /**
+     * Creates a cache of responses of the size set by duke.responseCache.size, 32 by default.
+     *
+     * @return The cache of responses.
+     */
+    public static ResponseCache fromSystemProperties() {
+        return new ResponseCache(Integer.getInteger("duke.responseCache.size", 32));
+    }
+
+    /**
+     * Gets the key a command is cached under: its first word and, for find, the words searched for with their spaces
+     * normalized as FindCommand reads them, so that the same search typed with other spacing shares its response.
+     *
+     * @param inputs The user input, split into the first word and the rest.
+     * @param cmd The command parsed from the user input.
+     * @return The key, or null if the response of the command cannot be kept, as it changes the list.
+     */
+    public static String keyOf(String[] inputs, Command cmd) {
+        if (cmd instanceof ListCommand) {
+            return "list";
+        }
+        if (cmd instanceof FindCommand) {
+            return inputs.length > 1 ? "find " + Parser.normalizeSpaces(inputs[1]) : "find";
+        }
+        return null;
+    }
+
+    /**
+     * Gets the response kept for a command, if the list has not changed since it was printed.
+     *
+     * @param key The key of the command.
+     * @param taskList The list the command is run on.
+     * @return The response, or null if there is none or it is stale.
+     */
+    public String get(String key, TaskList taskList) {
+        CachedResponse cached = responses.get(key);
+        if (cached == null || cached.modificationCount != taskList.getModificationCount()
+                || !cached.day.equals(LocalDate.now())) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return cached.response;
+    }
+
+    /**
+     * Keeps the response of a command, unless it is too long to be worth the memory, e.g. listing a paged list.
+     *
+     * @param key The key of the command.
+     * @param taskList The list the command was run on, as it is after the command.
+     * @param response The response of the command.
+     */
+    public void put(String key, TaskList taskList, String response) {
+        if (response.length() > MAX_RESPONSE_LENGTH) {
+            responses.remove(key);
+            return;
+        }
+        responses.put(key, new CachedResponse(taskList.getModificationCount(), LocalDate.now(), response));
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Gets the share of lookups that found a response which was still up to date.
+     *
+     * @return The hit rate from 0 to 1, or 0 if nothing was looked up yet.
+     */
+    public double getHitRate() {
+        long lookups = hitCount + missCount;
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    private static class CachedResponse {
+        private final long modificationCount;
+        private final LocalDate day;
+        private final String response;
+
+        private CachedResponse(long modificationCount, LocalDate day, String response) {
+            this.modificationCount = modificationCount;
+            this.day = day;
+            this.response = response;
+        }
+    }
+}
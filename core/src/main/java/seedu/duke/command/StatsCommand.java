@@ -0,0 +1,52 @@
+package seedu.duke.command;
+
+import seedu.duke.enums.TaskTypes;
+import seedu.duke.stats.TaskStatistics;
+import seedu.duke.storage.Storage;
+import seedu.duke.task.TaskList;
+import seedu.duke.ui.Ui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a command to display how many tasks of each type are open and done.
+ */
+public class StatsCommand extends Command {
+    /**
+     * Represents a StatsCommand object.
+     */
+    public StatsCommand() {
+
+    }
+
+    /**
+     * Prints the number of open and done tasks of each type, and in total.
+     *
+     * @param taskList The TaskList object.
+     * @param ui The User Interface object.
+     * @param storage The hard disk object.
+     */
+    @Override
+    public void execute(TaskList taskList, Ui ui, Storage storage) {
+        TaskStatistics statistics = taskList.getStatistics();
+        List<String> lines = new ArrayList<>();
+        int totalOpen = 0;
+        int totalDone = 0;
+        for (TaskTypes type : TaskTypes.values()) {
+            int open = statistics.getOpenCount(type);
+            int done = statistics.getDoneCount(type);
+            lines.add(type.name().charAt(0) + type.name().substring(1).toLowerCase() + ": "
+                    + open + " open, " + done + " done");
+            totalOpen += open;
+            totalDone += done;
+        }
+        lines.add("Total: " + totalOpen + " open, " + totalDone + " done");
+        ui.printStatistics(lines);
+    }
+
+    @Override
+    public boolean hasNextCommand() {
+        return true;
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.duke.command;
+
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.EmptyDescriptionException;
+import seedu.duke.exception.InvalidInputFormatException;
+import seedu.duke.parser.TaskSelector;
+import seedu.duke.storage.Storage;
+import seedu.duke.task.TaskList;
+import seedu.duke.ui.Ui;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Represents a command to add tags to a task, or to remove them.
+ */
+public class TagCommand extends Command {
+    private String[] inputs;
+    private boolean isRemoving;
+
+    /**
+     * Represents a TagCommand object.
+     *
+     * @param inputs The user input.
+     * @param isRemoving true if the tags are to be removed instead of added.
+     */
+    public TagCommand(String[] inputs, boolean isRemoving) {
+        this.inputs = inputs;
+        this.isRemoving = isRemoving;
+    }
+
+    /**
+     * Adds the tags to the task, or removes them.
+     *
+     * @param taskList The TaskList object.
+     * @param ui The User Interface object.
+     * @param storage The hard disk object.
+     * @throws IOException If an input or output exception occurred.
+     */
+    @Override
+    public void execute(TaskList taskList, Ui ui, Storage storage) throws IOException {
+        try {
+            if (inputs.length == 1) {
+                throw new EmptyDescriptionException();
+            }
+            String[] words = inputs[1].trim().split("\\s+");
+            int index = TaskSelector.toIndexNumber(words[0], taskList);
+
+            Set<String> tags = new TreeSet<>();
+            for (int i = 1; i < words.length; i++) {
+                tags.add(toTag(words[i]));
+            }
+            if (isRemoving) {
+                taskList.untagTask(index, tags);
+            } else if (tags.isEmpty()) {
+                throw new EmptyDescriptionException();
+            } else {
+                taskList.tagTask(index, tags);
+            }
+        } catch (DukeException e) {
+            ui.print(e.toString());
+        }
+    }
+
+    /**
+     * Converts a word like "#Work" into the tag "work".
+     * Tags cannot hold the characters that separate fields and labels in the hard disk.
+     */
+    private static String toTag(String word) throws InvalidInputFormatException {
+        String tag = (word.startsWith("#") ? word.substring(1) : word).toLowerCase();
+        if (tag.isEmpty() || tag.contains("#") || tag.contains("|") || tag.startsWith("!")
+                || tag.contains("(") || tag.contains(")")) {
+            throw new InvalidInputFormatException();
+        }
+        return tag;
+    }
+
+    @Override
+    public boolean hasNextCommand() {
+        return true;
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.duke.command;
+
+import seedu.duke.storage.Storage;
+import seedu.duke.task.TaskList;
+import seedu.duke.ui.Ui;
+
+import java.io.IOException;
+
+/**
+ * Represents a command to undo the latest change to the list.
+ */
+public class UndoCommand extends Command {
+    /**
+     * Represents an UndoCommand object.
+     */
+    public UndoCommand() {
+
+    }
+
+    /**
+     * Undoes the latest change to the list.
+     *
+     * @param taskList The TaskList object.
+     * @param ui The User Interface object.
+     * @param storage The hard disk object.
+     * @throws IOException If an input or output exception occurred.
+     */
+    @Override
+    public void execute(TaskList taskList, Ui ui, Storage storage) throws IOException {
+        taskList.undo();
+    }
+
+    @Override
+    public boolean hasNextCommand() {
+        return true;
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.duke.command;
+
+import seedu.duke.exception.InvalidInputFormatException;
+import seedu.duke.storage.Storage;
+import seedu.duke.task.TaskList;
+import seedu.duke.ui.Ui;
+
+/**
+ * Represents a command to display what is due in the next few days.
+ */
+public class UpcomingCommand extends Command {
+    private static final int DEFAULT_DAYS = 7;
+
+    private String[] inputs;
+
+    /**
+     * Represents an UpcomingCommand object.
+     *
+     * @param inputs The user input.
+     */
+    public UpcomingCommand(String[] inputs) {
+        this.inputs = inputs;
+    }
+
+    /**
+     * Prints the deadlines, events and occurrences of recurring tasks due in the next few days.
+     *
+     * @param taskList The TaskList object.
+     * @param ui The User Interface object.
+     * @param storage The hard disk object.
+     */
+    @Override
+    public void execute(TaskList taskList, Ui ui, Storage storage) {
+        try {
+            int days = DEFAULT_DAYS;
+            if (inputs.length > 1 && !inputs[1].isBlank()) {
+                days = Integer.parseInt(inputs[1].trim());
+            }
+            if (days < 0) {
+                throw new InvalidInputFormatException();
+            }
+            taskList.printUpcoming(days);
+        } catch (NumberFormatException e) {
+            ui.print(new InvalidInputFormatException().toString());
+        } catch (InvalidInputFormatException e) {
+            ui.print(e.toString());
+        }
+    }
+
+    @Override
+    public boolean hasNextCommand() {
+        return true;
+    }
+}
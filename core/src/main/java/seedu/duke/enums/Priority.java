@@ -0,0 +1,8 @@
+package seedu.duke.enums;
+
+public enum Priority {
+    HIGH,
+    MEDIUM,
+    LOW,
+    NONE
+}
@@ -3,5 +3,6 @@ package seedu.duke.enums;
 public enum TaskTypes {
     DEADLINE,
     TODO,
-    EVENT
+    EVENT,
+    RECURRING
 }
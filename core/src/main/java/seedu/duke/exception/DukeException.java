@@ -0,0 +1,12 @@
+package seedu.duke.exception;
+
+/**
+ * An input that Duke cannot work with, e.g. a command typed wrongly or a line of the task file that cannot be read.
+ * These are expected and told to the user rather than debugged, so no stack trace is captured, which keeps them as
+ * cheap to throw as returning a result.
+ */
+public class DukeException extends Exception {
+    public DukeException() {
+        super(null, null, false, false);
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.duke.exception;
+
+public class InvalidCommandException extends DukeException {
+    @Override
+    public String toString() {
+        return "Apologies, I'm too dumb to understand that!\n"
+                + "Format:\n"
+                + "- To list all tasks: list\n"
+                + "- To add new deadline: deadline [description] /by [due date in yyyy-mm-dd]\n"
+                + "- To add new event: event [description] /at [date in yyyy-mm-dd]\n"
+                + "- To add new todo: todo [description]\n"
+                + "- To add new recurring task: recur [description] /from [yyyy-mm-dd] /every [days, day, week"
+                + " or fortnight] (optional: /until [yyyy-mm-dd])\n"
+                + "- To mark task as done: done [index] (or a list like 1-5,8, or [index] /on [yyyy-mm-dd] for one"
+                + " occurrence)\n"
+                + "- To delete a task: delete [index] (or a list, /done, /before [yyyy-mm-dd])\n"
+                + "- To see what is due soon: upcoming [number of days, default 7]\n"
+                + "- To count deadlines and events per period: agenda [day, week or month] (optional: /from"
+                + " [yyyy-mm-dd])\n"
+                + "- To count open and done tasks by type: stats\n"
+                + "- To find a task: find [keyword] (find ~[keyword] allows typos, find --all [keyword] searches the"
+                + " archive too)\n"
+                + "- To tag a task: tag [index] #[tag] ... (untag [index] #[tag] ... removes them, or all tags)\n"
+                + "- To set the priority of a task: priority [index] [high, medium, low or none]\n"
+                + "- To filter tasks: filter [#tag, priority, type, done or open, joined by and, or, not and"
+                + " brackets]\n"
+                + "- To query tasks: query [type:, done:, priority:, tag:, before:, after:, text:, sort: (asc or"
+                + " desc), limit:, explain]\n"
+                + "- To pick a task by its id instead of its index: #[id], e.g. done #17 or tag #17 #[tag]\n"
+                + "- To archive all done tasks: archive\n"
+                + "- To undo or redo the latest change: undo, redo\n"
+                + "- To exit: bye";
+    }
+}
@@ -0,0 +1,470 @@
+package seedu.duke.filter;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Represents a compressed set of non-negative ints, in the style of a Roaring bitmap.
+ * Values are grouped into chunks of 65536 by their high 16 bits, and only chunks holding values are kept. A chunk is
+ * a sorted array of its low 16 bits while it holds at most 4096 values, and a bitmap of 1024 words once it holds
+ * more, so memory use and the cost of AND, OR and ANDNOT follow how many values there are, not how large they are.
+ */
+public class CompressedBitmap {
+    private static final int SPARSE_LIMIT = 4096;
+    private static final int DENSE_WORDS = 1024;
+
+    private int[] keys = new int[0];
+    private Chunk[] chunks = new Chunk[0];
+    private int size;
+
+    /**
+     * Adds a value to the set.
+     *
+     * @param value The value, which must not be negative.
+     */
+    public void add(int value) {
+        assert value >= 0 : value;
+        int index = Arrays.binarySearch(keys, 0, size, value >>> 16);
+        if (index >= 0) {
+            chunks[index] = chunks[index].add((char) value);
+        } else {
+            insert(-index - 1, value >>> 16, new SparseChunk().add((char) value));
+        }
+    }
+
+    /**
+     * Removes a value from the set, if it is in it.
+     *
+     * @param value The value to be removed.
+     */
+    public void remove(int value) {
+        int index = Arrays.binarySearch(keys, 0, size, value >>> 16);
+        if (index < 0) {
+            return;
+        }
+        chunks[index] = chunks[index].remove((char) value);
+        if (chunks[index].cardinality() == 0) {
+            System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+            System.arraycopy(chunks, index + 1, chunks, index, size - index - 1);
+            size--;
+            chunks[size] = null;
+        }
+    }
+
+    /**
+     * Checks if a value is in the set.
+     *
+     * @param value The value to be checked.
+     * @return true if the value is in the set.
+     */
+    public boolean contains(int value) {
+        int index = Arrays.binarySearch(keys, 0, size, value >>> 16);
+        return index >= 0 && chunks[index].contains((char) value);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Counts the values in the set.
+     *
+     * @return The number of values.
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += chunks[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * Gives every value in the set to an action, in ascending order.
+     *
+     * @param action The action to be given the values.
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            chunks[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * Finds the values in both sets. Chunks that only one set has are skipped without being looked at.
+     *
+     * @param other The other set.
+     * @return A new set of the values in both sets.
+     */
+    public CompressedBitmap and(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.appendIfNotEmpty(keys[i], chunks[i].and(other.chunks[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the values in either set.
+     *
+     * @param other The other set.
+     * @return A new set of the values in either set.
+     */
+    public CompressedBitmap or(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                result.appendIfNotEmpty(keys[i], chunks[i].copy());
+                i++;
+            } else if (i == size || keys[i] > other.keys[j]) {
+                result.appendIfNotEmpty(other.keys[j], other.chunks[j].copy());
+                j++;
+            } else {
+                result.appendIfNotEmpty(keys[i], chunks[i].or(other.chunks[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the values in this set that are not in the other set.
+     *
+     * @param other The other set.
+     * @return A new set of the values only in this set.
+     */
+    public CompressedBitmap andNot(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.size && other.keys[j] == keys[i]) {
+                result.appendIfNotEmpty(keys[i], chunks[i].andNot(other.chunks[j]));
+            } else {
+                result.appendIfNotEmpty(keys[i], chunks[i].copy());
+            }
+        }
+        return result;
+    }
+
+    private void insert(int index, int key, Chunk chunk) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, Math.max(4, size * 2));
+            chunks = Arrays.copyOf(chunks, keys.length);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(chunks, index, chunks, index + 1, size - index);
+        keys[index] = key;
+        chunks[index] = chunk;
+        size++;
+    }
+
+    private void appendIfNotEmpty(int key, Chunk chunk) {
+        if (chunk.cardinality() > 0) {
+            insert(size, key, chunk);
+        }
+    }
+
+    /**
+     * Represents the values of one chunk, by their low 16 bits.
+     * Changing a chunk can turn it into the other kind, so the chunk returned must be used in its place.
+     */
+    private abstract static class Chunk {
+        abstract int cardinality();
+
+        abstract boolean contains(char value);
+
+        abstract Chunk add(char value);
+
+        abstract Chunk remove(char value);
+
+        abstract Chunk and(Chunk other);
+
+        abstract Chunk or(Chunk other);
+
+        abstract Chunk andNot(Chunk other);
+
+        abstract Chunk copy();
+
+        abstract void forEach(int high, IntConsumer action);
+    }
+
+    /**
+     * Represents a chunk with few values, kept as a sorted array.
+     */
+    private static class SparseChunk extends Chunk {
+        private char[] values;
+        private int cardinality;
+
+        private SparseChunk() {
+            this(new char[4], 0);
+        }
+
+        private SparseChunk(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        Chunk add(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == SPARSE_LIMIT) {
+                return toDense().add(value);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(SPARSE_LIMIT, Math.max(4, cardinality * 2)));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Chunk remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        Chunk and(Chunk other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            if (other instanceof SparseChunk) {
+                SparseChunk sparse = (SparseChunk) other;
+                int j = 0;
+                for (int i = 0; i < cardinality && j < sparse.cardinality; ) {
+                    if (values[i] < sparse.values[j]) {
+                        i++;
+                    } else if (values[i] > sparse.values[j]) {
+                        j++;
+                    } else {
+                        result[count++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        result[count++] = values[i];
+                    }
+                }
+            }
+            return new SparseChunk(result, count);
+        }
+
+        @Override
+        Chunk or(Chunk other) {
+            if (other instanceof DenseChunk || cardinality + other.cardinality() > SPARSE_LIMIT) {
+                Chunk result = other.copy();
+                for (int i = 0; i < cardinality; i++) {
+                    result = result.add(values[i]);
+                }
+                return result;
+            }
+            SparseChunk sparse = (SparseChunk) other;
+            char[] result = new char[cardinality + sparse.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < sparse.cardinality) {
+                if (j == sparse.cardinality || (i < cardinality && values[i] < sparse.values[j])) {
+                    result[count++] = values[i++];
+                } else if (i == cardinality || values[i] > sparse.values[j]) {
+                    result[count++] = sparse.values[j++];
+                } else {
+                    result[count++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new SparseChunk(result, count);
+        }
+
+        @Override
+        Chunk andNot(Chunk other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (!other.contains(values[i])) {
+                    result[count++] = values[i];
+                }
+            }
+            return new SparseChunk(result, count);
+        }
+
+        @Override
+        Chunk copy() {
+            return new SparseChunk(Arrays.copyOf(values, Math.max(cardinality, 1)), cardinality);
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(high | values[i]);
+            }
+        }
+
+        private DenseChunk toDense() {
+            DenseChunk dense = new DenseChunk(new long[DENSE_WORDS]);
+            for (int i = 0; i < cardinality; i++) {
+                dense.add(values[i]);
+            }
+            return dense;
+        }
+    }
+
+    /**
+     * Represents a chunk with many values, kept as a bitmap with one bit for each possible value.
+     */
+    private static class DenseChunk extends Chunk {
+        private final long[] words;
+        private int cardinality;
+
+        private DenseChunk(long[] words) {
+            this.words = words;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        Chunk add(char value) {
+            if (!contains(value)) {
+                words[value >>> 6] |= 1L << value;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Chunk remove(char value) {
+            if (contains(value)) {
+                words[value >>> 6] &= ~(1L << value);
+                cardinality--;
+            }
+            return cardinality <= SPARSE_LIMIT ? toSparse() : this;
+        }
+
+        @Override
+        Chunk and(Chunk other) {
+            if (other instanceof SparseChunk) {
+                return other.and(this);
+            }
+            long[] otherWords = ((DenseChunk) other).words;
+            long[] result = new long[DENSE_WORDS];
+            for (int i = 0; i < DENSE_WORDS; i++) {
+                result[i] = words[i] & otherWords[i];
+            }
+            return new DenseChunk(result).compact();
+        }
+
+        @Override
+        Chunk or(Chunk other) {
+            if (other instanceof SparseChunk) {
+                return other.or(this);
+            }
+            long[] otherWords = ((DenseChunk) other).words;
+            long[] result = new long[DENSE_WORDS];
+            for (int i = 0; i < DENSE_WORDS; i++) {
+                result[i] = words[i] | otherWords[i];
+            }
+            return new DenseChunk(result);
+        }
+
+        @Override
+        Chunk andNot(Chunk other) {
+            Chunk result = copy();
+            if (other instanceof SparseChunk) {
+                SparseChunk sparse = (SparseChunk) other;
+                for (int i = 0; i < sparse.cardinality; i++) {
+                    result = result.remove(sparse.values[i]);
+                }
+                return result;
+            }
+            long[] otherWords = ((DenseChunk) other).words;
+            long[] resultWords = ((DenseChunk) result).words;
+            for (int i = 0; i < DENSE_WORDS; i++) {
+                resultWords[i] &= ~otherWords[i];
+            }
+            return new DenseChunk(resultWords).compact();
+        }
+
+        @Override
+        Chunk copy() {
+            return new DenseChunk(words.clone());
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < DENSE_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        private Chunk compact() {
+            return cardinality <= SPARSE_LIMIT ? toSparse() : this;
+        }
+
+        private SparseChunk toSparse() {
+            char[] values = new char[Math.max(cardinality, 1)];
+            int count = 0;
+            for (int i = 0; i < DENSE_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[count++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new SparseChunk(values, count);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package seedu.duke.filter;
+
+import seedu.duke.enums.Priority;
+import seedu.duke.enums.TaskTypes;
+import seedu.duke.exception.InvalidInputFormatException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Represents a filter over the tags, priority, type and done status of tasks, e.g. "#work high -done" or
+ * "(deadline or event) and not #home".
+ * Terms next to each other must all match, "or" joins alternatives, and "not" or a leading "-" leaves out the tasks
+ * that match a term. A filter is answered from a TaskBitmapIndex by combining bitmaps: the terms of an "and" are
+ * intersected smallest first, and the terms it leaves out are then taken away with one ANDNOT each.
+ */
+public class FilterQuery {
+    private final Node root;
+
+    private FilterQuery(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Reads a filter.
+     * Terms are #[tag], high, medium, low, none, todo, deadline, event, recurring, done and open.
+     *
+     * @param query The filter given by the user.
+     * @return The filter.
+     * @throws InvalidInputFormatException If the filter has an unknown term or unmatched brackets.
+     */
+    public static FilterQuery parse(String query) throws InvalidInputFormatException {
+        List<String> tokens = new ArrayList<>();
+        for (String word : query.replace("(", " ( ").replace(")", " ) ").trim().split("\\s+")) {
+            if (word.length() > 1 && word.startsWith("-")) {
+                tokens.add("-");
+                tokens.add(word.substring(1).toLowerCase());
+            } else if (!word.isEmpty()) {
+                tokens.add(word.toLowerCase());
+            }
+        }
+        Parser parser = new Parser(tokens);
+        Node root = parser.parseOr();
+        if (parser.position != tokens.size()) {
+            throw new InvalidInputFormatException();
+        }
+        return new FilterQuery(root);
+    }
+
+    /**
+     * Finds the tasks in an index that match the filter.
+     *
+     * @param index The index of the tasks.
+     * @return The bitmap of the matching tasks.
+     */
+    public CompressedBitmap evaluate(TaskBitmapIndex index) {
+        return root.evaluate(index);
+    }
+
+    private interface Node {
+        CompressedBitmap evaluate(TaskBitmapIndex index);
+    }
+
+    /**
+     * Reads tokens by recursive descent, with "or" binding more loosely than "and", and "and" more loosely than "not".
+     */
+    private static class Parser {
+        private final List<String> tokens;
+        private int position;
+
+        private Parser(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        private String peek() {
+            return position < tokens.size() ? tokens.get(position) : null;
+        }
+
+        private Node parseOr() throws InvalidInputFormatException {
+            List<Node> alternatives = new ArrayList<>();
+            alternatives.add(parseAnd());
+            while ("or".equals(peek())) {
+                position++;
+                alternatives.add(parseAnd());
+            }
+            if (alternatives.size() == 1) {
+                return alternatives.get(0);
+            }
+            return index -> {
+                CompressedBitmap result = new CompressedBitmap();
+                for (Node alternative : alternatives) {
+                    result = result.or(alternative.evaluate(index));
+                }
+                return result;
+            };
+        }
+
+        private Node parseAnd() throws InvalidInputFormatException {
+            List<Node> included = new ArrayList<>();
+            List<Node> excluded = new ArrayList<>();
+            do {
+                if ("and".equals(peek())) {
+                    position++;
+                }
+                if ("not".equals(peek()) || "-".equals(peek())) {
+                    position++;
+                    excluded.add(parseTerm());
+                } else {
+                    included.add(parseTerm());
+                }
+            } while (peek() != null && !"or".equals(peek()) && !")".equals(peek()));
+            return index -> {
+                List<CompressedBitmap> bitmaps = new ArrayList<>();
+                for (Node node : included) {
+                    bitmaps.add(node.evaluate(index));
+                }
+                bitmaps.sort(Comparator.comparingInt(CompressedBitmap::cardinality));
+                CompressedBitmap result = bitmaps.isEmpty() ? index.getAll() : bitmaps.get(0);
+                for (int i = 1; i < bitmaps.size() && !result.isEmpty(); i++) {
+                    result = result.and(bitmaps.get(i));
+                }
+                for (Node node : excluded) {
+                    result = result.andNot(node.evaluate(index));
+                }
+                return result;
+            };
+        }
+
+        private Node parseTerm() throws InvalidInputFormatException {
+            String token = peek();
+            if (token == null) {
+                throw new InvalidInputFormatException();
+            }
+            position++;
+            if (token.equals("not") || token.equals("-")) {
+                Node term = parseTerm();
+                return index -> index.getAll().andNot(term.evaluate(index));
+            }
+            if (token.equals("(")) {
+                Node inner = parseOr();
+                if (!")".equals(peek())) {
+                    throw new InvalidInputFormatException();
+                }
+                position++;
+                return inner;
+            }
+            if (token.startsWith("#") && token.length() > 1) {
+                String tag = token.substring(1);
+                return index -> index.getTag(tag);
+            }
+            return toTerm(token);
+        }
+
+        private static Node toTerm(String token) throws InvalidInputFormatException {
+            switch (token) {
+            case "done":
+                return index -> index.getDone(true);
+            case "open":
+                return index -> index.getDone(false);
+            case "todo":
+            case "todos":
+                return index -> index.getType(TaskTypes.TODO);
+            case "deadline":
+            case "deadlines":
+                return index -> index.getType(TaskTypes.DEADLINE);
+            case "event":
+            case "events":
+                return index -> index.getType(TaskTypes.EVENT);
+            case "recurring":
+                return index -> index.getType(TaskTypes.RECURRING);
+            default:
+                break;
+            }
+            String name = token.startsWith("!") ? token.substring(1) : token;
+            for (Priority priority : Priority.values()) {
+                if (priority.name().equalsIgnoreCase(name)) {
+                    return index -> index.getPriority(priority);
+                }
+            }
+            throw new InvalidInputFormatException();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package seedu.duke.filter;
+
+import seedu.duke.enums.Priority;
+import seedu.duke.enums.TaskTypes;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskListObserver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Keeps a compressed bitmap of the tasks with each type, priority, done status and tag, so that filters can be
+ * answered by combining bitmaps instead of checking every task.
+ * Each task is given a small number of its own, which stays the same while the list is sorted or changed around it,
+ * and numbers freed by removed tasks are given out again lowest first to keep the bitmaps dense.
+ */
+public class TaskBitmapIndex implements TaskListObserver {
+    private final Map<Task, Integer> ordinals = new IdentityHashMap<>();
+    private final List<Task> tasksByOrdinal = new ArrayList<>();
+    private final List<Entry> entriesByOrdinal = new ArrayList<>();
+    private final PriorityQueue<Integer> freeOrdinals = new PriorityQueue<>();
+    private final CompressedBitmap all = new CompressedBitmap();
+    private final CompressedBitmap done = new CompressedBitmap();
+    private final CompressedBitmap open = new CompressedBitmap();
+    private final CompressedBitmap[] byType = newBitmaps(TaskTypes.values().length);
+    private final CompressedBitmap[] byPriority = newBitmaps(Priority.values().length);
+    private final Map<String, CompressedBitmap> byTag = new HashMap<>();
+
+    /**
+     * Constructor for TaskBitmapIndex.
+     *
+     * @param tasks The tasks to be indexed.
+     */
+    public TaskBitmapIndex(List<Task> tasks) {
+        for (Task task : tasks) {
+            taskAdded(0, task);
+        }
+    }
+
+    private static CompressedBitmap[] newBitmaps(int count) {
+        CompressedBitmap[] bitmaps = new CompressedBitmap[count];
+        for (int i = 0; i < count; i++) {
+            bitmaps[i] = new CompressedBitmap();
+        }
+        return bitmaps;
+    }
+
+    @Override
+    public void taskAdded(int index, Task task) {
+        int ordinal;
+        if (freeOrdinals.isEmpty()) {
+            ordinal = tasksByOrdinal.size();
+            tasksByOrdinal.add(task);
+            entriesByOrdinal.add(null);
+        } else {
+            ordinal = freeOrdinals.poll();
+            tasksByOrdinal.set(ordinal, task);
+        }
+        ordinals.put(task, ordinal);
+        index(ordinal, task);
+    }
+
+    @Override
+    public void taskStatusChanged(int index, Task task) {
+        Integer ordinal = ordinals.get(task);
+        if (ordinal == null) {
+            taskAdded(index, task);
+            return;
+        }
+        unindex(ordinal);
+        index(ordinal, task);
+    }
+
+    @Override
+    public void taskRemoved(int index, Task task) {
+        Integer ordinal = ordinals.remove(task);
+        if (ordinal == null) {
+            return;
+        }
+        unindex(ordinal);
+        tasksByOrdinal.set(ordinal, null);
+        freeOrdinals.add(ordinal);
+    }
+
+    /**
+     * Adds a task to the bitmaps it belongs in, and remembers them so that it can be taken out again after it has
+     * changed.
+     */
+    private void index(int ordinal, Task task) {
+        Entry entry = new Entry(task.getType(), task.isDone(), task.getPriority(), Set.copyOf(task.getTags()));
+        entriesByOrdinal.set(ordinal, entry);
+        all.add(ordinal);
+        (entry.isDone ? done : open).add(ordinal);
+        byType[entry.type.ordinal()].add(ordinal);
+        byPriority[entry.priority.ordinal()].add(ordinal);
+        for (String tag : entry.tags) {
+            byTag.computeIfAbsent(tag, key -> new CompressedBitmap()).add(ordinal);
+        }
+    }
+
+    private void unindex(int ordinal) {
+        Entry entry = entriesByOrdinal.get(ordinal);
+        entriesByOrdinal.set(ordinal, null);
+        all.remove(ordinal);
+        (entry.isDone ? done : open).remove(ordinal);
+        byType[entry.type.ordinal()].remove(ordinal);
+        byPriority[entry.priority.ordinal()].remove(ordinal);
+        for (String tag : entry.tags) {
+            CompressedBitmap tagged = byTag.get(tag);
+            tagged.remove(ordinal);
+            if (tagged.isEmpty()) {
+                byTag.remove(tag);
+            }
+        }
+    }
+
+    public CompressedBitmap getAll() {
+        return all;
+    }
+
+    public CompressedBitmap getDone(boolean isDone) {
+        return isDone ? done : open;
+    }
+
+    public CompressedBitmap getType(TaskTypes type) {
+        return byType[type.ordinal()];
+    }
+
+    public CompressedBitmap getPriority(Priority priority) {
+        return byPriority[priority.ordinal()];
+    }
+
+    /**
+     * Gets the bitmap of the tasks with a tag.
+     *
+     * @param tag The tag, in lower case and without the leading '#'.
+     * @return The bitmap, which is empty if no task has the tag.
+     */
+    public CompressedBitmap getTag(String tag) {
+        return byTag.getOrDefault(tag, new CompressedBitmap());
+    }
+
+    /**
+     * Gets the tasks in a bitmap given by this index.
+     *
+     * @param bitmap The bitmap of the tasks.
+     * @return The tasks, in no particular order.
+     */
+    public List<Task> toTasks(CompressedBitmap bitmap) {
+        List<Task> found = new ArrayList<>(bitmap.cardinality());
+        bitmap.forEach(ordinal -> found.add(tasksByOrdinal.get(ordinal)));
+        return found;
+    }
+
+    /**
+     * Represents the bitmaps a task was last added to.
+     */
+    private static class Entry {
+        private final TaskTypes type;
+        private final boolean isDone;
+        private final Priority priority;
+        private final Set<String> tags;
+
+        private Entry(TaskTypes type, boolean isDone, Priority priority, Set<String> tags) {
+            this.type = type;
+            this.isDone = isDone;
+            this.priority = priority;
+            this.tags = tags;
+        }
+    }
+}
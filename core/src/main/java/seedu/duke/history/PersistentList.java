@@ -0,0 +1,255 @@
+package seedu.duke.history;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Represents an immutable list that shares structure between versions.
+ * The elements are kept in a size-balanced AVL tree, so every update copies only the O(log n) nodes on the path
+ * to the changed position and leaves every earlier version untouched.
+ *
+ * @param <E> The type of the elements.
+ */
+public final class PersistentList<E> implements Iterable<E> {
+    private static final PersistentList<Object> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Builds a balanced persistent list holding the given elements in order.
+     *
+     * @param elements The elements of the new list.
+     * @return A persistent list with the same elements.
+     */
+    public static <E> PersistentList<E> of(List<E> elements) {
+        return new PersistentList<>(build(elements, 0, elements.size()));
+    }
+
+    public int size() {
+        return Node.size(root);
+    }
+
+    /**
+     * Gets the element at the given position.
+     *
+     * @param index The zero-based position of the element.
+     * @return The element at that position.
+     */
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = Node.size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a new version of the list with the element at the given position replaced.
+     *
+     * @param index The zero-based position to replace.
+     * @param value The new element.
+     * @return The new version of the list.
+     */
+    public PersistentList<E> set(int index, E value) {
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, value));
+    }
+
+    private static <E> Node<E> set(Node<E> node, int index, E value) {
+        int leftSize = Node.size(node.left);
+        if (index < leftSize) {
+            return Node.of(set(node.left, index, value), node.value, node.right);
+        } else if (index == leftSize) {
+            return Node.of(node.left, value, node.right);
+        } else {
+            return Node.of(node.left, node.value, set(node.right, index - leftSize - 1, value));
+        }
+    }
+
+    /**
+     * Returns a new version of the list with an element inserted at the given position.
+     *
+     * @param index The zero-based position of the new element, from 0 to size() inclusive.
+     * @param value The element to insert.
+     * @return The new version of the list.
+     */
+    public PersistentList<E> insert(int index, E value) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, value));
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E value) {
+        if (node == null) {
+            return Node.of(null, value, null);
+        }
+        int leftSize = Node.size(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, value), node.value, node.right);
+        } else {
+            return balance(node.left, node.value, insert(node.right, index - leftSize - 1, value));
+        }
+    }
+
+    /**
+     * Returns a new version of the list without the element at the given position.
+     *
+     * @param index The zero-based position of the element to remove.
+     * @return The new version of the list.
+     */
+    public PersistentList<E> remove(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = Node.size(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.value, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.value, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<E> first = node.right;
+            while (first.left != null) {
+                first = first.left;
+            }
+            return balance(node.left, first.value, remove(node.right, 0));
+        }
+    }
+
+    /**
+     * Copies the elements into a new mutable list.
+     *
+     * @return A mutable list with the elements in order.
+     */
+    public List<E> toList() {
+        List<E> elements = new ArrayList<>(size());
+        for (E element : this) {
+            elements.add(element);
+        }
+        return elements;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<E>> path = new ArrayDeque<>();
+
+            {
+                pushLeft(root);
+            }
+
+            private void pushLeft(Node<E> node) {
+                while (node != null) {
+                    path.push(node);
+                    node = node.left;
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = path.pop();
+                pushLeft(node.right);
+                return node.value;
+            }
+        };
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    private static <E> Node<E> build(List<E> elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return Node.of(build(elements, from, mid), elements.get(mid), build(elements, mid + 1, to));
+    }
+
+    /**
+     * Joins two subtrees whose heights differ by at most two, rotating once or twice to restore the AVL invariant.
+     */
+    private static <E> Node<E> balance(Node<E> left, E value, Node<E> right) {
+        int leftHeight = Node.height(left);
+        int rightHeight = Node.height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (Node.height(left.left) >= Node.height(left.right)) {
+                return Node.of(left.left, left.value, Node.of(left.right, value, right));
+            }
+            Node<E> pivot = left.right;
+            return Node.of(Node.of(left.left, left.value, pivot.left), pivot.value,
+                    Node.of(pivot.right, value, right));
+        } else if (rightHeight > leftHeight + 1) {
+            if (Node.height(right.right) >= Node.height(right.left)) {
+                return Node.of(Node.of(left, value, right.left), right.value, right.right);
+            }
+            Node<E> pivot = right.left;
+            return Node.of(Node.of(left, value, pivot.left), pivot.value,
+                    Node.of(pivot.right, right.value, right.right));
+        }
+        return Node.of(left, value, right);
+    }
+
+    private static final class Node<E> {
+        private final Node<E> left;
+        private final E value;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        private Node(Node<E> left, E value, Node<E> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            size = size(left) + size(right) + 1;
+            height = Math.max(height(left), height(right)) + 1;
+        }
+
+        private static <E> Node<E> of(Node<E> left, E value, Node<E> right) {
+            return new Node<>(left, value, right);
+        }
+
+        private static int size(Node<?> node) {
+            return node == null ? 0 : node.size;
+        }
+
+        private static int height(Node<?> node) {
+            return node == null ? 0 : node.height;
+        }
+    }
+}
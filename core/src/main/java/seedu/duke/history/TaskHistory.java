@@ -0,0 +1,269 @@
+package seedu.duke.history;
+
+import seedu.duke.enums.Priority;
+import seedu.duke.task.Recurring;
+import seedu.duke.task.Task;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the earlier versions of the task list so that changes can be undone and redone.
+ * Each version is a PersistentList, so recording a change costs O(log n) and keeping a version costs O(1).
+ */
+public class TaskHistory {
+    private static final int MAX_STEPS = 500;
+
+    /** The current version, or null if the history records nothing. */
+    private PersistentList<Entry> current;
+    private Deque<Step> undoSteps = new ArrayDeque<>();
+    private Deque<Step> redoSteps = new ArrayDeque<>();
+
+    /**
+     * Creates a history whose current version holds the given tasks.
+     *
+     * @param tasks The tasks in the list when the history starts.
+     */
+    public TaskHistory(List<Task> tasks) {
+        current = PersistentList.of(toEntries(tasks));
+    }
+
+    private TaskHistory() {
+
+    }
+
+    /**
+     * Creates a history that records nothing, for a list that is not kept in memory, e.g. a paged list, whose
+     * versions would have to be.
+     *
+     * @return The history, which never has a change to undo or redo.
+     */
+    public static TaskHistory disabled() {
+        return new TaskHistory();
+    }
+
+    /**
+     * Records that a task has been added to the list.
+     *
+     * @param index The zero-based position of the new task.
+     * @param task The task that was added.
+     */
+    public void recordAdd(int index, Task task) {
+        if (current == null) {
+            return;
+        }
+        record(current.insert(index, new Entry(task)), List.of(task));
+    }
+
+    /**
+     * Records that a task has been marked as done.
+     *
+     * @param index The zero-based position of the task.
+     * @param task The task that was marked as done.
+     */
+    public void recordDone(int index, Task task) {
+        if (current == null) {
+            return;
+        }
+        record(current.set(index, new Entry(task)), List.of(task));
+    }
+
+    /**
+     * Records that the priority or tags of a task have been changed.
+     *
+     * @param index The zero-based position of the task.
+     * @param task The task that was changed.
+     */
+    public void recordChange(int index, Task task) {
+        if (current == null) {
+            return;
+        }
+        record(current.set(index, new Entry(task)), List.of(task));
+    }
+
+    /**
+     * Records that several tasks have been marked as done in one step.
+     *
+     * @param indexes The zero-based positions of the tasks.
+     * @param doneTasks The tasks that were marked as done, in the same order as the positions.
+     */
+    public void recordAllDone(int[] indexes, List<Task> doneTasks) {
+        if (current == null) {
+            return;
+        }
+        PersistentList<Entry> next = current;
+        for (int i = 0; i < indexes.length; i++) {
+            next = next.set(indexes[i], new Entry(doneTasks.get(i)));
+        }
+        record(next, doneTasks);
+    }
+
+    /**
+     * Records that a task has been deleted from the list.
+     *
+     * @param index The zero-based position the task was deleted from.
+     * @param task The task that was deleted.
+     */
+    public void recordDelete(int index, Task task) {
+        if (current == null) {
+            return;
+        }
+        record(current.remove(index), List.of(task));
+    }
+
+    /**
+     * Records that several tasks have been deleted in one step.
+     *
+     * @param indexes The zero-based positions the tasks were deleted from, in ascending order.
+     * @param deletedTasks The tasks that were deleted.
+     */
+    public void recordAllDeleted(int[] indexes, List<Task> deletedTasks) {
+        if (current == null) {
+            return;
+        }
+        PersistentList<Entry> next = current;
+        for (int i = indexes.length - 1; i >= 0; i--) {
+            next = next.remove(indexes[i]);
+        }
+        record(next, deletedTasks);
+    }
+
+    /**
+     * Brings the current version in line with the order of the given tasks after the list has been resorted.
+     * This rebuilds the current version, so it should only be called when tasks have actually moved; every other
+     * change is recorded one step at a time.
+     *
+     * @param tasks The tasks in the list.
+     */
+    public void sync(List<Task> tasks) {
+        if (current == null) {
+            return;
+        }
+        current = PersistentList.of(toEntries(tasks));
+    }
+
+    /**
+     * Forgets every recorded change and starts again from the given tasks, e.g. after tasks have been archived.
+     *
+     * @param tasks The tasks in the list.
+     */
+    public void reset(List<Task> tasks) {
+        if (current == null) {
+            return;
+        }
+        undoSteps.clear();
+        redoSteps.clear();
+        current = PersistentList.of(toEntries(tasks));
+    }
+
+    public boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Steps back to the version before the latest change.
+     *
+     * @return The step that was undone.
+     */
+    public Step undo() {
+        Step step = undoSteps.pop();
+        redoSteps.push(step);
+        current = step.before;
+        return step;
+    }
+
+    /**
+     * Steps forward to the version after the latest undone change.
+     *
+     * @return The step that was redone.
+     */
+    public Step redo() {
+        Step step = redoSteps.pop();
+        undoSteps.push(step);
+        current = step.after;
+        return step;
+    }
+
+    /**
+     * Restores the done status of every task in the current version and lists them in order.
+     *
+     * @return The tasks of the current version.
+     */
+    public List<Task> restore() {
+        List<Task> tasks = new ArrayList<>(current.size());
+        for (Entry entry : current) {
+            entry.task.setDone(entry.isDone);
+            entry.task.setTags(entry.tags);
+            entry.task.setPriority(entry.priority);
+            if (entry.task instanceof Recurring) {
+                ((Recurring) entry.task).setDoneOccurrences(entry.doneOccurrences);
+            }
+            tasks.add(entry.task);
+        }
+        return tasks;
+    }
+
+    private void record(PersistentList<Entry> next, List<Task> changedTasks) {
+        undoSteps.push(new Step(current, next, changedTasks));
+        if (undoSteps.size() > MAX_STEPS) {
+            undoSteps.removeLast();
+        }
+        redoSteps.clear();
+        current = next;
+    }
+
+    private static List<Entry> toEntries(List<Task> tasks) {
+        List<Entry> entries = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            entries.add(new Entry(task));
+        }
+        return entries;
+    }
+
+    /**
+     * Represents one change to one or more tasks, together with the versions of the list before and after it.
+     */
+    public static class Step {
+        private final PersistentList<Entry> before;
+        private final PersistentList<Entry> after;
+        private final List<Task> tasks;
+
+        private Step(PersistentList<Entry> before, PersistentList<Entry> after, List<Task> tasks) {
+            this.before = before;
+            this.after = after;
+            this.tasks = tasks;
+        }
+
+        public List<Task> getTasks() {
+            return tasks;
+        }
+    }
+
+    /**
+     * Represents a task together with its done status, priority, tags, and the occurrences done for a recurring
+     * task, at the time the version was recorded.
+     */
+    private static class Entry {
+        private final Task task;
+        private final boolean isDone;
+        private final Set<String> tags;
+        private final Priority priority;
+        private final Set<Long> doneOccurrences;
+
+        private Entry(Task task) {
+            this.task = task;
+            this.isDone = task.isDone();
+            this.tags = task.getTags().isEmpty() ? Set.of() : Set.copyOf(task.getTags());
+            this.priority = task.getPriority();
+            this.doneOccurrences = task instanceof Recurring
+                    ? Set.copyOf(((Recurring) task).getDoneOccurrences()) : null;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.duke.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Represents the results of replaying a trace: throughput, latency percentiles overall and per command, the bytes
+ * allocated and the size of the task file afterwards.
+ */
+public class LoadReport {
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final String[] commandWords;
+    private final long[] latencyNanos;
+    private final int commandCount;
+    private final long elapsedNanos;
+    private final long allocatedBytes;
+    private final int taskCount;
+    private final long fileBytes;
+
+    /**
+     * Constructor for LoadReport.
+     *
+     * @param commandWords The first word of each command replayed.
+     * @param latencyNanos The time each command took, in the same order.
+     * @param commandCount The number of commands replayed.
+     * @param elapsedNanos The time the whole replay took.
+     * @param allocatedBytes The bytes allocated during the replay, or -1 if the JVM cannot tell.
+     * @param taskCount The number of tasks in the list afterwards.
+     * @param fileBytes The size of the task file afterwards.
+     */
+    public LoadReport(String[] commandWords, long[] latencyNanos, int commandCount, long elapsedNanos,
+            long allocatedBytes, int taskCount, long fileBytes) {
+        this.commandWords = commandWords;
+        this.latencyNanos = latencyNanos;
+        this.commandCount = commandCount;
+        this.elapsedNanos = elapsedNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.taskCount = taskCount;
+        this.fileBytes = fileBytes;
+    }
+
+    public double getCommandsPerSecond() {
+        return commandCount / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * Gets the latency that the given share of commands took no longer than, by the nearest rank.
+     *
+     * @param percentile The share of commands, from 0 to 1.
+     * @return The latency, in nanoseconds.
+     */
+    public long getLatencyNanos(double percentile) {
+        long[] sorted = Arrays.copyOf(latencyNanos, commandCount);
+        Arrays.sort(sorted);
+        return percentileOf(sorted, percentile);
+    }
+
+    private static long percentileOf(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.min(sorted.length, Math.max(rank, 1)) - 1];
+    }
+
+    /**
+     * Formats the report for printing.
+     *
+     * @return The lines of the report.
+     */
+    public List<String> toLines() {
+        List<String> lines = new ArrayList<>();
+        double seconds = elapsedNanos / 1e9;
+        lines.add(String.format("Replayed %d commands in %.2f s: %.0f commands/s", commandCount, seconds,
+                getCommandsPerSecond()));
+        long[] sorted = Arrays.copyOf(latencyNanos, commandCount);
+        Arrays.sort(sorted);
+        lines.add("Latency: " + formatPercentiles(sorted));
+        if (allocatedBytes < 0) {
+            lines.add("Allocated: n/a (the JVM does not count allocations)");
+        } else {
+            lines.add(String.format("Allocated: %d MB, %.0f MB/s", allocatedBytes >> 20,
+                    (allocatedBytes >> 20) / seconds));
+        }
+        lines.add(String.format("Task file: %d tasks, %d KB", taskCount, fileBytes >> 10));
+
+        Map<String, List<Long>> latenciesByWord = new TreeMap<>();
+        for (int i = 0; i < commandCount; i++) {
+            latenciesByWord.computeIfAbsent(commandWords[i], word -> new ArrayList<>()).add(latencyNanos[i]);
+        }
+        lines.add("Per command:");
+        for (Map.Entry<String, List<Long>> entry : latenciesByWord.entrySet()) {
+            long[] wordLatencies = entry.getValue().stream().mapToLong(Long::longValue).sorted().toArray();
+            lines.add(String.format("  %-9s %7d x, %s", entry.getKey(), wordLatencies.length,
+                    formatPercentiles(wordLatencies)));
+        }
+        return lines;
+    }
+
+    private static String formatPercentiles(long[] sorted) {
+        StringBuilder line = new StringBuilder();
+        for (double percentile : PERCENTILES) {
+            line.append(String.format("p%s %d us, ", formatPercent(percentile),
+                    percentileOf(sorted, percentile) / 1000));
+        }
+        line.append(String.format("max %d us", sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1000));
+        return line.toString();
+    }
+
+    private static String formatPercent(double percentile) {
+        double percent = percentile * 100;
+        return percent == Math.rint(percent) ? String.valueOf((int) percent) : String.valueOf(percent);
+    }
+}
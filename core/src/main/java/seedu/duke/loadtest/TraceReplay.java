@@ -0,0 +1,141 @@
+package seedu.duke.loadtest;
+
+import seedu.duke.command.Command;
+import seedu.duke.exception.DukeException;
+import seedu.duke.parser.Parser;
+import seedu.duke.profiling.CommandEvent;
+import seedu.duke.storage.Storage;
+import seedu.duke.task.TaskList;
+import seedu.duke.ui.Ui;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Replays a trace of commands against a task file through the same Parser and commands the console uses, and
+ * reports how fast they ran. What the commands print is thrown away, so that the console is not measured.
+ */
+public class TraceReplay {
+    private final TaskList taskList;
+    private final Storage storage;
+
+    /**
+     * Constructor for TraceReplay.
+     *
+     * @param taskFile The task file the commands change.
+     * @throws IOException If the task file cannot be read.
+     * @throws DukeException If the task file is not in the format of the hard disk.
+     */
+    public TraceReplay(Path taskFile) throws IOException, DukeException {
+        storage = Storage.fromSystemProperties(taskFile.toString());
+        taskList = new TaskList(storage.load(), storage);
+    }
+
+    public int getTaskCount() {
+        return taskList.getTasks().size();
+    }
+
+    /**
+     * Runs the commands one after another and times each of them. The replay stops early at a bye.
+     *
+     * @param commands The commands, as a user would type them.
+     * @return The report of the replay.
+     * @throws IOException If the task file cannot be written.
+     */
+    public LoadReport replay(List<String> commands) throws IOException {
+        Parser parser = new Parser();
+        Ui ui = new Ui();
+        String[] commandWords = new String[commands.size()];
+        long[] latencyNanos = new long[commands.size()];
+        int count = 0;
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        long allocatedBefore = getAllocatedBytes();
+        long start = System.nanoTime();
+        try {
+            for (String input : commands) {
+                long commandStart = System.nanoTime();
+                String[] inputs = input.split(" ", 2);
+                Command cmd = parser.handleCommands(inputs, taskList);
+                if (!cmd.hasNextCommand()) {
+                    break;
+                }
+                CommandEvent.execute(inputs[0], cmd, taskList, ui, storage);
+                latencyNanos[count] = System.nanoTime() - commandStart;
+                commandWords[count] = inputs[0];
+                count++;
+            }
+        } finally {
+            System.setOut(console);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long allocatedAfter = getAllocatedBytes();
+        long allocatedBytes = allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore;
+        return new LoadReport(commandWords, latencyNanos, count, elapsedNanos, allocatedBytes, getTaskCount(),
+                getStorageBytes());
+    }
+
+    /**
+     * Adds up the sizes of the files of the hard disk, which may be one file or one file per partition.
+     */
+    private long getStorageBytes() throws IOException {
+        long bytes = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(storage.getDirectory())) {
+            for (Path file : files) {
+                if (storage.isStorageFile(file.getFileName())) {
+                    bytes += Files.size(file);
+                }
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Gets the bytes allocated so far by this thread, where the JVM counts them.
+     *
+     * @return The bytes allocated, or -1 if the JVM does not count them.
+     */
+    private static long getAllocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Generates a task file and a trace in a directory, unless they are there already, and replays the trace.
+     * The settings of the generated files are read from system properties, see WorkloadGenerator.
+     * Usage: [directory, default a new temporary one] [trace file, default trace.txt in the directory]
+     */
+    public static void main(String[] args) throws IOException, DukeException {
+        Path directory = args.length > 0 ? Path.of(args[0]) : Files.createTempDirectory("duke-load");
+        Files.createDirectories(directory);
+        WorkloadGenerator generator = WorkloadGenerator.fromSystemProperties();
+        Path taskFile = directory.resolve("duke.txt");
+        if (!Files.exists(taskFile) && !Files.exists(directory.resolve("duke.d"))) { // not yet partitioned either
+            Files.write(taskFile, generator.generateTaskLines());
+        }
+
+        long loadStart = System.nanoTime();
+        TraceReplay replay = new TraceReplay(taskFile);
+        long loadMillis = (System.nanoTime() - loadStart) / 1000000;
+        Path traceFile = args.length > 1 ? Path.of(args[1]) : directory.resolve("trace.txt");
+        if (!Files.exists(traceFile)) {
+            Files.write(traceFile, generator.generateTrace(replay.getTaskCount()));
+        }
+
+        System.out.printf("Loaded %d tasks from %s in %d ms\n", replay.getTaskCount(), directory, loadMillis);
+        LoadReport report = replay.replay(Files.readAllLines(traceFile));
+        for (String line : report.toLines()) {
+            System.out.println(line);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package seedu.duke.loadtest;
+
+import seedu.duke.enums.Priority;
+import seedu.duke.enums.TaskTypes;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates task files and command traces of any size, so that Duke can be tested under more tasks and commands
+ * than anyone would type by hand. The same settings and seed always give the same files.
+ */
+public class WorkloadGenerator {
+    private static final LocalDate FIRST_DATE = LocalDate.of(2020, 1, 1);
+    private static final int TAG_COUNT = 8;
+    private static final int WORD_COUNT = 500;
+
+    private final int taskCount;
+    private final int commandCount;
+    private final int[] typeWeights;
+    private final double writeRatio;
+    private final double doneRatio;
+    private final int minDescLength;
+    private final int maxDescLength;
+    private final int dateSpanDays;
+    private final long seed;
+    private final String[] words;
+
+    /**
+     * Constructor for WorkloadGenerator.
+     *
+     * @param taskCount The number of tasks in a generated task file.
+     * @param commandCount The number of commands in a generated trace.
+     * @param typeWeights How often each type of task is generated, by the ordinal of its TaskTypes.
+     * @param writeRatio The share of commands in a trace that change the list, from 0 to 1.
+     * @param doneRatio The share of generated tasks that are done, from 0 to 1.
+     * @param minDescLength The shortest description, in characters.
+     * @param maxDescLength The longest description, in characters.
+     * @param dateSpanDays The number of days after Jan 1 2020 that dates are spread over.
+     * @param seed The seed of the random numbers.
+     */
+    public WorkloadGenerator(int taskCount, int commandCount, int[] typeWeights, double writeRatio, double doneRatio,
+            int minDescLength, int maxDescLength, int dateSpanDays, long seed) {
+        assert typeWeights.length == TaskTypes.values().length;
+        assert minDescLength > 0 && minDescLength <= maxDescLength;
+        this.taskCount = taskCount;
+        this.commandCount = commandCount;
+        this.typeWeights = typeWeights;
+        this.writeRatio = writeRatio;
+        this.doneRatio = doneRatio;
+        this.minDescLength = minDescLength;
+        this.maxDescLength = maxDescLength;
+        this.dateSpanDays = dateSpanDays;
+        this.seed = seed;
+        words = generateWords(new Random(seed));
+    }
+
+    /**
+     * Creates a generator from the system properties duke.load.tasks, duke.load.commands, duke.load.mix (e.g.
+     * "todo:4,deadline:3,event:2,recurring:1"), duke.load.writeRatio, duke.load.doneRatio, duke.load.descLength
+     * (e.g. "10-60"), duke.load.dateSpanDays and duke.load.seed.
+     *
+     * @return The generator.
+     */
+    public static WorkloadGenerator fromSystemProperties() {
+        String[] descLength = System.getProperty("duke.load.descLength", "10-60").split("-");
+        return new WorkloadGenerator(Integer.getInteger("duke.load.tasks", 10000),
+                Integer.getInteger("duke.load.commands", 20000),
+                toTypeWeights(System.getProperty("duke.load.mix", "todo:4,deadline:3,event:2,recurring:1")),
+                Double.parseDouble(System.getProperty("duke.load.writeRatio", "0.2")),
+                Double.parseDouble(System.getProperty("duke.load.doneRatio", "0.3")),
+                Integer.parseInt(descLength[0].trim()), Integer.parseInt(descLength[descLength.length - 1].trim()),
+                Integer.getInteger("duke.load.dateSpanDays", 365),
+                Long.getLong("duke.load.seed", 42));
+    }
+
+    /**
+     * Converts a mix like "todo:4,deadline:1" into a weight for each type of task. Types left out get no weight.
+     *
+     * @param mix The mix of types.
+     * @return The weights, by the ordinal of each TaskTypes.
+     */
+    public static int[] toTypeWeights(String mix) {
+        int[] weights = new int[TaskTypes.values().length];
+        for (String part : mix.split(",")) {
+            String[] pair = part.split(":");
+            weights[TaskTypes.valueOf(pair[0].trim().toUpperCase()).ordinal()] = Integer.parseInt(pair[1].trim());
+        }
+        return weights;
+    }
+
+    /**
+     * Generates the lines of a task file, in the format of the hard disk.
+     *
+     * @return The lines.
+     */
+    public List<String> generateTaskLines() {
+        Random random = new Random(seed + 1);
+        List<String> lines = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            lines.add(generateTaskLine(random));
+        }
+        return lines;
+    }
+
+    private String generateTaskLine(Random random) {
+        String done = random.nextDouble() < doneRatio ? "Y" : "N";
+        String desc = generateDescription(random);
+        String line;
+        switch (pickType(random)) {
+        case TODO:
+            line = "T | " + done + " | " + desc;
+            break;
+        case DEADLINE:
+            line = "D | " + done + " | " + desc + " | " + generateDate(random);
+            break;
+        case EVENT:
+            line = "E | " + done + " | " + desc + " | " + generateDate(random);
+            break;
+        default:
+            line = "R | N | " + desc + " | " + generateDate(random) + " | " + (1 + random.nextInt(14)) + " | - | -";
+            break;
+        }
+        if (random.nextInt(4) == 0) {
+            Priority priority = Priority.values()[random.nextInt(Priority.values().length)];
+            line += " | !" + priority.name().toLowerCase() + " #tag" + random.nextInt(TAG_COUNT);
+        }
+        return line;
+    }
+
+    /**
+     * Generates a trace of commands, one per line, as a user would type them.
+     * Reads are list, find, stats, agenda, upcoming and filter; writes add, finish, tag and delete tasks. Indexes
+     * are kept within the list as it grows and shrinks, given the number of tasks it starts with.
+     *
+     * @param initialTaskCount The number of tasks in the list before the first command.
+     * @return The commands.
+     */
+    public List<String> generateTrace(int initialTaskCount) {
+        Random random = new Random(seed + 2);
+        List<String> commands = new ArrayList<>(commandCount);
+        int size = initialTaskCount;
+        for (int i = 0; i < commandCount; i++) {
+            if (random.nextDouble() >= writeRatio) {
+                commands.add(generateRead(random));
+                continue;
+            }
+            int choice = size == 0 ? 0 : random.nextInt(10);
+            if (choice < 5) {
+                commands.add(generateAdd(random));
+                size++;
+            } else if (choice < 7) {
+                commands.add("done " + (1 + random.nextInt(size)));
+            } else if (choice < 8) {
+                commands.add("tag " + (1 + random.nextInt(size)) + " #tag" + random.nextInt(TAG_COUNT));
+            } else if (choice < 9) {
+                commands.add("priority " + (1 + random.nextInt(size)) + " "
+                        + Priority.values()[random.nextInt(Priority.values().length)].name().toLowerCase());
+            } else {
+                commands.add("delete " + (1 + random.nextInt(size)));
+                size--;
+            }
+        }
+        return commands;
+    }
+
+    private String generateRead(Random random) {
+        switch (random.nextInt(8)) {
+        case 0:
+            return "list";
+        case 1:
+            return "find " + words[random.nextInt(WORD_COUNT)];
+        case 2:
+            return "find ~" + words[random.nextInt(WORD_COUNT)];
+        case 3:
+            return "stats";
+        case 4:
+            return "agenda week /from " + generateDate(random);
+        case 5:
+            return "upcoming 7";
+        case 6:
+            return "filter #tag" + random.nextInt(TAG_COUNT) + " -done";
+        default:
+            return "filter (deadline or event) and high";
+        }
+    }
+
+    private String generateAdd(Random random) {
+        String desc = generateDescription(random);
+        switch (pickType(random)) {
+        case TODO:
+            return "todo " + desc;
+        case DEADLINE:
+            return "deadline " + desc + " /by " + generateDate(random);
+        case EVENT:
+            return "event " + desc + " /at " + generateDate(random);
+        default:
+            return "recur " + desc + " /from " + generateDate(random) + " /every " + (1 + random.nextInt(14));
+        }
+    }
+
+    private TaskTypes pickType(Random random) {
+        int total = 0;
+        for (int weight : typeWeights) {
+            total += weight;
+        }
+        int pick = random.nextInt(total);
+        for (TaskTypes type : TaskTypes.values()) {
+            pick -= typeWeights[type.ordinal()];
+            if (pick < 0) {
+                return type;
+            }
+        }
+        throw new AssertionError(pick);
+    }
+
+    private String generateDate(Random random) {
+        return FIRST_DATE.plusDays(random.nextInt(dateSpanDays)).toString();
+    }
+
+    /**
+     * Generates a description of words from a fixed vocabulary, so that find has something to match.
+     */
+    private String generateDescription(Random random) {
+        int length = minDescLength + random.nextInt(maxDescLength - minDescLength + 1);
+        StringBuilder desc = new StringBuilder(length + 10);
+        while (desc.length() < length) {
+            if (desc.length() > 0) {
+                desc.append(' ');
+            }
+            desc.append(words[random.nextInt(WORD_COUNT)]);
+        }
+        return desc.toString();
+    }
+
+    private static String[] generateWords(Random random) {
+        String[] words = new String[WORD_COUNT];
+        for (int i = 0; i < WORD_COUNT; i++) {
+            char[] letters = new char[3 + random.nextInt(6)];
+            for (int j = 0; j < letters.length; j++) {
+                letters[j] = (char) ('a' + random.nextInt(26));
+            }
+            words[i] = new String(letters);
+        }
+        return words;
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.duke.parser;
+
+import seedu.duke.command.AddCommand;
+import seedu.duke.command.AgendaCommand;
+import seedu.duke.command.ArchiveCommand;
+import seedu.duke.command.ByeCommand;
+import seedu.duke.command.Command;
+import seedu.duke.command.ListCommand;
+import seedu.duke.command.FindCommand;
+import seedu.duke.command.ErrorCommand;
+import seedu.duke.command.FilterCommand;
+import seedu.duke.command.DeleteCommand;
+import seedu.duke.command.DoneCommand;
+import seedu.duke.command.PriorityCommand;
+import seedu.duke.command.QueryCommand;
+import seedu.duke.command.RedoCommand;
+import seedu.duke.command.StatsCommand;
+import seedu.duke.command.TagCommand;
+import seedu.duke.command.UndoCommand;
+import seedu.duke.command.UpcomingCommand;
+import seedu.duke.task.TaskList;
+import seedu.duke.enums.TaskTypes;
+import seedu.duke.exception.InvalidCommandException;
+import seedu.duke.ui.Ui;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+public class Parser {
+    /**
+     * The commands handled by {@link #handleCommands}, in the order they are checked.
+     */
+    public static final List<String> COMMANDS = List.of("list", "bye", "todo", "deadline", "event", "recur", "done",
+            "delete", "find", "filter", "query", "tag", "untag", "priority", "upcoming", "agenda", "stats", "archive",
+            "undo", "redo");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public Parser() {
+
+    }
+
+    /**
+     * Displays, modifies, and finds the content of the list according to the user's command input.
+     *
+     * @param inputs The user input.
+     * @param taskList The TaskList object.
+     * @return The respective command.
+     */
+    public Command handleCommands(String[] inputs, TaskList taskList) {
+        String command = inputs[0].trim();
+        Command cmd = null;
+        try {
+            switch (command) {
+            case "list":
+                cmd = new ListCommand(taskList);
+                break;
+            case "bye":
+                cmd = new ByeCommand();
+                break;
+            case "todo":
+                cmd = new AddCommand(TaskTypes.TODO, inputs);
+                break;
+            case "deadline":
+                cmd = new AddCommand(TaskTypes.DEADLINE, inputs);
+                break;
+            case "event":
+                cmd = new AddCommand(TaskTypes.EVENT, inputs);
+                break;
+            case "recur":
+                cmd = new AddCommand(TaskTypes.RECURRING, inputs);
+                break;
+            case "done":
+                cmd = new DoneCommand(inputs);
+                break;
+            case "delete":
+                cmd = new DeleteCommand(inputs);
+                break;
+            case "find":
+                cmd = new FindCommand(inputs);
+                break;
+            case "filter":
+                cmd = new FilterCommand(inputs);
+                break;
+            case "query":
+                cmd = new QueryCommand(inputs);
+                break;
+            case "tag":
+                cmd = new TagCommand(inputs, false);
+                break;
+            case "untag":
+                cmd = new TagCommand(inputs, true);
+                break;
+            case "priority":
+                cmd = new PriorityCommand(inputs);
+                break;
+            case "upcoming":
+                cmd = new UpcomingCommand(inputs);
+                break;
+            case "agenda":
+                cmd = new AgendaCommand(inputs);
+                break;
+            case "stats":
+                cmd = new StatsCommand();
+                break;
+            case "archive":
+                cmd = new ArchiveCommand();
+                break;
+            case "undo":
+                cmd = new UndoCommand();
+                break;
+            case "redo":
+                cmd = new RedoCommand();
+                break;
+            default:
+                throw new InvalidCommandException();
+            }
+        } catch (InvalidCommandException e) {
+            cmd = new ErrorCommand(e.toString());
+        }
+        return cmd;
+    }
+
+    /**
+     * Trims the words typed after a command and puts a single space between each two, so that a command typed with
+     * more spaces than needed is read the same as one typed with single spaces.
+     *
+     * @param words The words typed after the command.
+     * @return The words with single spaces between them.
+     */
+    public static String normalizeSpaces(String words) {
+        return WHITESPACE.matcher(words.trim()).replaceAll(" ");
+    }
+}
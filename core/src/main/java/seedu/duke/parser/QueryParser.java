@@ -0,0 +1,149 @@
+package seedu.duke.parser;
+
+import seedu.duke.enums.Priority;
+import seedu.duke.enums.TaskTypes;
+import seedu.duke.exception.InvalidDateException;
+import seedu.duke.exception.InvalidInputFormatException;
+import seedu.duke.storage.Storage;
+import seedu.duke.task.TaskQuery;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Reads a query typed by the user, e.g. "type:deadline done:n before:2021-01-01 text:report sort:date desc
+ * limit:20", into a TaskQuery. Terms are separated by spaces and all of them must match.
+ * Terms are type:[todo, deadline, event or recurring], done:[y or n], priority:[high, medium, low or none],
+ * tag:[tag], before:[yyyy-mm-dd], after:[yyyy-mm-dd] and text:[text], where type and priority take a list like
+ * deadline,event. sort:[date, description, priority, type or id], optionally followed by asc or desc, orders the
+ * results, limit:[number] keeps the first of them, and explain shows how the query was run.
+ */
+public class QueryParser {
+    private static final String SEPARATOR = ":";
+    private static final String EXPLAIN = "explain";
+
+    private QueryParser() {
+
+    }
+
+    /**
+     * Reads a query.
+     *
+     * @param input The query typed by the user.
+     * @return The query.
+     * @throws InvalidInputFormatException If a term is unknown or has no value.
+     * @throws InvalidDateException If a date is input in a wrong format.
+     */
+    public static TaskQuery parse(String input) throws InvalidInputFormatException, InvalidDateException {
+        TaskQuery query = new TaskQuery();
+        String sortKey = null;
+        boolean isSortTerm = false;
+        for (String term : input.trim().split("\\s+")) {
+            String lowerCaseTerm = term.toLowerCase();
+            if (isSortTerm && (lowerCaseTerm.equals("asc") || lowerCaseTerm.equals("desc"))) {
+                query.sortBy(sortKey, lowerCaseTerm.equals("desc"));
+                isSortTerm = false;
+                continue;
+            }
+            isSortTerm = false;
+            if (lowerCaseTerm.equals(EXPLAIN)) {
+                query.setExplained(true);
+                continue;
+            }
+
+            int separator = term.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == term.length() - 1) {
+                throw new InvalidInputFormatException();
+            }
+            String key = lowerCaseTerm.substring(0, separator);
+            String value = term.substring(separator + 1);
+            String lowerCaseValue = value.toLowerCase();
+            switch (key) {
+            case "type":
+                query.whereType(parseTypes(lowerCaseValue), lowerCaseTerm);
+                break;
+            case "done":
+                query.whereDone(parseYesOrNo(lowerCaseValue), lowerCaseTerm);
+                break;
+            case "priority":
+                query.wherePriority(parsePriorities(lowerCaseValue), lowerCaseTerm);
+                break;
+            case "tag":
+                query.whereTag(lowerCaseValue.startsWith("#") ? lowerCaseValue.substring(1) : lowerCaseValue,
+                        lowerCaseTerm);
+                break;
+            case "before":
+                query.whereBefore(parseDate(value), lowerCaseTerm);
+                break;
+            case "after":
+                query.whereAfter(parseDate(value), lowerCaseTerm);
+                break;
+            case "text":
+                query.whereText(value, term);
+                break;
+            case "sort":
+                if (!query.sortBy(lowerCaseValue, false)) {
+                    throw new InvalidInputFormatException();
+                }
+                sortKey = lowerCaseValue;
+                isSortTerm = true;
+                break;
+            case "limit":
+                query.setLimit(parseLimit(value));
+                break;
+            default:
+                throw new InvalidInputFormatException();
+            }
+        }
+        return query;
+    }
+
+    private static Set<TaskTypes> parseTypes(String value) throws InvalidInputFormatException {
+        Set<TaskTypes> types = EnumSet.noneOf(TaskTypes.class);
+        for (String name : value.split(",")) {
+            try {
+                types.add(TaskTypes.valueOf(name.equals("recur") ? "RECURRING" : name.toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidInputFormatException();
+            }
+        }
+        return types;
+    }
+
+    private static Set<Priority> parsePriorities(String value) throws InvalidInputFormatException {
+        Set<Priority> priorities = EnumSet.noneOf(Priority.class);
+        for (String name : value.split(",")) {
+            priorities.add(Storage.toPriority(name));
+        }
+        return priorities;
+    }
+
+    private static boolean parseYesOrNo(String value) throws InvalidInputFormatException {
+        if (value.equals("y") || value.equals("yes")) {
+            return true;
+        } else if (value.equals("n") || value.equals("no")) {
+            return false;
+        }
+        throw new InvalidInputFormatException();
+    }
+
+    private static int parseLimit(String value) throws InvalidInputFormatException {
+        try {
+            int limit = Integer.parseInt(value);
+            if (limit < 1) {
+                throw new InvalidInputFormatException();
+            }
+            return limit;
+        } catch (NumberFormatException e) {
+            throw new InvalidInputFormatException();
+        }
+    }
+
+    private static LocalDate parseDate(String date) throws InvalidDateException {
+        if (date.length() != 10 || !Storage.isValidDate(date)) {
+            throw new InvalidDateException();
+        }
+        return LocalDate.parse(date);
+    }
+}
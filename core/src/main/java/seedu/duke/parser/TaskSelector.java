@@ -0,0 +1,125 @@
+package seedu.duke.parser;
+
+import seedu.duke.exception.InvalidDateException;
+import seedu.duke.exception.InvalidInputFormatException;
+import seedu.duke.exception.TaskIndexOutOfBoundsException;
+import seedu.duke.storage.Storage;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskList;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Resolves a selection of tasks typed by the user, e.g. "1-50,73,90", "/done" or "/before 2020-01-01",
+ * into the positions of the selected tasks.
+ */
+public class TaskSelector {
+    private static final String DONE = "/done";
+    private static final String BEFORE = "/before";
+    private static final String ID_PREFIX = "#";
+
+    private TaskSelector() {
+
+    }
+
+    /**
+     * Resolves the selection against one snapshot of the list.
+     *
+     * @param selection The selection typed by the user.
+     * @param tasks The current list of tasks.
+     * @return The zero-based positions of the selected tasks, in ascending order and without duplicates.
+     * @throws InvalidInputFormatException If the selection is keyed in a wrong format.
+     * @throws InvalidDateException If a date is input in a wrong format.
+     * @throws TaskIndexOutOfBoundsException If an index is not in the list.
+     */
+    public static int[] select(String selection, List<Task> tasks)
+            throws InvalidInputFormatException, InvalidDateException, TaskIndexOutOfBoundsException {
+        String trimmed = selection.trim();
+        BitSet selected = new BitSet(tasks.size());
+        if (trimmed.equals(DONE)) {
+            for (int i = 0; i < tasks.size(); i++) {
+                selected.set(i, tasks.get(i).isDone());
+            }
+        } else if (trimmed.startsWith(BEFORE + " ")) {
+            LocalDate date = parseDate(trimmed.substring(BEFORE.length()).trim());
+            for (int i = 0; i < tasks.size(); i++) {
+                LocalDate taskDate = tasks.get(i).getDate();
+                selected.set(i, taskDate != null && taskDate.isBefore(date));
+            }
+        } else {
+            for (String part : trimmed.split(",")) {
+                selectRange(part.trim(), tasks.size(), selected);
+            }
+        }
+        return selected.stream().toArray();
+    }
+
+    /**
+     * Checks if a task is selected by its id, e.g. "#17", rather than by its position.
+     *
+     * @param selection The selection typed by the user.
+     * @return true if the selection is an id.
+     */
+    public static boolean isId(String selection) {
+        String trimmed = selection.trim();
+        return trimmed.startsWith(ID_PREFIX) && trimmed.length() > ID_PREFIX.length()
+                && trimmed.substring(ID_PREFIX.length()).chars().allMatch(Character::isDigit);
+    }
+
+    /**
+     * Resolves one task, given by its index number, e.g. "3", or by its id, e.g. "#17", into its index number.
+     * An id is looked up in the hash index of ids, so it finds the same task however the list has been sorted.
+     *
+     * @param selection The selection typed by the user.
+     * @param taskList The list of tasks.
+     * @return The index number of the task.
+     * @throws InvalidInputFormatException If the selection is neither a number nor an id.
+     * @throws TaskIndexOutOfBoundsException If no task has the index number or id.
+     */
+    public static int toIndexNumber(String selection, TaskList taskList)
+            throws InvalidInputFormatException, TaskIndexOutOfBoundsException {
+        String trimmed = selection.trim();
+        int index;
+        if (isId(trimmed)) {
+            try {
+                index = taskList.getIndexNumber(Long.parseLong(trimmed.substring(ID_PREFIX.length())));
+            } catch (NumberFormatException e) {
+                throw new TaskIndexOutOfBoundsException();
+            }
+        } else {
+            index = parseIndex(trimmed);
+        }
+        if (index < 1 || index > taskList.getTasks().size()) {
+            throw new TaskIndexOutOfBoundsException();
+        }
+        return index;
+    }
+
+    private static void selectRange(String range, int size, BitSet selected)
+            throws InvalidInputFormatException, TaskIndexOutOfBoundsException {
+        String[] bounds = range.split("-", 2);
+        int from = parseIndex(bounds[0]);
+        int to = bounds.length == 1 ? from : parseIndex(bounds[1]);
+        if (from < 1 || to > size || from > to) {
+            throw new TaskIndexOutOfBoundsException();
+        }
+        selected.set(from - 1, to);
+    }
+
+    private static int parseIndex(String index) throws InvalidInputFormatException {
+        try {
+            return Integer.parseInt(index.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidInputFormatException();
+        }
+    }
+
+    private static LocalDate parseDate(String date) throws InvalidDateException {
+        if (date.length() != 10 || !Storage.isValidDate(date)) {
+            throw new InvalidDateException();
+        }
+        return LocalDate.parse(date);
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.duke.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import seedu.duke.command.Command;
+import seedu.duke.command.ErrorCommand;
+import seedu.duke.storage.Storage;
+import seedu.duke.task.TaskList;
+import seedu.duke.ui.Ui;
+
+import java.io.IOException;
+
+/**
+ * A Flight Recorder event spanning the execution of one command, so that the file I/O, allocation and storage events
+ * recorded on the same thread meanwhile can be tied to the command that caused them. When no recording is running,
+ * the event is never committed and costs next to nothing.
+ */
+@Name("seedu.duke.Command")
+@Label("Command")
+@Category("Duke")
+@Description("The execution of a command typed by the user")
+@StackTrace(false)
+public class CommandEvent extends Event {
+    @Label("Command")
+    @Description("The first word of the command, e.g. done")
+    String command;
+
+    @Label("Tasks")
+    @Description("The number of tasks in the list after the command")
+    int taskCount;
+
+    @Label("Changed Tasks")
+    @Description("The number of tasks the command added, changed or removed")
+    long changedTaskCount;
+
+    @Label("Outcome")
+    @Description("changed, unchanged, cached, invalid, or the exception the command threw")
+    String outcome;
+
+    /**
+     * Executes a command inside a CommandEvent.
+     *
+     * @param command The first word of the command.
+     * @param cmd The command.
+     * @param taskList The TaskList object.
+     * @param ui The User Interface object.
+     * @param storage The hard disk object.
+     * @throws IOException If the command throws it.
+     */
+    public static void execute(String command, Command cmd, TaskList taskList, Ui ui, Storage storage)
+            throws IOException {
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        long changeCount = taskList.getChangeCount();
+        String outcome = null;
+        try {
+            cmd.execute(taskList, ui, storage);
+        } catch (IOException | RuntimeException e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.command = command;
+                event.taskCount = taskList.getTasks() == null ? 0 : taskList.getTasks().size();
+                event.changedTaskCount = taskList.getChangeCount() - changeCount;
+                if (outcome == null) {
+                    outcome = cmd instanceof ErrorCommand ? "invalid"
+                            : event.changedTaskCount > 0 ? "changed" : "unchanged";
+                }
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Records a command that was answered with a response kept from before, so it was not executed.
+     *
+     * @param command The first word of the command.
+     * @param taskList The TaskList object.
+     */
+    public static void cached(String command, TaskList taskList) {
+        CommandEvent event = new CommandEvent();
+        if (event.shouldCommit()) {
+            event.command = command;
+            event.taskCount = taskList.getTasks() == null ? 0 : taskList.getTasks().size();
+            event.outcome = "cached";
+            event.commit();
+        }
+    }
+}
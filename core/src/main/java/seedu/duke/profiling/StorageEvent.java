@@ -0,0 +1,107 @@
+package seedu.duke.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A Flight Recorder event spanning one method of Storage that reads or writes the hard disk, so that a recording
+ * shows which operations rewrite a whole file and how much they write. Its stack trace leads back to the command.
+ * The event is opened in a try-with-resources statement around the operation, so an operation that throws is still
+ * recorded, as failed. Like CommandEvent, its fields are only filled in once a recording wants the event.
+ */
+@Name("seedu.duke.StorageOperation")
+@Label("Storage Operation")
+@Category({"Duke", "Storage"})
+@Description("A method of Storage that reads or writes the hard disk")
+public class StorageEvent extends Event implements AutoCloseable {
+    @Label("Operation")
+    @Description("The method of Storage, e.g. replace")
+    String operation;
+
+    @Label("File")
+    String file;
+
+    @Label("Bytes Written")
+    @DataAmount
+    long bytesWritten;
+
+    @Label("Lines")
+    @Description("The number of lines read or written")
+    int lineCount;
+
+    @Label("Failed")
+    @Description("Whether the operation threw before it finished")
+    boolean failed;
+
+    private transient String startedOperation;
+    private transient String startedFile;
+    private transient boolean isFinished;
+
+    /**
+     * Starts timing an operation.
+     *
+     * @param operation The name of the operation.
+     * @param file The file read or written.
+     * @return The event, to be finished when the operation is and closed in any case.
+     */
+    public static StorageEvent start(String operation, String file) {
+        StorageEvent event = new StorageEvent();
+        event.startedOperation = operation;
+        event.startedFile = file;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing the operation, and records it if a recording wants it.
+     *
+     * @param bytesWritten The number of bytes written, or 0 if the operation only reads.
+     * @param lineCount The number of lines read or written.
+     */
+    public void finish(long bytesWritten, int lineCount) {
+        finish(() -> bytesWritten, lineCount);
+    }
+
+    /**
+     * Stops timing the operation, and records it if a recording wants it. The number of bytes written is only
+     * worked out then, e.g. when it takes reading the size of a file.
+     *
+     * @param bytesWritten Works out the number of bytes written.
+     * @param lineCount The number of lines read or written.
+     */
+    public void finish(LongSupplier bytesWritten, int lineCount) {
+        isFinished = true;
+        end();
+        if (shouldCommit()) {
+            operation = startedOperation;
+            file = startedFile;
+            this.bytesWritten = bytesWritten.getAsLong();
+            this.lineCount = lineCount;
+            commit();
+        }
+    }
+
+    /**
+     * Records the operation as failed if it was not finished, e.g. as it threw.
+     */
+    @Override
+    public void close() {
+        if (isFinished) {
+            return;
+        }
+        isFinished = true;
+        end();
+        if (shouldCommit()) {
+            operation = startedOperation;
+            file = startedFile;
+            failed = true;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.duke.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event spanning the loading of the tasks when Duke starts, including the rewrite of the loaded
+ * tasks in sorted order.
+ */
+@Name("seedu.duke.StorageLoad")
+@Label("Storage Load")
+@Category({"Duke", "Storage"})
+@Description("The loading of the tasks from the hard disk")
+@StackTrace(false)
+public class StorageLoadEvent extends Event {
+    @Label("File")
+    @Description("The task file, or the folder of partitions")
+    String file;
+
+    @Label("Files Read")
+    int fileCount;
+
+    @Label("Bytes Read")
+    @DataAmount
+    long bytesRead;
+
+    @Label("Tasks")
+    int taskCount;
+
+    /**
+     * Starts timing a load.
+     *
+     * @return The event, which must be finished when the load is.
+     */
+    public static StorageLoadEvent start() {
+        StorageLoadEvent event = new StorageLoadEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing the load, and records it if a recording wants it.
+     *
+     * @param file The task file, or the folder of partitions.
+     * @param fileCount The number of files read.
+     * @param bytesRead The number of bytes read.
+     * @param taskCount The number of tasks loaded.
+     */
+    public void finish(String file, int fileCount, long bytesRead, int taskCount) {
+        end();
+        if (shouldCommit()) {
+            this.file = file;
+            this.fileCount = fileCount;
+            this.bytesRead = bytesRead;
+            this.taskCount = taskCount;
+            commit();
+        }
+    }
+}
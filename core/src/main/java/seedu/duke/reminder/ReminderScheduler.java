@@ -0,0 +1,175 @@
+package seedu.duke.reminder;
+
+import seedu.duke.task.Recurring;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskListObserver;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Reminds the user of deadlines and events a number of days before their dates.
+ * Every pending reminder is a timer in one TimingWheel that is advanced once a minute by a single daemon thread,
+ * and the reminders follow the TaskList they observe as tasks are added, marked as done and deleted.
+ * A recurring task only has a reminder for its next occurrence, which is replaced by one for the occurrence after
+ * it when it fires.
+ */
+public class ReminderScheduler implements TaskListObserver {
+    private static final long TICK_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final TimingWheel<Reminder> wheel;
+    private final Map<Task, TimingWheel.Timer<Reminder>> timers = new IdentityHashMap<>();
+    private final List<Consumer<Task>> listeners = new CopyOnWriteArrayList<>();
+    private final int daysBefore;
+    private final ZoneId zone;
+    private Thread thread;
+
+    /**
+     * Creates a scheduler with reminders for the given tasks.
+     *
+     * @param tasks The tasks in the list.
+     * @param daysBefore How many days before the date of a task to remind the user.
+     */
+    public ReminderScheduler(List<Task> tasks, int daysBefore) {
+        this.daysBefore = daysBefore;
+        zone = ZoneId.systemDefault();
+        wheel = new TimingWheel<>(System.currentTimeMillis() / TICK_MILLIS);
+        for (Task task : tasks) {
+            schedule(task, LocalDate.now(zone));
+        }
+    }
+
+    /**
+     * Creates a scheduler that reminds the number of days before set by the system property duke.reminder.daysBefore,
+     * which is 1 if it is not set.
+     *
+     * @param tasks The tasks in the list.
+     * @return The reminder scheduler.
+     */
+    public static ReminderScheduler fromSystemProperties(List<Task> tasks) {
+        return new ReminderScheduler(tasks, Integer.getInteger("duke.reminder.daysBefore", 1));
+    }
+
+    /**
+     * Registers a listener which is given every task the user should be reminded of.
+     * Listeners are called on the scheduler thread.
+     *
+     * @param listener The listener to be registered.
+     */
+    public void addListener(Consumer<Task> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Starts the scheduler thread, which runs until the application exits.
+     */
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        thread = new Thread(this::run, "duke-reminders");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public synchronized int getPendingCount() {
+        return wheel.size();
+    }
+
+    @Override
+    public synchronized void taskAdded(int index, Task task) {
+        schedule(task, LocalDate.now(zone));
+    }
+
+    @Override
+    public synchronized void taskStatusChanged(int index, Task task) {
+        cancel(task);
+        schedule(task, LocalDate.now(zone));
+    }
+
+    @Override
+    public synchronized void taskRemoved(int index, Task task) {
+        cancel(task);
+    }
+
+    /**
+     * Adds a reminder for a task that is not done, if its date has not passed yet, or for the next occurrence of a
+     * recurring task on or after the given date.
+     * A task that is already within the reminder period is reminded of at the next tick.
+     */
+    private void schedule(Task task, LocalDate from) {
+        LocalDate date = task instanceof Recurring ? ((Recurring) task).getNextOccurrence(from) : task.getDate();
+        if (task.isDone() || date == null || date.isBefore(from)) {
+            return;
+        }
+        long remindMillis = date.minusDays(daysBefore).atStartOfDay(zone).toInstant().toEpochMilli();
+        timers.put(task, wheel.add(remindMillis / TICK_MILLIS, new Reminder(task, date)));
+    }
+
+    private void cancel(Task task) {
+        TimingWheel.Timer<Reminder> timer = timers.remove(task);
+        if (timer != null) {
+            wheel.cancel(timer);
+        }
+    }
+
+    /**
+     * Advances the wheel once per tick, catching up on ticks missed while the machine was asleep, and hands the
+     * expired reminders to the listeners outside of the lock.
+     */
+    private void run() {
+        while (true) {
+            List<Task> dueTasks = advanceToNow();
+            for (Task task : dueTasks) {
+                for (Consumer<Task> listener : listeners) {
+                    listener.accept(task);
+                }
+            }
+
+            long nextTickMillis = (System.currentTimeMillis() / TICK_MILLIS + 1) * TICK_MILLIS;
+            try {
+                Thread.sleep(Math.max(1, nextTickMillis - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private synchronized List<Task> advanceToNow() {
+        long nowTick = System.currentTimeMillis() / TICK_MILLIS;
+        List<Task> dueTasks = new ArrayList<>();
+        while (wheel.getCurrentTick() < nowTick) {
+            for (Reminder reminder : wheel.advance()) {
+                Task task = reminder.task;
+                timers.remove(task);
+                if (!task.isDone()) {
+                    dueTasks.add(task);
+                }
+                if (task instanceof Recurring) {
+                    schedule(task, reminder.date.plusDays(1));
+                }
+            }
+        }
+        return dueTasks;
+    }
+
+    /**
+     * Represents a pending reminder of a task for the occurrence on a date.
+     */
+    private static class Reminder {
+        private final Task task;
+        private final LocalDate date;
+
+        private Reminder(Task task, LocalDate date) {
+            this.task = task;
+            this.date = date;
+        }
+    }
+}
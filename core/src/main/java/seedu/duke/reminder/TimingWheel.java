@@ -0,0 +1,187 @@
+package seedu.duke.reminder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a hierarchical timing wheel which keeps timers in slots by the tick they are due at.
+ * Level 0 has one slot per tick; every higher level has slots that are 64 times as wide and cascades its timers
+ * down one level when the wheel below wraps around. Adding and cancelling a timer is O(1), and advancing the wheel
+ * by one tick only touches the slots that are due, however many timers are pending.
+ *
+ * @param <T> The type of the payload of a timer.
+ */
+public class TimingWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final int NO_SLOT = -1;
+
+    private final Timer<T>[][] slots;
+    private long currentTick;
+    private int size;
+
+    /**
+     * Creates an empty timing wheel.
+     *
+     * @param currentTick The tick the wheel starts at.
+     */
+    public TimingWheel(long currentTick) {
+        this.currentTick = currentTick;
+        slots = newSlots();
+    }
+
+    /**
+     * Creates the slots of every level. An array of a generic type cannot be created, but this one only ever holds
+     * timers of the wheel and never leaves it, so the unchecked cast is safe.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Timer<T>[][] newSlots() {
+        return (Timer<T>[][]) new Timer<?>[LEVELS][SLOTS];
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds a timer that expires at the given tick, or at the next tick if that tick has already passed.
+     *
+     * @param dueTick The tick the timer is due at.
+     * @param payload The payload of the timer.
+     * @return The timer, which can be used to cancel it.
+     */
+    public Timer<T> add(long dueTick, T payload) {
+        Timer<T> timer = new Timer<>(Math.max(dueTick, currentTick + 1), payload);
+        link(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Cancels a pending timer. Cancelling a timer that has already expired or been cancelled does nothing.
+     *
+     * @param timer The timer to be cancelled.
+     */
+    public void cancel(Timer<T> timer) {
+        if (timer.slot == NO_SLOT) {
+            return;
+        }
+        unlink(timer);
+        size--;
+    }
+
+    /**
+     * Advances the wheel by one tick.
+     *
+     * @return The payloads of the timers that expired at the new tick.
+     */
+    public List<T> advance() {
+        currentTick++;
+        int topLevel = 0;
+        while (topLevel < LEVELS - 1 && (currentTick & ((1L << (SLOT_BITS * (topLevel + 1))) - 1)) == 0) {
+            topLevel++;
+        }
+        for (int level = topLevel; level >= 1; level--) { // from the top, so cascaded timers cascade again
+            cascade(level);
+        }
+
+        List<T> expired = new ArrayList<>();
+        int slotIndex = (int) (currentTick & SLOT_MASK);
+        Timer<T> timer = slots[0][slotIndex];
+        while (timer != null) {
+            Timer<T> next = timer.next;
+            if (timer.dueTick <= currentTick) {
+                unlink(timer);
+                size--;
+                expired.add(timer.payload);
+            }
+            timer = next;
+        }
+        return expired;
+    }
+
+    /**
+     * Moves the timers of the slot at the current position of a level down to the levels below it.
+     */
+    private void cascade(int level) {
+        int slotIndex = (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        Timer<T> timer = slots[level][slotIndex];
+        slots[level][slotIndex] = null;
+        while (timer != null) {
+            Timer<T> next = timer.next;
+            timer.slot = NO_SLOT;
+            timer.previous = null;
+            timer.next = null;
+            link(timer);
+            timer = next;
+        }
+    }
+
+    /**
+     * Puts a timer into the lowest level whose range covers its due tick. Timers beyond the range of the top level
+     * wait in its furthest slot and are placed again when that slot cascades.
+     */
+    private void link(Timer<T> timer) {
+        long delay = timer.dueTick - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        long slotTick = timer.dueTick;
+        if (delay >= (1L << (SLOT_BITS * LEVELS))) {
+            slotTick = currentTick + (1L << (SLOT_BITS * LEVELS)) - 1;
+        }
+        int slotIndex = (int) ((slotTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+
+        timer.level = level;
+        timer.slot = slotIndex;
+        timer.next = slots[level][slotIndex];
+        if (timer.next != null) {
+            timer.next.previous = timer;
+        }
+        slots[level][slotIndex] = timer;
+    }
+
+    private void unlink(Timer<T> timer) {
+        if (timer.previous == null) {
+            slots[timer.level][timer.slot] = timer.next;
+        } else {
+            timer.previous.next = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.previous = timer.previous;
+        }
+        timer.slot = NO_SLOT;
+        timer.previous = null;
+        timer.next = null;
+    }
+
+    /**
+     * Represents a pending timer in a timing wheel.
+     *
+     * @param <T> The type of the payload of the timer.
+     */
+    public static class Timer<T> {
+        private final long dueTick;
+        private final T payload;
+        private int level;
+        private int slot = NO_SLOT;
+        private Timer<T> previous;
+        private Timer<T> next;
+
+        private Timer(long dueTick, T payload) {
+            this.dueTick = dueTick;
+            this.payload = payload;
+        }
+
+        public long getDueTick() {
+            return dueTick;
+        }
+    }
+}
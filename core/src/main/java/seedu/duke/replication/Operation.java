@@ -0,0 +1,128 @@
+package seedu.duke.replication;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Represents one change to the hard disk of the primary, numbered in the order it happened.
+ * Tasks are named by the lines that represent them in the hard disk rather than by their positions, because the
+ * order of the list can differ between the primary and a follower.
+ */
+public class Operation {
+    /**
+     * Represents the kinds of change that are replicated.
+     */
+    public enum Type {
+        ADD,
+        UPDATE,
+        REMOVE
+    }
+
+    private final long sequence;
+    private final Type type;
+    private final String line;
+    private final String oldLine;
+
+    /**
+     * Represents an Operation object.
+     *
+     * @param sequence The number of the operation, one more than the one before it.
+     * @param type The kind of change.
+     * @param line The line of the task after the change, or of the removed task.
+     * @param oldLine The line of the task before an update, or null for other changes.
+     */
+    public Operation(long sequence, Type type, String line, String oldLine) {
+        this.sequence = sequence;
+        this.type = type;
+        this.line = line;
+        this.oldLine = oldLine;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getLine() {
+        return line;
+    }
+
+    public String getOldLine() {
+        return oldLine;
+    }
+
+    /**
+     * Writes the operation to a connection.
+     *
+     * @param out The stream of the connection.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeLong(sequence);
+        out.writeByte(type.ordinal());
+        writeLine(out, line);
+        if (type == Type.UPDATE) {
+            writeLine(out, oldLine);
+        }
+    }
+
+    /**
+     * Reads an operation written by writeTo.
+     *
+     * @param in The stream of the connection.
+     * @return The operation.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public static Operation readFrom(DataInputStream in) throws IOException {
+        long sequence = in.readLong();
+        int typeIndex = in.readByte();
+        if (typeIndex < 0 || typeIndex >= Type.values().length) {
+            throw new IOException("Unknown operation " + typeIndex);
+        }
+        Type type = Type.values()[typeIndex];
+        String line = readLine(in);
+        String oldLine = type == Type.UPDATE ? readLine(in) : null;
+        return new Operation(sequence, type, line, oldLine);
+    }
+
+    /**
+     * Writes a line as its length in bytes followed by its UTF-8 bytes. Unlike writeUTF, this has no limit of 64 KB,
+     * so a task with a very long description is replicated like any other.
+     *
+     * @param out The stream of the connection.
+     * @param line The line.
+     * @throws IOException If an input or output exception occurred.
+     */
+    static void writeLine(DataOutputStream out, String line) throws IOException {
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a line written by writeLine.
+     *
+     * @param in The stream of the connection.
+     * @return The line.
+     * @throws IOException If an input or output exception occurred.
+     */
+    static String readLine(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Bad line length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return "#" + sequence + " " + type + " " + (type == Type.UPDATE ? oldLine + " -> " : "") + line;
+    }
+}
@@ -0,0 +1,172 @@
+package seedu.duke.replication;
+
+import seedu.duke.exception.DukeException;
+import seedu.duke.storage.Storage;
+import seedu.duke.storage.StorageDiff;
+import seedu.duke.task.TaskList;
+import seedu.duke.ui.Ui;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a copy of the list of a primary Duke up to date, applying every change it ships to a TaskList and its
+ * hard disk and acknowledging it. The epoch and number of the latest applied change are saved next to the hard
+ * disk, so after a restart or a lost connection the follower only asks for the changes it missed.
+ */
+public class ReplicationFollower {
+    private static final long RETRY_MILLIS = TimeUnit.SECONDS.toMillis(1);
+
+    private final String host;
+    private final int port;
+    private final TaskList taskList;
+    private final Path stateFile;
+    private final Ui ui = new Ui();
+    private long epoch;
+    private long appliedSequence;
+
+    /**
+     * Creates a follower of the primary at the given address.
+     *
+     * @param host The host of the primary.
+     * @param port The port of the primary.
+     * @param taskList The list to keep up to date.
+     * @param stateFile The file in which the latest applied change is saved.
+     * @throws IOException If the saved state cannot be read.
+     */
+    public ReplicationFollower(String host, int port, TaskList taskList, Path stateFile) throws IOException {
+        this.host = host;
+        this.port = port;
+        this.taskList = taskList;
+        this.stateFile = stateFile;
+        if (Files.exists(stateFile)) {
+            String[] state = Files.readString(stateFile).trim().split(" ");
+            epoch = Long.parseLong(state[0]);
+            appliedSequence = Long.parseLong(state[1]);
+        }
+    }
+
+    public synchronized long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    /**
+     * Follows the primary until the thread is interrupted, connecting again whenever the connection is lost.
+     */
+    public void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try (Socket socket = new Socket(host, port)) {
+                follow(socket);
+            } catch (IOException | DukeException e) {
+                ui.print("Lost the primary, trying again: " + e);
+            }
+            try {
+                Thread.sleep(RETRY_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void follow(Socket socket) throws IOException, DukeException {
+        socket.setTcpNoDelay(true);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        out.writeLong(epoch);
+        out.writeLong(appliedSequence);
+        out.flush();
+
+        while (true) {
+            byte kind = in.readByte();
+            if (kind == ReplicationPrimary.SNAPSHOT) {
+                long snapshotEpoch = in.readLong();
+                long sequence = in.readLong();
+                int count = in.readInt();
+                List<String> lines = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    lines.add(Operation.readLine(in));
+                }
+                synchronized (taskList) {
+                    taskList.applyDiff(StorageDiff.between(taskList.getTasks(), lines));
+                }
+                saveState(snapshotEpoch, sequence);
+            } else if (kind == ReplicationPrimary.OPERATION) {
+                Operation operation = Operation.readFrom(in);
+                if (operation.getSequence() != appliedSequence + 1) {
+                    throw new IOException("Expected change #" + (appliedSequence + 1) + " but got " + operation);
+                }
+                apply(operation);
+                saveState(epoch, operation.getSequence());
+            } else {
+                throw new IOException("Unknown message " + kind);
+            }
+            out.writeLong(appliedSequence);
+            if (in.available() == 0) { // acknowledges a batch of changes together
+                out.flush();
+            }
+        }
+    }
+
+    private void apply(Operation operation) throws IOException, DukeException {
+        synchronized (taskList) {
+            switch (operation.getType()) {
+            case ADD:
+                taskList.insertTask(Storage.toTask(operation.getLine()));
+                break;
+            case UPDATE:
+                if (!taskList.updateSavedTask(operation.getOldLine(), Storage.toTask(operation.getLine()))) {
+                    throw new IOException("Cannot find the task of " + operation);
+                }
+                break;
+            case REMOVE:
+                if (!taskList.removeSavedTask(operation.getLine())) {
+                    throw new IOException("Cannot find the task of " + operation);
+                }
+                break;
+            default:
+                throw new IOException("Unknown change " + operation);
+            }
+        }
+    }
+
+    /**
+     * Saves the latest applied change through a temporary file, so that the saved state is never half written.
+     */
+    private synchronized void saveState(long epoch, long sequence) throws IOException {
+        this.epoch = epoch;
+        this.appliedSequence = sequence;
+        Path partFile = stateFile.resolveSibling(stateFile.getFileName() + ".part");
+        Files.writeString(partFile, epoch + " " + sequence);
+        Files.move(partFile, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Runs a follower which keeps the given data file up to date with a primary, e.g.
+     * {@code java -cp duke.jar seedu.duke.replication.ReplicationFollower localhost:7070 standby/duke.txt}.
+     *
+     * @param args The address of the primary as host:port, and the data file, duke.txt if it is not given.
+     * @throws Exception If the data file cannot be loaded.
+     */
+    public static void main(String[] args) throws Exception {
+        String[] address = args[0].split(":");
+        String filePath = args.length > 1 ? args[1] : "duke.txt";
+        Path dataFile = Path.of(filePath);
+        if (!Files.exists(dataFile)) {
+            Files.createFile(dataFile);
+        }
+        Storage storage = Storage.fromSystemProperties(filePath);
+        TaskList taskList = new TaskList(storage.load(), storage);
+        new ReplicationFollower(address[0], Integer.parseInt(address[1]), taskList,
+                dataFile.resolveSibling(dataFile.getFileName() + ".replica")).run();
+    }
+}
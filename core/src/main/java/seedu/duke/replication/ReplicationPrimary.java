@@ -0,0 +1,247 @@
+package seedu.duke.replication;
+
+import seedu.duke.storage.Storage;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskListObserver;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Ships every change to the TaskList it observes to follower processes over TCP, so that a follower keeps a warm
+ * copy of the list. Changes are numbered and kept in a bounded log, so a follower that reconnects only receives the
+ * changes it missed; a follower that is too far behind, or that followed an earlier run of the primary, receives
+ * the whole list once instead.
+ */
+public class ReplicationPrimary implements TaskListObserver {
+    static final byte SNAPSHOT = 'S';
+    static final byte OPERATION = 'O';
+    private static final int MAX_LOG_SIZE = 10000;
+
+    private final long epoch = new Random().nextLong();
+    private final Deque<Operation> log = new ArrayDeque<>();
+    private final Map<Task, String> savedLines = new IdentityHashMap<>();
+    private final int port;
+    private long lastSequence;
+    private long ackedSequence;
+    private ServerSocket serverSocket;
+
+    /**
+     * Creates a primary for the given tasks.
+     *
+     * @param tasks The tasks in the list.
+     * @param port The port followers connect to, or 0 for any free port.
+     */
+    public ReplicationPrimary(List<Task> tasks, int port) {
+        this.port = port;
+        for (Task task : tasks) {
+            savedLines.put(task, Storage.toStorageString(task));
+        }
+    }
+
+    /**
+     * Creates a primary listening on the port set by the system property duke.replication.port.
+     *
+     * @param tasks The tasks in the list.
+     * @return The primary, or null if the property is not set.
+     */
+    public static ReplicationPrimary fromSystemProperties(List<Task> tasks) {
+        Integer port = Integer.getInteger("duke.replication.port");
+        return port == null ? null : new ReplicationPrimary(tasks, port);
+    }
+
+    /**
+     * Starts accepting followers on the loopback address, on a background thread which runs until the application
+     * exits.
+     *
+     * @throws IOException If the port cannot be opened.
+     */
+    public synchronized void start() throws IOException {
+        if (serverSocket != null) {
+            return;
+        }
+        serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+        startThread(this::acceptFollowers, "duke-replication");
+    }
+
+    public synchronized int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Gets the number of the latest change a follower has applied and acknowledged.
+     *
+     * @return The number of the change, or 0 if none has been acknowledged.
+     */
+    public synchronized long getAckedSequence() {
+        return ackedSequence;
+    }
+
+    @Override
+    public synchronized void taskAdded(int index, Task task) {
+        String line = Storage.toStorageString(task);
+        savedLines.put(task, line);
+        append(Operation.Type.ADD, line, null);
+    }
+
+    @Override
+    public synchronized void taskStatusChanged(int index, Task task) {
+        String line = Storage.toStorageString(task);
+        String oldLine = savedLines.put(task, line);
+        if (oldLine != null && !oldLine.equals(line)) {
+            append(Operation.Type.UPDATE, line, oldLine);
+        }
+    }
+
+    @Override
+    public synchronized void taskRemoved(int index, Task task) {
+        String line = savedLines.remove(task);
+        if (line != null) {
+            append(Operation.Type.REMOVE, line, null);
+        }
+    }
+
+    private void append(Operation.Type type, String line, String oldLine) {
+        lastSequence++;
+        log.addLast(new Operation(lastSequence, type, line, oldLine));
+        if (log.size() > MAX_LOG_SIZE) {
+            log.removeFirst();
+        }
+        notifyAll();
+    }
+
+    private void acceptFollowers() {
+        while (true) {
+            try {
+                Socket socket = serverSocket.accept();
+                startThread(() -> serve(socket), "duke-replication-follower");
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Brings one follower up to date and then streams every later change to it, while a second thread reads its
+     * acknowledgements.
+     */
+    private void serve(Socket socket) {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            long followerEpoch = in.readLong();
+            long nextSequence = in.readLong() + 1;
+            if (followerEpoch != epoch) {
+                nextSequence = 0;
+            }
+            startThread(() -> readAcks(socket, in), "duke-replication-acks");
+
+            while (!socket.isClosed()) {
+                List<Operation> operations;
+                List<String> snapshot = null;
+                long snapshotSequence;
+                synchronized (this) {
+                    while (nextSequence > lastSequence && !socket.isClosed()) {
+                        wait();
+                    }
+                    snapshotSequence = lastSequence;
+                    if (nextSequence < firstLoggedSequence()) {
+                        snapshot = new ArrayList<>(savedLines.values());
+                        nextSequence = lastSequence + 1;
+                    }
+                    operations = operationsFrom(nextSequence);
+                }
+
+                if (snapshot != null) {
+                    writeSnapshot(out, snapshotSequence, snapshot);
+                }
+                for (Operation operation : operations) {
+                    out.writeByte(OPERATION);
+                    operation.writeTo(out);
+                    nextSequence = operation.getSequence() + 1;
+                }
+                out.flush();
+            }
+        } catch (IOException | InterruptedException e) {
+            return;
+        }
+    }
+
+    private void writeSnapshot(DataOutputStream out, long sequence, List<String> lines) throws IOException {
+        out.writeByte(SNAPSHOT);
+        out.writeLong(epoch);
+        out.writeLong(sequence);
+        out.writeInt(lines.size());
+        for (String line : lines) {
+            Operation.writeLine(out, line);
+        }
+    }
+
+    private long firstLoggedSequence() {
+        return log.isEmpty() ? lastSequence + 1 : log.getFirst().getSequence();
+    }
+
+    /**
+     * Lists the logged operations from a number onwards, walking back from the newest so that a follower which is
+     * nearly up to date costs little however long the log is.
+     */
+    private List<Operation> operationsFrom(long sequence) {
+        List<Operation> operations = new ArrayList<>();
+        Iterator<Operation> newestFirst = log.descendingIterator();
+        while (newestFirst.hasNext()) {
+            Operation operation = newestFirst.next();
+            if (operation.getSequence() < sequence) {
+                break;
+            }
+            operations.add(operation);
+        }
+        Collections.reverse(operations);
+        return operations;
+    }
+
+    private void readAcks(Socket socket, DataInputStream in) {
+        try {
+            while (true) {
+                long sequence = in.readLong();
+                synchronized (this) {
+                    ackedSequence = Math.max(ackedSequence, sequence);
+                }
+            }
+        } catch (IOException e) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // the connection is closed either way
+            }
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+    }
+
+    private static void startThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
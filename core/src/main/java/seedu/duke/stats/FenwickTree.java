@@ -0,0 +1,87 @@
+package seedu.duke.stats;
+
+/**
+ * Represents a Fenwick tree, or binary indexed tree, over a fixed number of counters.
+ * Changing one counter and summing a range of counters both take O(log n).
+ */
+public class FenwickTree {
+    private final long[] tree;
+
+    /**
+     * Creates a tree of counters which all start at 0.
+     *
+     * @param size The number of counters.
+     */
+    public FenwickTree(int size) {
+        tree = new long[size + 1];
+    }
+
+    /**
+     * Creates a tree holding the given counters in O(n).
+     *
+     * @param values The starting values of the counters.
+     */
+    public FenwickTree(long[] values) {
+        tree = new long[values.length + 1];
+        System.arraycopy(values, 0, tree, 1, values.length);
+        for (int i = 1; i < tree.length; i++) {
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    public int size() {
+        return tree.length - 1;
+    }
+
+    /**
+     * Adds to one counter.
+     *
+     * @param index The zero-based index of the counter.
+     * @param delta The amount to add, which may be negative.
+     */
+    public void add(int index, long delta) {
+        assert index >= 0 && index < size() : index;
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Sums the counters before an index.
+     *
+     * @param end The index after the last counter to be summed.
+     * @return The sum of the counters from index 0 up to but not including end.
+     */
+    public long prefixSum(int end) {
+        assert end >= 0 && end <= size() : end;
+        long sum = 0;
+        for (int i = end; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Sums the counters in a range.
+     *
+     * @param from The index of the first counter to be summed.
+     * @param to The index after the last counter to be summed.
+     * @return The sum of the counters from index from up to but not including to.
+     */
+    public long rangeSum(int from, int to) {
+        return from >= to ? 0 : prefixSum(to) - prefixSum(from);
+    }
+
+    /**
+     * Gets the value of one counter.
+     *
+     * @param index The zero-based index of the counter.
+     * @return The value of the counter.
+     */
+    public long get(int index) {
+        return rangeSum(index, index + 1);
+    }
+}
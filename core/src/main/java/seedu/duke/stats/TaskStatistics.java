@@ -0,0 +1,168 @@
+package seedu.duke.stats;
+
+import seedu.duke.enums.TaskTypes;
+import seedu.duke.task.Deadline;
+import seedu.duke.task.Event;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskListObserver;
+
+import java.time.LocalDate;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts the open and done tasks of each type, and the open and done deadlines and events on each day.
+ * The counts follow the TaskList they observe, so they are never recounted: the day counts are kept in Fenwick
+ * trees keyed by epoch day, so the count over any range of dates takes O(log n), and the count of each type is O(1).
+ * Todos and recurring tasks have no fixed date, so they are only counted by type.
+ */
+public class TaskStatistics implements TaskListObserver {
+    private final DayCounts openByDay = new DayCounts();
+    private final DayCounts doneByDay = new DayCounts();
+    private final int[] openByType = new int[TaskTypes.values().length];
+    private final int[] doneByType = new int[TaskTypes.values().length];
+    private final Map<Task, Boolean> countedAsDone = new IdentityHashMap<>();
+
+    /**
+     * Creates the statistics of the given tasks.
+     *
+     * @param tasks The tasks to be counted.
+     */
+    public TaskStatistics(List<Task> tasks) {
+        for (Task task : tasks) {
+            count(task, 1);
+        }
+    }
+
+    /**
+     * Counts the given tasks once without keeping them, e.g. for a paged list whose tasks are not held in memory.
+     * The counts do not follow later changes, so they should not observe a TaskList.
+     *
+     * @param tasks The tasks to be counted.
+     * @return The statistics of the tasks.
+     */
+    public static TaskStatistics countOnce(List<Task> tasks) {
+        TaskStatistics statistics = new TaskStatistics(List.of());
+        for (Task task : tasks) {
+            statistics.count(task, task.isDone(), 1);
+        }
+        return statistics;
+    }
+
+    @Override
+    public synchronized void taskAdded(int index, Task task) {
+        count(task, 1);
+    }
+
+    @Override
+    public synchronized void taskStatusChanged(int index, Task task) {
+        Boolean wasDone = countedAsDone.get(task);
+        if (wasDone != null && wasDone != task.isDone()) {
+            count(task, wasDone, -1);
+            count(task, 1);
+        }
+    }
+
+    @Override
+    public synchronized void taskRemoved(int index, Task task) {
+        Boolean wasDone = countedAsDone.remove(task);
+        if (wasDone != null) {
+            count(task, wasDone, -1);
+        }
+    }
+
+    public synchronized int getOpenCount(TaskTypes type) {
+        return openByType[type.ordinal()];
+    }
+
+    public synchronized int getDoneCount(TaskTypes type) {
+        return doneByType[type.ordinal()];
+    }
+
+    /**
+     * Counts the deadlines and events that are not done and fall between two dates.
+     *
+     * @param from The first date of the range.
+     * @param to The last date of the range.
+     * @return The number of open deadlines and events in the range.
+     */
+    public synchronized long countOpen(LocalDate from, LocalDate to) {
+        return openByDay.sum(from.toEpochDay(), to.toEpochDay());
+    }
+
+    /**
+     * Counts the deadlines and events that are done and fall between two dates.
+     *
+     * @param from The first date of the range.
+     * @param to The last date of the range.
+     * @return The number of done deadlines and events in the range.
+     */
+    public synchronized long countDone(LocalDate from, LocalDate to) {
+        return doneByDay.sum(from.toEpochDay(), to.toEpochDay());
+    }
+
+    private void count(Task task, int delta) {
+        countedAsDone.put(task, task.isDone());
+        count(task, task.isDone(), delta);
+    }
+
+    private void count(Task task, boolean isDone, int delta) {
+        int type = task.getType().ordinal();
+        if (isDone) {
+            doneByType[type] += delta;
+        } else {
+            openByType[type] += delta;
+        }
+        if (task instanceof Deadline || task instanceof Event) {
+            (isDone ? doneByDay : openByDay).add(task.getDate().toEpochDay(), delta);
+        }
+    }
+
+    /**
+     * Represents counters for a window of epoch days held in a Fenwick tree.
+     * The window doubles in size to take in a day outside of it, which is rare once the dates in use are covered.
+     */
+    private static class DayCounts {
+        private static final int INITIAL_DAYS = 1024;
+
+        private long firstDay;
+        private FenwickTree tree;
+
+        private void add(long day, long delta) {
+            if (tree == null) {
+                firstDay = day - INITIAL_DAYS / 2;
+                tree = new FenwickTree(INITIAL_DAYS);
+            }
+            while (day < firstDay || day >= firstDay + tree.size()) {
+                grow(day < firstDay);
+            }
+            tree.add((int) (day - firstDay), delta);
+        }
+
+        private long sum(long fromDay, long toDay) {
+            if (tree == null) {
+                return 0;
+            }
+            long from = Math.max(fromDay, firstDay);
+            long to = Math.min(toDay + 1, firstDay + tree.size());
+            return from >= to ? 0 : tree.rangeSum((int) (from - firstDay), (int) (to - firstDay));
+        }
+
+        /**
+         * Doubles the window towards earlier or later days, keeping the counters already in it.
+         */
+        private void grow(boolean isEarlier) {
+            int size = tree.size();
+            long[] values = new long[size * 2];
+            int offset = isEarlier ? size : 0;
+            for (int i = 0; i < size; i++) {
+                values[offset + i] = tree.get(i);
+            }
+            if (isEarlier) {
+                firstDay -= size;
+            }
+            tree = new FenwickTree(values);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package seedu.duke.storage;
+
+import seedu.duke.exception.DukeException;
+import seedu.duke.task.Task;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps archived tasks in GZIP-compressed segment files inside a directory next to the hard disk file.
+ * Every archive run writes a new segment, and a segment is never changed once it has been written.
+ * A segment is written in full before the archived tasks are removed from the hard disk file, which is then
+ * replaced in one atomic move. A crash in between leaves the tasks both in the segment and in the list, so they
+ * may be found twice by find --all, but never lost.
+ */
+public class Archive implements Iterable<Task> {
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".gz";
+
+    private File directory;
+
+    /**
+     * Creates an archive kept in the given directory.
+     *
+     * @param directory The directory holding the segment files.
+     */
+    public Archive(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Writes the tasks into a new segment, which is synced to the disk and then renamed into place.
+     *
+     * @param tasks The tasks to be archived.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void append(List<Task> tasks) throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Cannot create archive directory " + directory);
+        }
+        List<File> segments = getSegments();
+        int number = segments.isEmpty() ? 1 : getNumber(segments.get(0)) + 1;
+        File segment = new File(directory, String.format("%s%06d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+        File partialSegment = new File(directory, segment.getName() + ".part");
+
+        FileOutputStream out = new FileOutputStream(partialSegment);
+        GZIPOutputStream gzip = new GZIPOutputStream(out);
+        BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8));
+        for (Task task : tasks) {
+            bw.write(Storage.toStorageString(task));
+            bw.write("\n");
+        }
+        bw.flush();
+        gzip.finish();
+        out.getFD().sync(); // on the disk before the tasks are removed from the hard disk file
+        bw.close();
+        if (!partialSegment.renameTo(segment)) {
+            throw new IOException("Cannot write archive segment " + segment);
+        }
+    }
+
+    /**
+     * Lists the segment files, newest first.
+     *
+     * @return The segment files.
+     */
+    public List<File> getSegments() {
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(SEGMENT_PREFIX)
+                && name.endsWith(SEGMENT_SUFFIX));
+        if (files == null) {
+            return new ArrayList<>();
+        }
+        List<File> segments = new ArrayList<>(Arrays.asList(files));
+        segments.sort(Comparator.comparingInt(Archive::getNumber).reversed());
+        return segments;
+    }
+
+    private static int getNumber(File segment) {
+        String name = segment.getName();
+        return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * Iterates over the archived tasks, newest segment first.
+     * Segments are opened one at a time as the iteration reaches them, so stopping early never reads the rest.
+     * A segment is closed once it has been read to its end; a caller that may stop early should close the
+     * iterator, e.g. through {@link #open}.
+     */
+    @Override
+    public Iterator<Task> iterator() {
+        return open();
+    }
+
+    /**
+     * Opens the archived tasks to be read, newest segment first, like {@link #iterator}.
+     *
+     * @return The reader of the archived tasks, to be closed once it is no longer read.
+     */
+    public Reader open() {
+        return new Reader(getSegments().iterator());
+    }
+
+    /**
+     * Reads the archived tasks one segment at a time.
+     */
+    public static class Reader implements Iterator<Task>, Closeable {
+        private final Iterator<File> segments;
+        private BufferedReader reader;
+        private Task next;
+
+        private Reader(Iterator<File> segments) {
+            this.segments = segments;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (next == null) {
+                    if (reader == null) {
+                        if (!segments.hasNext()) {
+                            return false;
+                        }
+                        reader = new BufferedReader(new InputStreamReader(
+                                new GZIPInputStream(new FileInputStream(segments.next())), StandardCharsets.UTF_8));
+                    }
+                    String line = reader.readLine();
+                    if (line == null) {
+                        close();
+                    } else if (!line.isBlank()) {
+                        next = Storage.toTask(line);
+                    }
+                }
+                return true;
+            } catch (IOException e) {
+                closeQuietly();
+                throw new UncheckedIOException(e);
+            } catch (DukeException e) { // segments are only written by Duke, so this line is unreadable
+                closeQuietly();
+                throw new UncheckedIOException(new IOException("Corrupted archive segment: " + e));
+            }
+        }
+
+        @Override
+        public Task next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Task task = next;
+            next = null;
+            return task;
+        }
+
+        /**
+         * Closes the segment being read, if any.
+         *
+         * @throws IOException If the segment cannot be closed.
+         */
+        @Override
+        public void close() throws IOException {
+            if (reader != null) {
+                BufferedReader openReader = reader;
+                reader = null;
+                openReader.close();
+            }
+        }
+
+        private void closeQuietly() {
+            try {
+                close();
+            } catch (IOException e) {
+                // the error being thrown already tells what went wrong
+            }
+        }
+    }
+}
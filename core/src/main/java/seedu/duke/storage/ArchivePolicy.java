@@ -0,0 +1,76 @@
+package seedu.duke.storage;
+
+import seedu.duke.task.Task;
+
+import java.time.LocalDate;
+
+/**
+ * Decides when done tasks are moved into the archive automatically.
+ * The policy is set with the system properties duke.archive.maxTasks, the number of tasks in the hard disk file
+ * above which done tasks are archived, and duke.archive.minAgeDays, how many days must have passed since the date
+ * of a done deadline or event before it is archived.
+ */
+public class ArchivePolicy {
+    private int maxTasks;
+    private int minAgeDays;
+    private int nextCheckSize;
+
+    /**
+     * Creates an archive policy.
+     *
+     * @param maxTasks The number of tasks above which done tasks are archived, or 0 to never archive automatically.
+     * @param minAgeDays The number of days since the date of a task before it is archived, or -1 for any done task.
+     */
+    public ArchivePolicy(int maxTasks, int minAgeDays) {
+        this.maxTasks = maxTasks;
+        this.minAgeDays = minAgeDays;
+        this.nextCheckSize = maxTasks + 1;
+    }
+
+    /**
+     * Creates the archive policy set by the system properties, which never archives if they are not set.
+     *
+     * @return The archive policy.
+     */
+    public static ArchivePolicy fromSystemProperties() {
+        return new ArchivePolicy(Integer.getInteger("duke.archive.maxTasks", 0),
+                Integer.getInteger("duke.archive.minAgeDays", -1));
+    }
+
+    /**
+     * Checks if the list has grown enough to try archiving again.
+     * After a run that leaves the list above the limit, the next try waits for the list to grow by a tenth of the
+     * limit, so the list is not rescanned on every addition.
+     *
+     * @param size The number of tasks in the list.
+     * @return true if done tasks should be archived now.
+     */
+    public boolean isDue(int size) {
+        if (maxTasks <= 0 || size < nextCheckSize) {
+            if (size <= maxTasks) {
+                nextCheckSize = maxTasks + 1;
+            }
+            return false;
+        }
+        nextCheckSize = size + Math.max(1, maxTasks / 10);
+        return true;
+    }
+
+    /**
+     * Checks if a task may be archived automatically.
+     *
+     * @param task The task to be checked.
+     * @param today The current date.
+     * @return true if the task is done and old enough.
+     */
+    public boolean isArchivable(Task task, LocalDate today) {
+        if (!task.isDone()) {
+            return false;
+        }
+        if (minAgeDays < 0) {
+            return true;
+        }
+        LocalDate date = task.getDate();
+        return date != null && date.isBefore(today.minusDays(minAgeDays));
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.duke.storage;
+
+/**
+ * A line of the hard disk that could not be read into a task when it was loaded. It is kept as a plain result
+ * rather than thrown, so that loading goes on past the line, and a file with a few bad lines loads as fast as one
+ * without.
+ */
+public class LoadError {
+    private final String fileName;
+    private final int lineNumber;
+    private final String line;
+    private final String reason;
+
+    /**
+     * Creates an error for a line that could not be read.
+     *
+     * @param fileName The name of the file the line is in.
+     * @param lineNumber The one-based number of the line in the file.
+     * @param line The line.
+     * @param reason Why the line could not be read.
+     */
+    public LoadError(String fileName, int lineNumber, String line, String reason) {
+        this.fileName = fileName;
+        this.lineNumber = lineNumber;
+        this.line = line;
+        this.reason = reason;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getLine() {
+        return line;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    @Override
+    public String toString() {
+        return fileName + " line " + lineNumber + ": " + reason;
+    }
+}
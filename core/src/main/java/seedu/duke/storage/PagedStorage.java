@@ -0,0 +1,242 @@
+package seedu.duke.storage;
+
+import seedu.duke.profiling.StorageEvent;
+import seedu.duke.profiling.StorageLoadEvent;
+import seedu.duke.task.Task;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates a hard disk that keeps the list itself in a page file, e.g. duke.pages next to duke.txt, so that only the
+ * pages in its cache are held in memory however long the list grows. The list given by load is the PagedTasks of
+ * the page file, so a change the TaskList makes to the list only has to be flushed to be saved, which every write
+ * below does. A task file left from before is moved into pages on the first load and kept as a backup.
+ * The page file cannot be shared with other Duke processes, so it has no journal.
+ */
+public class PagedStorage extends Storage {
+    private static final String EXTENSION = ".pages";
+
+    private final Path pageFile;
+    private final int cachePages;
+    private PagedTasks pages;
+
+    /**
+     * Creates a paged hard disk next to the given task file.
+     *
+     * @param filePath Relative path to the task file. Its tasks are moved into pages on the first load.
+     * @param cachePages The most pages to keep decoded in memory.
+     */
+    public PagedStorage(String filePath, int cachePages) {
+        super(filePath);
+        String fileName = Path.of(filePath).getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        pageFile = Path.of(filePath).toAbsolutePath().resolveSibling((dot > 0 ? fileName.substring(0, dot)
+                : fileName) + EXTENSION);
+        this.cachePages = cachePages;
+    }
+
+    /**
+     * Never takes a file for one of the hard disk, as the page file is only changed by this process.
+     */
+    @Override
+    public boolean isStorageFile(Path fileName) {
+        return false;
+    }
+
+    /**
+     * Does nothing, as the page file cannot be shared with other Duke processes.
+     */
+    @Override
+    public void openJournal() {
+
+    }
+
+    /**
+     * Opens the page file, moving the tasks of the task file into it first if there is none yet. Only the
+     * directory of pages is read now; the pages themselves are read as they are used.
+     *
+     * @return The list of tasks in the page file.
+     * @throws IOException If an input or output exception occurred.
+     */
+    @Override
+    public List<Task> load() throws IOException {
+        final StorageLoadEvent event = StorageLoadEvent.start();
+        if (pages == null) {
+            boolean isNew = !Files.exists(pageFile);
+            pages = PagedTasks.open(pageFile, cachePages);
+            if (isNew) {
+                migrate();
+            }
+        }
+        tasks = pages;
+        publishFirstPage(pages);
+        event.finish(pageFile.toString(), 1, 0, pages.size());
+        return pages;
+    }
+
+    /**
+     * Moves the tasks of the task file into pages, reading it twice so that only a page of it is held at a time:
+     * once for the highest id, and once to add the tasks, giving new ids to those without one. The pages are then
+     * sorted and the task file is kept as a backup. Lines that cannot be read are moved to the quarantine file
+     * instead. If the task file cannot be read at all, the page file is deleted.
+     */
+    private void migrate() throws IOException {
+        Path flatFile = Path.of(filePath);
+        if (!Files.exists(flatFile)) {
+            return;
+        }
+        try {
+            long maxId = 0;
+            try (BufferedReader reader = Files.newBufferedReader(flatFile)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    maxId = Math.max(maxId, idOf(line));
+                }
+            }
+            List<LoadError> errors = new ArrayList<>();
+            try (BufferedReader reader = Files.newBufferedReader(flatFile)) {
+                String line;
+                int lineNumber = 0;
+                while ((line = reader.readLine()) != null) {
+                    Task task = toTaskOrNull(line, flatFile.getFileName().toString(), ++lineNumber, errors);
+                    if (task == null) {
+                        continue;
+                    }
+                    if (task.getId() <= 0) {
+                        task.setId(++maxId);
+                    }
+                    pages.add(task);
+                }
+            }
+            pages.sort(null);
+            pages.flush();
+            quarantine(errors);
+        } catch (IOException | RuntimeException e) {
+            pages.delete();
+            pages = null;
+            throw e;
+        }
+        Files.move(flatFile, flatFile.resolveSibling(flatFile.getFileName() + ".bak"),
+                StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Writes the pages changed in memory and the directory of pages.
+     */
+    private void flush() throws IOException {
+        try (StorageEvent event = StorageEvent.start("flush", pageFile.toString())) {
+            pages.flush();
+            event.finish(0, pages.size());
+        }
+    }
+
+    /**
+     * Reads the lines of every task in the page file, which holds them all in memory at once.
+     *
+     * @return The lines of the hard disk.
+     */
+    @Override
+    public List<String> readLines() {
+        List<String> lines = new ArrayList<>(pages.size());
+        for (Task task : pages) {
+            lines.add(toStorageString(task));
+        }
+        return lines;
+    }
+
+    @Override
+    public void sortStorage() throws IOException {
+        pages.sort(null);
+        flush();
+    }
+
+    @Override
+    public void deleteAllInStorage() throws IOException {
+        pages.clear();
+        flush();
+    }
+
+    @Override
+    public void addAllToStorage(List<Task> sortedTasks) throws IOException {
+        if (sortedTasks != pages) {
+            pages.addAll(sortedTasks);
+        }
+        flush();
+    }
+
+    @Override
+    public void addToStorage(Task task) throws IOException {
+        pages.add(task);
+        flush();
+    }
+
+    /**
+     * Saves a task added to the list. As the list is the page file, the task is only inserted if the list does not
+     * hold it at its index number yet.
+     *
+     * @param index The index number of the task.
+     * @param task The task.
+     * @throws IOException If an input or output exception occurred.
+     */
+    @Override
+    public void insertInStorage(int index, Task task) throws IOException {
+        if (index > pages.size() || pages.get(index - 1) != task) {
+            pages.add(index - 1, task);
+        }
+        flush();
+    }
+
+    @Override
+    public void replaceInStorage(int index, Task task) throws IOException {
+        pages.set(index - 1, task);
+        flush();
+    }
+
+    /**
+     * Saves the list after a task was removed from it, which already removed the task from the page file.
+     *
+     * @param index The index number the task had.
+     * @throws IOException If an input or output exception occurred.
+     */
+    @Override
+    public void deleteInStorage(int index) throws IOException {
+        flush();
+    }
+
+    @Override
+    public void deleteInStorage(int index, Task task) throws IOException {
+        if (index <= pages.size() && pages.get(index - 1) == task) {
+            pages.remove(index - 1);
+        }
+        flush();
+    }
+
+    @Override
+    public void changeToStorage(int index, boolean isDone) throws IOException {
+        Task task = pages.get(index - 1);
+        task.setDone(isDone);
+        pages.set(index - 1, task);
+        flush();
+    }
+
+    /**
+     * Saves the given tasks. If they are the list of the page file, only the pages changed in memory are written.
+     *
+     * @param tasks The tasks to be saved.
+     * @throws IOException If an input or output exception occurred.
+     */
+    @Override
+    public void rewriteStorage(List<Task> tasks) throws IOException {
+        if (tasks != pages) {
+            pages.clear();
+            pages.addAll(tasks);
+        }
+        flush();
+    }
+}
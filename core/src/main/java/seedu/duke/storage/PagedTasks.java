@@ -0,0 +1,757 @@
+package seedu.duke.storage;
+
+import seedu.duke.exception.DukeException;
+import seedu.duke.task.Task;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.RandomAccess;
+
+/**
+ * Keeps a list of tasks in a page file, e.g. duke.pages, instead of in memory, so that a list of any length only
+ * takes as much memory as its page cache. The file is split into slots of PAGE_BYTES, each holding a page of up to
+ * PAGE_TASKS consecutive tasks saved as lines, and a page that grows past either limit is split in two.
+ * The order of the pages is kept in a directory of slots and task counts, saved next to the file, e.g.
+ * duke.pages.index, and a task is found by its position with a binary search over the first position of each page.
+ * Only the most recently used pages are kept decoded, in an LRU cache. A page is written back when it leaves the
+ * cache or the list is flushed, and only if its content changed. A page missed right after the page before it is
+ * taken as a sequential read, e.g. to list the tasks, so the pages after it are read ahead in one read.
+ * Errors while reading or writing the file are thrown as UncheckedIOException, as a List cannot throw IOException.
+ */
+public class PagedTasks extends AbstractList<Task> implements RandomAccess, Closeable {
+    /** The size of a slot in the page file. */
+    static final int PAGE_BYTES = 4096;
+    /** The most tasks in a page, so that inserting into a page stays cheap. */
+    static final int PAGE_TASKS = 64;
+    /** The number of pages kept decoded if no other number is given. */
+    public static final int DEFAULT_CACHE_PAGES = 64;
+    private static final int READ_AHEAD_PAGES = 8;
+    private static final String INDEX_EXTENSION = ".index";
+    private static final int INDEX_VERSION = 1;
+
+    private final Path file;
+    private final Path indexFile;
+    private final int cachePages;
+    private final List<Page> pages = new ArrayList<>();
+    private final PriorityQueue<Integer> freeSlots = new PriorityQueue<>();
+    private final Map<Page, CachedPage> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private FileChannel channel;
+    private int slotCount;
+    private int size;
+    private long maxId;
+    private int[] firstIndexes;
+    private int lastMissedPage = -2;
+    private long readCount;
+
+    private PagedTasks(Path file, int cachePages) {
+        this.file = file;
+        this.cachePages = cachePages;
+        indexFile = file.resolveSibling(file.getFileName() + INDEX_EXTENSION);
+    }
+
+    /**
+     * Opens a page file, creating it if there is none yet.
+     *
+     * @param file The page file.
+     * @param cachePages The most pages to keep decoded in memory.
+     * @return The list of tasks in the page file.
+     * @throws IOException If the page file or its index cannot be read.
+     */
+    public static PagedTasks open(Path file, int cachePages) throws IOException {
+        if (cachePages < 1) {
+            throw new IllegalArgumentException("The page cache must hold at least one page");
+        }
+        PagedTasks tasks = new PagedTasks(file, cachePages);
+        if (!Files.exists(file)) {
+            Files.deleteIfExists(tasks.indexFile); // left from a page file that was deleted
+        }
+        tasks.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            tasks.readIndex();
+        } catch (IOException e) {
+            tasks.channel.close();
+            throw e;
+        }
+        return tasks;
+    }
+
+    private void readIndex() throws IOException {
+        if (!Files.exists(indexFile)) {
+            if (channel.size() > 0) {
+                throw new IOException("The page index " + indexFile + " is missing");
+            }
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != INDEX_VERSION) {
+                throw new IOException("The page index " + indexFile + " cannot be read");
+            }
+            maxId = in.readLong();
+            slotCount = in.readInt();
+            int pageCount = in.readInt();
+            boolean[] isUsed = new boolean[slotCount];
+            for (int i = 0; i < pageCount; i++) {
+                Page page = new Page(in.readInt(), in.readInt());
+                pages.add(page);
+                isUsed[page.slot] = true;
+                size += page.count;
+            }
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (!isUsed[slot]) {
+                    freeSlots.add(slot);
+                }
+            }
+        }
+    }
+
+    /**
+     * Saves the directory of pages, replacing the old one in a single move once the new one is written.
+     */
+    private void writeIndex() throws IOException {
+        Path partialFile = indexFile.resolveSibling(indexFile.getFileName() + ".part");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(partialFile)))) {
+            out.writeInt(INDEX_VERSION);
+            out.writeLong(maxId);
+            out.writeInt(slotCount);
+            out.writeInt(pages.size());
+            for (Page page : pages) {
+                out.writeInt(page.slot);
+                out.writeInt(page.count);
+            }
+        }
+        Files.move(partialFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Task get(int index) {
+        Objects.checkIndex(index, size);
+        int pageIndex = pageOf(index);
+        Task task = load(pageIndex).tasks.get(index - getFirstIndexes()[pageIndex]);
+        evictOverflow();
+        return task;
+    }
+
+    @Override
+    public Task set(int index, Task task) {
+        Objects.checkIndex(index, size);
+        int pageIndex = pageOf(index);
+        Task oldTask = load(pageIndex).tasks.set(index - getFirstIndexes()[pageIndex], task);
+        maxId = Math.max(maxId, task.getId());
+        evictOverflow();
+        return oldTask;
+    }
+
+    /**
+     * Inserts a task into the page that holds its position. A full page is split in half, or, when the task is
+     * added at the end of the list, only the new task moves to a new page, so that appending fills every page.
+     */
+    @Override
+    public void add(int index, Task task) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (pages.isEmpty()) {
+            Page page = new Page(takeFreeSlot(), 0);
+            pages.add(page);
+            cache.put(page, new CachedPage(page, new ArrayList<>(), null));
+            firstIndexes = null;
+        }
+        int pageIndex = index == size ? pages.size() - 1 : pageOf(index);
+        CachedPage cached = load(pageIndex);
+        cached.tasks.add(index - getFirstIndexes()[pageIndex], task);
+        cached.page.count++;
+        shiftFirstIndexes(pageIndex, 1);
+        size++;
+        maxId = Math.max(maxId, task.getId());
+        if (cached.page.count > PAGE_TASKS) {
+            CachedPage next = split(pageIndex, cached, index == size - 1 ? PAGE_TASKS : PAGE_TASKS / 2);
+            cache.put(next.page, next);
+        }
+        modCount++;
+        evictOverflow();
+    }
+
+    @Override
+    public Task remove(int index) {
+        Objects.checkIndex(index, size);
+        int pageIndex = pageOf(index);
+        CachedPage cached = load(pageIndex);
+        Task task = cached.tasks.remove(index - getFirstIndexes()[pageIndex]);
+        shrink(pageIndex, cached);
+        evictOverflow();
+        return task;
+    }
+
+    /**
+     * Counts a task taken out of a page, dropping the page once it is empty so that its slot is used again.
+     */
+    private void shrink(int pageIndex, CachedPage cached) {
+        cached.page.count--;
+        size--;
+        if (cached.page.count == 0) {
+            pages.remove(pageIndex);
+            cache.remove(cached.page);
+            freeSlots.add(cached.page.slot);
+            firstIndexes = null;
+        } else {
+            shiftFirstIndexes(pageIndex, -1);
+        }
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        pages.clear();
+        cache.clear();
+        freeSlots.clear();
+        slotCount = 0;
+        size = 0;
+        firstIndexes = null;
+        lastMissedPage = -2;
+        try {
+            channel.truncate(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        modCount++;
+    }
+
+    /**
+     * Sorts the list, which costs one pass over it if it is sorted already. Otherwise the list is sorted on disk
+     * without holding more of it than half the page cache: runs of that many tasks are sorted in memory and written
+     * to a scratch file, and then merged, as many runs at a time as the pages in half the cache, until one run is
+     * left, which becomes the page file.
+     *
+     * @param comparator The order of the tasks, or null for their natural order.
+     */
+    @Override
+    public void sort(Comparator<? super Task> comparator) {
+        Comparator<? super Task> order = comparator != null ? comparator : Comparator.<Task>naturalOrder();
+        if (isSortedBy(order)) {
+            return;
+        }
+        try {
+            sortOnDisk(order);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        modCount++;
+    }
+
+    private boolean isSortedBy(Comparator<? super Task> order) {
+        Task previousTask = null;
+        for (int i = 0; i < size; i++) {
+            Task task = get(i);
+            if (previousTask != null && order.compare(previousTask, task) > 0) {
+                return false;
+            }
+            previousTask = task;
+        }
+        return true;
+    }
+
+    private void sortOnDisk(Comparator<? super Task> order) throws IOException {
+        int runSize = Math.max(1, cachePages / 2) * PAGE_TASKS;
+        int mergeSize = Math.max(2, cachePages / 2);
+        Path runFile = file.resolveSibling(file.getFileName() + ".sort");
+        Path mergeFile = file.resolveSibling(file.getFileName() + ".merge");
+        List<Run> runs = new ArrayList<>();
+        try (FileChannel out = FileChannel.open(runFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            RunWriter writer = new RunWriter(out);
+            for (int start = 0; start < size; start += runSize) {
+                List<Task> run = new ArrayList<>(subList(start, Math.min(size, start + runSize)));
+                run.sort(order);
+                runs.add(writer.write(run.iterator()));
+            }
+        }
+        while (runs.size() > 1) {
+            List<Run> mergedRuns = new ArrayList<>();
+            try (FileChannel in = FileChannel.open(runFile, StandardOpenOption.READ);
+                    FileChannel out = FileChannel.open(mergeFile, StandardOpenOption.CREATE,
+                            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                RunWriter writer = new RunWriter(out);
+                for (int i = 0; i < runs.size(); i += mergeSize) {
+                    mergedRuns.add(writer.write(merge(in, runs.subList(i, Math.min(runs.size(), i + mergeSize)),
+                            order)));
+                }
+            }
+            Files.move(mergeFile, runFile, StandardCopyOption.REPLACE_EXISTING);
+            runs = mergedRuns;
+        }
+
+        channel.close();
+        Files.move(runFile, file, StandardCopyOption.REPLACE_EXISTING);
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        pages.clear();
+        cache.clear(); // every cached task was read into the runs, changes included
+        freeSlots.clear();
+        firstIndexes = null;
+        lastMissedPage = -2;
+        List<Integer> counts = runs.get(0).counts; // the only run starts at the first slot
+        for (int slot = 0; slot < counts.size(); slot++) {
+            pages.add(new Page(slot, counts.get(slot)));
+        }
+        slotCount = pages.size();
+        writeIndex();
+    }
+
+    /**
+     * Merges sorted runs of a scratch file, taking the smallest head of the runs each time, and the head of the
+     * earlier run first when they are equal.
+     */
+    private static Iterator<Task> merge(FileChannel in, List<Run> runs, Comparator<? super Task> order) {
+        PriorityQueue<RunReader> heads = new PriorityQueue<>((a, b) -> {
+            int cmp = order.compare(a.peek(), b.peek());
+            return cmp != 0 ? cmp : Integer.compare(a.number, b.number);
+        });
+        for (int i = 0; i < runs.size(); i++) {
+            RunReader reader = new RunReader(in, runs.get(i), i);
+            if (reader.hasNext()) {
+                heads.add(reader);
+            }
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public Task next() {
+                if (heads.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                RunReader reader = heads.poll();
+                Task task = reader.next();
+                if (reader.hasNext()) {
+                    heads.add(reader);
+                }
+                return task;
+            }
+        };
+    }
+
+    /**
+     * Writes the pages changed in memory to the page file, and then the directory of pages.
+     *
+     * @throws IOException If the page file cannot be written.
+     */
+    public void flush() throws IOException {
+        try {
+            for (CachedPage cached : new ArrayList<>(cache.values())) {
+                save(cached);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writeIndex();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Closes the page file without saving it and deletes it with its index, e.g. when it could not be filled.
+     *
+     * @throws IOException If the files cannot be deleted.
+     */
+    public void delete() throws IOException {
+        channel.close();
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(indexFile);
+    }
+
+    /**
+     * Gets the highest id of a task that was ever in the list, so that new tasks can be given ids after it.
+     *
+     * @return The highest id, or 0 if no task had an id.
+     */
+    public long getMaxId() {
+        return maxId;
+    }
+
+    public int getPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * Gets how many tasks fit in half the page cache, e.g. to index the list one such chunk at a time.
+     *
+     * @return The number of tasks.
+     */
+    public int getChunkSize() {
+        return Math.max(1, cachePages / 2) * PAGE_TASKS;
+    }
+
+    /**
+     * Counts the reads from the page file so far, where pages read ahead together count as one read.
+     *
+     * @return The number of reads.
+     */
+    public long getReadCount() {
+        return readCount;
+    }
+
+    private int pageOf(int index) {
+        int[] firsts = getFirstIndexes();
+        int low = 0;
+        int high = firsts.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (firsts[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Gets the position of the first task of every page, which is worked out again after pages are split or
+     * removed, and otherwise kept up to date as tasks are added and removed.
+     */
+    private int[] getFirstIndexes() {
+        if (firstIndexes == null) {
+            firstIndexes = new int[pages.size()];
+            int first = 0;
+            for (int i = 0; i < pages.size(); i++) {
+                firstIndexes[i] = first;
+                first += pages.get(i).count;
+            }
+        }
+        return firstIndexes;
+    }
+
+    private void shiftFirstIndexes(int pageIndex, int delta) {
+        if (firstIndexes == null) {
+            return;
+        }
+        for (int i = pageIndex + 1; i < firstIndexes.length; i++) {
+            firstIndexes[i] += delta;
+        }
+    }
+
+    private int takeFreeSlot() {
+        return freeSlots.isEmpty() ? slotCount++ : freeSlots.poll();
+    }
+
+    /**
+     * Moves the tasks of a page from a position on into a new page right after it. The new page is not cached.
+     */
+    private CachedPage split(int pageIndex, CachedPage cached, int position) {
+        List<Task> movedTasks = cached.tasks.subList(position, cached.tasks.size());
+        Page page = new Page(takeFreeSlot(), movedTasks.size());
+        pages.add(pageIndex + 1, page);
+        firstIndexes = null;
+        cached.page.count = position;
+        CachedPage next = new CachedPage(page, new ArrayList<>(movedTasks), null);
+        movedTasks.clear();
+        return next;
+    }
+
+    /**
+     * Gets a page from the cache, or reads it from the page file, reading ahead if the page before it was the
+     * latest page read. Slots next to each other in the file are read together. The cache may grow past its size
+     * until evictOverflow is called, so that no page moves while an operation uses it.
+     */
+    private CachedPage load(int pageIndex) {
+        Page page = pages.get(pageIndex);
+        CachedPage cached = cache.get(page);
+        if (cached != null) {
+            return cached;
+        }
+        int last = pageIndex;
+        if (pageIndex == lastMissedPage + 1) {
+            last = Math.min(pages.size() - 1, pageIndex + Math.min(READ_AHEAD_PAGES, cachePages - 1));
+        }
+        lastMissedPage = last;
+        int first = pageIndex;
+        while (first <= last) {
+            int end = first;
+            while (end < last && pages.get(end + 1).slot == pages.get(end).slot + 1
+                    && !cache.containsKey(pages.get(end + 1))) {
+                end++;
+            }
+            read(first, end);
+            first = end + 1;
+            while (first <= last && cache.containsKey(pages.get(first))) {
+                first++;
+            }
+        }
+        return cache.get(page); // the page read first is used first
+    }
+
+    private void read(int firstPage, int lastPage) {
+        int count = lastPage - firstPage + 1;
+        ByteBuffer buffer = ByteBuffer.allocate(count * PAGE_BYTES);
+        readSlots(channel, pages.get(firstPage).slot, buffer);
+        readCount++;
+        for (int i = 0; i < count; i++) {
+            Page page = pages.get(firstPage + i);
+            String content = decode(buffer, i * PAGE_BYTES, page.slot);
+            cache.put(page, new CachedPage(page, toTasks(content, page.count, page.slot), content));
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<CachedPage> cachedPages = cache.values().iterator();
+        while (cache.size() > cachePages) {
+            save(cachedPages.next());
+            cachedPages.remove();
+        }
+    }
+
+    /**
+     * Writes a page to its slot if its content changed since it was read or written, splitting it first if it has
+     * grown too long for a slot.
+     */
+    private void save(CachedPage cached) {
+        String content = encode(cached.tasks);
+        if (content.equals(cached.savedContent)) {
+            return;
+        }
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        if (Integer.BYTES + bytes.length > PAGE_BYTES) {
+            if (cached.tasks.size() == 1) {
+                throw new UncheckedIOException(new IOException("The task is too long to be saved: " + content));
+            }
+            CachedPage next = split(pages.indexOf(cached.page), cached, cached.tasks.size() / 2);
+            save(cached);
+            save(next);
+            return;
+        }
+        try {
+            writeSlot(channel, cached.page.slot, bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        cached.savedContent = content;
+    }
+
+    private static String encode(List<Task> tasks) {
+        StringBuilder content = new StringBuilder();
+        for (Task task : tasks) {
+            if (content.length() > 0) {
+                content.append('\n');
+            }
+            content.append(Storage.toStorageString(task));
+        }
+        return content.toString();
+    }
+
+    private String decode(ByteBuffer buffer, int offset, int slot) {
+        int length = buffer.getInt(offset);
+        if (length < 0 || length > PAGE_BYTES - Integer.BYTES) {
+            throw new UncheckedIOException(new IOException("Slot " + slot + " of " + file + " is damaged"));
+        }
+        return new String(buffer.array(), offset + Integer.BYTES, length, StandardCharsets.UTF_8);
+    }
+
+    private List<Task> toTasks(String content, int count, int slot) {
+        List<Task> tasks = new ArrayList<>(count + 1);
+        if (!content.isEmpty()) {
+            for (String line : content.split("\n")) {
+                try {
+                    tasks.add(Storage.toTask(line));
+                } catch (DukeException e) {
+                    throw new UncheckedIOException(new IOException("Slot " + slot + " of " + file
+                            + " holds a line that cannot be read: " + line, e));
+                }
+            }
+        }
+        if (tasks.size() != count) {
+            throw new UncheckedIOException(new IOException("Slot " + slot + " of " + file + " is damaged"));
+        }
+        return tasks;
+    }
+
+    private static void readSlots(FileChannel in, int firstSlot, ByteBuffer buffer) {
+        long position = (long) firstSlot * PAGE_BYTES;
+        try {
+            while (buffer.hasRemaining() && in.read(buffer, position + buffer.position()) >= 0) {
+                continue; // the last slot of the file is only as long as its content
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeSlot(FileChannel out, int slot, byte[] content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + content.length);
+        buffer.putInt(content.length).put(content).flip();
+        long position = (long) slot * PAGE_BYTES;
+        while (buffer.hasRemaining()) {
+            out.write(buffer, position + buffer.position());
+        }
+    }
+
+    /**
+     * Represents a page in the directory: the slot it is saved in and the number of tasks in it.
+     */
+    private static class Page {
+        private final int slot;
+        private int count;
+
+        private Page(int slot, int count) {
+            this.slot = slot;
+            this.count = count;
+        }
+    }
+
+    /**
+     * Represents a decoded page, with the content it had when it was last read or written.
+     */
+    private static class CachedPage {
+        private final Page page;
+        private final List<Task> tasks;
+        private String savedContent;
+
+        private CachedPage(Page page, List<Task> tasks, String savedContent) {
+            this.page = page;
+            this.tasks = tasks;
+            this.savedContent = savedContent;
+        }
+    }
+
+    /**
+     * Represents a sorted run in a scratch file: pages in consecutive slots from a first slot on.
+     */
+    private static class Run {
+        private final int firstSlot;
+        private final List<Integer> counts = new ArrayList<>();
+
+        private Run(int firstSlot) {
+            this.firstSlot = firstSlot;
+        }
+    }
+
+    /**
+     * Writes runs one after another into a scratch file, filling every page as far as it goes.
+     */
+    private static class RunWriter {
+        private final FileChannel out;
+        private int nextSlot;
+
+        private RunWriter(FileChannel out) {
+            this.out = out;
+        }
+
+        private Run write(Iterator<Task> tasks) throws IOException {
+            Run run = new Run(nextSlot);
+            List<String> lines = new ArrayList<>();
+            int length = 0;
+            while (tasks.hasNext()) {
+                String line = Storage.toStorageString(tasks.next());
+                int lineLength = line.getBytes(StandardCharsets.UTF_8).length + 1;
+                if (!lines.isEmpty() && (lines.size() == PAGE_TASKS
+                        || Integer.BYTES + length + lineLength > PAGE_BYTES)) {
+                    writePage(run, lines);
+                    lines.clear();
+                    length = 0;
+                }
+                lines.add(line);
+                length += lineLength;
+            }
+            if (!lines.isEmpty()) {
+                writePage(run, lines);
+            }
+            return run;
+        }
+
+        private void writePage(Run run, List<String> lines) throws IOException {
+            byte[] content = String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+            if (Integer.BYTES + content.length > PAGE_BYTES) {
+                throw new IOException("The task is too long to be saved: " + lines.get(0));
+            }
+            writeSlot(out, nextSlot++, content);
+            run.counts.add(lines.size());
+        }
+    }
+
+    /**
+     * Reads the tasks of a run from a scratch file, one page at a time.
+     */
+    private static class RunReader {
+        private final FileChannel in;
+        private final Run run;
+        private final int number;
+        private int page;
+        private List<Task> tasks = new ArrayList<>();
+        private int position;
+
+        private RunReader(FileChannel in, Run run, int number) {
+            this.in = in;
+            this.run = run;
+            this.number = number;
+        }
+
+        private boolean hasNext() {
+            while (position == tasks.size() && page < run.counts.size()) {
+                ByteBuffer buffer = ByteBuffer.allocate(PAGE_BYTES);
+                readSlots(in, run.firstSlot + page, buffer);
+                int length = buffer.getInt(0);
+                if (length < 0 || length > PAGE_BYTES - Integer.BYTES) {
+                    throw new UncheckedIOException(new IOException("A page of a sorted run is damaged"));
+                }
+                tasks = new ArrayList<>(run.counts.get(page));
+                for (String line : new String(buffer.array(), Integer.BYTES, length, StandardCharsets.UTF_8)
+                        .split("\n")) {
+                    try {
+                        tasks.add(Storage.toTask(line));
+                    } catch (DukeException e) {
+                        throw new UncheckedIOException(new IOException("A sorted run holds a line that cannot be"
+                                + " read: " + line, e));
+                    }
+                }
+                position = 0;
+                page++;
+            }
+            return position < tasks.size();
+        }
+
+        private Task peek() {
+            return tasks.get(position);
+        }
+
+        private Task next() {
+            return tasks.get(position++);
+        }
+    }
+}
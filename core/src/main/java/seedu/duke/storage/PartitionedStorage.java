@@ -0,0 +1,529 @@
+package seedu.duke.storage;
+
+import seedu.duke.exception.DukeException;
+import seedu.duke.profiling.StorageEvent;
+import seedu.duke.profiling.StorageLoadEvent;
+import seedu.duke.task.Deadline;
+import seedu.duke.task.Event;
+import seedu.duke.task.Recurring;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskIdIndex;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Creates a hard disk that keeps its tasks in one file per partition instead of one file for everything: a file for
+ * each month of deadlines and events, e.g. 2020-01.txt, one for todos and one for recurring tasks, all in a folder
+ * named after the task file, e.g. duke.d. A change to a task only rewrites the file of its partition.
+ * Each file is kept in the order of the list, so the files are loaded in parallel and then merged into one list.
+ */
+public class PartitionedStorage extends Storage {
+    private static final String EXTENSION = ".txt";
+    private static final String TODO_PARTITION = "todo";
+    private static final String RECURRING_PARTITION = "recurring";
+
+    private final Path directory;
+    private final List<Task> savedTasks = new ArrayList<>();
+    private final Map<String, Partition> partitions = new TreeMap<>();
+    private final Map<Task, Partition> owners = new IdentityHashMap<>();
+
+    /**
+     * Creates a partitioned hard disk next to the given task file.
+     *
+     * @param filePath Relative path to the task file. Its tasks are moved into partitions on the first load.
+     */
+    public PartitionedStorage(String filePath) {
+        super(filePath);
+        String fileName = Path.of(filePath).getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        directory = Path.of(filePath).toAbsolutePath().resolveSibling((dot > 0 ? fileName.substring(0, dot)
+                : fileName) + ".d");
+    }
+
+    /**
+     * Gets the partition a task is saved in, which only depends on its type and date.
+     *
+     * @param task The task.
+     * @return The name of the partition, e.g. "2020-01", "todo" or "recurring".
+     */
+    public static String partitionOf(Task task) {
+        if (task instanceof Deadline || task instanceof Event) {
+            return YearMonth.from(task.getDate()).toString();
+        } else if (task instanceof Recurring) {
+            return RECURRING_PARTITION;
+        } else {
+            return TODO_PARTITION;
+        }
+    }
+
+    @Override
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public boolean isStorageFile(Path fileName) {
+        return fileName.toString().endsWith(EXTENSION);
+    }
+
+    /**
+     * Does nothing, as the partitions saved are kept in memory and cannot be shared with other Duke processes.
+     */
+    @Override
+    public void openJournal() {
+
+    }
+
+    /**
+     * Loads every partition at the same time on the common fork-join pool, sorting each one, and merges the sorted
+     * partitions into one list. A task file left from before is moved into partitions first and kept as a backup.
+     * Partitions whose order changed, or which hold tasks of another partition after being edited by hand, are
+     * saved again. Lines that cannot be read are moved to the quarantine file first, so the partitions they were
+     * in are saved again without them.
+     *
+     * @return A task list with content from the hard disk.
+     * @throws IOException If an input or output exception occurred.
+     */
+    @Override
+    public List<Task> load() throws IOException {
+        final StorageLoadEvent event = StorageLoadEvent.start();
+        List<LoadError> errors = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            Files.createDirectories(directory);
+            errors.addAll(migrate());
+        }
+
+        List<Callable<LoadedFile>> loads = new ArrayList<>();
+        for (Path file : listFiles()) {
+            loads.add(() -> LoadedFile.read(file));
+        }
+        List<LoadedFile> loadedFiles = new ArrayList<>();
+        for (Future<LoadedFile> result : ForkJoinPool.commonPool().invokeAll(loads)) {
+            loadedFiles.add(getLoadedFile(result));
+        }
+
+        List<List<Task>> sortedPartitions = new ArrayList<>();
+        long bytesRead = 0;
+        for (LoadedFile loadedFile : loadedFiles) {
+            sortedPartitions.add(loadedFile.tasks);
+            errors.addAll(loadedFile.errors);
+            bytesRead += loadedFile.content.length();
+        }
+        quarantine(errors);
+        tasks = merge(sortedPartitions, Comparator.naturalOrder());
+        publishFirstPage(tasks);
+        loadMaxId();
+        TaskIdIndex.assignIds(tasks, getMaxId());
+
+        resetPartitions(tasks);
+        for (LoadedFile loadedFile : loadedFiles) {
+            String name = loadedFile.file.getFileName().toString();
+            Partition partition = partitions.get(name.substring(0, name.length() - EXTENSION.length()));
+            if (partition == null) {
+                Files.delete(loadedFile.file); // all of its tasks belong in other partitions
+            } else {
+                partition.savedContent = loadedFile.content;
+            }
+        }
+        saveAll();
+        event.finish(directory.toString(), loadedFiles.size(), bytesRead, tasks.size());
+        return tasks;
+    }
+
+    private static LoadedFile getLoadedFile(Future<LoadedFile> result) throws IOException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Moves the tasks of the task file into partitions, and keeps the task file as a backup.
+     *
+     * @return The lines of the task file that could not be read, which are left out of the partitions.
+     */
+    private List<LoadError> migrate() throws IOException {
+        Path flatFile = Path.of(filePath);
+        if (!Files.exists(flatFile)) {
+            return List.of();
+        }
+        List<Task> flatTasks = new ArrayList<>();
+        List<String> lines = Files.readAllLines(flatFile);
+        List<LoadError> errors = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            Task task = toTaskOrNull(lines.get(i), flatFile.getFileName().toString(), i + 1, errors);
+            if (task != null) {
+                flatTasks.add(task);
+            }
+        }
+        Collections.sort(flatTasks);
+        resetPartitions(flatTasks);
+        saveAll();
+        Files.move(flatFile, flatFile.resolveSibling(flatFile.getFileName() + ".bak"),
+                StandardCopyOption.REPLACE_EXISTING);
+        return errors;
+    }
+
+    private List<Path> listFiles() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        }
+        Collections.sort(files);
+        return files;
+    }
+
+    /**
+     * Merges lists that are each sorted into one sorted list, taking the smallest head of the lists each time.
+     * Equal items are taken from the earlier list first.
+     *
+     * @param sortedLists The sorted lists.
+     * @param comparator The order the lists are sorted in.
+     * @param <T> The type of the items.
+     * @return The merged list.
+     */
+    static <T> List<T> merge(List<List<T>> sortedLists, Comparator<? super T> comparator) {
+        int size = 0;
+        for (List<T> list : sortedLists) {
+            size += list.size();
+        }
+        PriorityQueue<int[]> heads = new PriorityQueue<>((a, b) -> {
+            int cmp = comparator.compare(sortedLists.get(a[0]).get(a[1]), sortedLists.get(b[0]).get(b[1]));
+            return cmp != 0 ? cmp : Integer.compare(a[0], b[0]);
+        });
+        for (int i = 0; i < sortedLists.size(); i++) {
+            if (!sortedLists.get(i).isEmpty()) {
+                heads.add(new int[] {i, 0});
+            }
+        }
+        List<T> merged = new ArrayList<>(size);
+        while (!heads.isEmpty()) {
+            int[] head = heads.poll();
+            List<T> list = sortedLists.get(head[0]);
+            merged.add(list.get(head[1]));
+            if (++head[1] < list.size()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Reads the lines of every partition in the order of the list. While the partitions hold what was last saved,
+     * that is the order of the saved tasks, and no line is parsed; after they were edited by hand, the partitions
+     * are merged by their tasks, with lines that cannot be read at the end.
+     *
+     * @return The lines of the hard disk.
+     * @throws IOException If an input or output exception occurred.
+     */
+    @Override
+    public List<String> readLines() throws IOException {
+        try (StorageEvent event = StorageEvent.start("readLines", directory.toString())) {
+            List<Path> files = Files.isDirectory(directory) ? listFiles() : List.of();
+            List<String> contents = new ArrayList<>();
+            boolean isUnchanged = files.size() == partitions.size();
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                String content = Files.readString(file);
+                Partition partition = partitions.get(name.substring(0, name.length() - EXTENSION.length()));
+                isUnchanged &= partition != null && content.equals(partition.savedContent);
+                contents.add(content);
+            }
+
+            List<String> lines = new ArrayList<>();
+            if (isUnchanged) {
+                for (Task task : savedTasks) {
+                    lines.add(toStorageString(task));
+                }
+                event.finish(0, lines.size());
+                return lines;
+            }
+
+            List<List<Map.Entry<Task, String>>> sortedPartitions = new ArrayList<>();
+            List<String> unreadableLines = new ArrayList<>();
+            for (String content : contents) {
+                List<Map.Entry<Task, String>> entries = new ArrayList<>();
+                content.lines().forEach(line -> {
+                    try {
+                        entries.add(new AbstractMap.SimpleImmutableEntry<>(toTask(line), line));
+                    } catch (DukeException e) {
+                        unreadableLines.add(line);
+                    }
+                });
+                entries.sort(Map.Entry.comparingByKey());
+                sortedPartitions.add(entries);
+            }
+            for (Map.Entry<Task, String> entry : merge(sortedPartitions, Map.Entry.comparingByKey())) {
+                lines.add(entry.getValue());
+            }
+            lines.addAll(unreadableLines);
+            event.finish(0, lines.size());
+            return lines;
+        }
+    }
+
+    @Override
+    public void deleteAllInStorage() throws IOException {
+        resetPartitions(List.of());
+        for (Path file : listFiles()) {
+            Files.delete(file);
+        }
+    }
+
+    @Override
+    public void addAllToStorage(List<Task> sortedTasks) throws IOException {
+        List<Partition> changed = new ArrayList<>();
+        for (Task task : sortedTasks) {
+            changed.add(add(savedTasks.size(), task));
+        }
+        for (Partition partition : changed) {
+            save(partition);
+        }
+    }
+
+    @Override
+    public void addToStorage(Task task) throws IOException {
+        save(add(savedTasks.size(), task));
+    }
+
+    @Override
+    public void insertInStorage(int index, Task task) throws IOException {
+        save(add(index - 1, task));
+    }
+
+    /**
+     * Saves a changed task in its partition. The task is found by itself rather than by its index number if it
+     * was saved before, so a list that was sorted since cannot make another task be replaced.
+     *
+     * @param index The index number of the task.
+     * @param task The task as it should be saved.
+     * @throws IOException If an input or output exception occurred.
+     */
+    @Override
+    public void replaceInStorage(int index, Task task) throws IOException {
+        Partition partition = owners.get(task);
+        if (partition != null) {
+            save(partition);
+            return;
+        }
+        Partition oldPartition = remove(index - 1);
+        Partition newPartition = add(index - 1, task);
+        if (oldPartition != newPartition) {
+            save(oldPartition);
+        }
+        save(newPartition);
+    }
+
+    @Override
+    public void deleteInStorage(int index) throws IOException {
+        save(remove(index - 1));
+    }
+
+    @Override
+    public void deleteInStorage(int index, Task task) throws IOException {
+        if (!owners.containsKey(task)) {
+            deleteInStorage(index);
+            return;
+        }
+        for (int i = 0; i < savedTasks.size(); i++) {
+            if (savedTasks.get(i) == task) {
+                save(remove(i));
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void changeToStorage(int index, boolean isDone) throws IOException {
+        Task task = savedTasks.get(index - 1);
+        Partition partition = owners.get(task);
+        String line = toStorageString(task);
+        String changedLine = line.substring(0, 4) + (isDone ? "Y" : "N") + line.substring(5);
+        StringBuilder content = new StringBuilder();
+        for (Task partitionTask : partition.tasks) {
+            if (content.length() > 0) {
+                content.append("\n");
+            }
+            content.append(partitionTask == task ? changedLine : toStorageString(partitionTask));
+        }
+        write(partition, content.toString());
+    }
+
+    /**
+     * Saves the given tasks, rewriting only the partitions whose content changed.
+     *
+     * @param tasks The tasks to be saved.
+     * @throws IOException If an input or output exception occurred.
+     */
+    @Override
+    public void rewriteStorage(List<Task> tasks) throws IOException {
+        Map<String, String> oldContents = new TreeMap<>();
+        for (Map.Entry<String, Partition> entry : partitions.entrySet()) {
+            oldContents.put(entry.getKey(), entry.getValue().savedContent);
+        }
+        resetPartitions(tasks);
+        for (Map.Entry<String, String> entry : oldContents.entrySet()) {
+            Partition partition = partitions.computeIfAbsent(entry.getKey(), this::newPartition);
+            partition.savedContent = entry.getValue();
+        }
+        saveAll();
+    }
+
+    private void resetPartitions(List<Task> tasks) {
+        savedTasks.clear();
+        partitions.clear();
+        owners.clear();
+        for (Task task : tasks) {
+            Partition partition = partitions.computeIfAbsent(partitionOf(task), this::newPartition);
+            partition.tasks.add(task);
+            owners.put(task, partition);
+            savedTasks.add(task);
+        }
+    }
+
+    private Partition newPartition(String name) {
+        return new Partition(directory.resolve(name + EXTENSION));
+    }
+
+    /**
+     * Adds a task to the saved tasks and to its partition. The tasks of a partition are kept sorted like the list,
+     * so the task goes where binary search puts it within its own partition, without looking at the tasks of any
+     * other partition. A task added at the end of the list goes at the end of its partition.
+     *
+     * @return The partition of the task.
+     */
+    private Partition add(int index, Task task) {
+        Partition partition = partitions.computeIfAbsent(partitionOf(task), this::newPartition);
+        int position = partition.tasks.size();
+        if (index < savedTasks.size()) {
+            position = Collections.binarySearch(partition.tasks, task);
+            position = position < 0 ? -position - 1 : position;
+        }
+        partition.tasks.add(position, task);
+        owners.put(task, partition);
+        savedTasks.add(index, task);
+        return partition;
+    }
+
+    private Partition remove(int index) {
+        Task task = savedTasks.remove(index);
+        Partition partition = owners.remove(task);
+        for (int i = 0; i < partition.tasks.size(); i++) {
+            if (partition.tasks.get(i) == task) {
+                partition.tasks.remove(i);
+                break;
+            }
+        }
+        return partition;
+    }
+
+    private void saveAll() throws IOException {
+        for (Partition partition : new ArrayList<>(partitions.values())) {
+            save(partition);
+        }
+    }
+
+    private void save(Partition partition) throws IOException {
+        recordIds(partition.tasks);
+        StringBuilder content = new StringBuilder();
+        for (Task task : partition.tasks) {
+            if (content.length() > 0) {
+                content.append("\n");
+            }
+            content.append(toStorageString(task));
+        }
+        write(partition, content.toString());
+    }
+
+    /**
+     * Writes a partition if its content changed, and deletes its file once it holds no tasks.
+     */
+    private void write(Partition partition, String content) throws IOException {
+        if (partition.tasks.isEmpty()) {
+            Files.deleteIfExists(partition.file);
+            partitions.values().remove(partition);
+            return;
+        }
+        if (!content.equals(partition.savedContent)) {
+            try (StorageEvent event = StorageEvent.start("writePartition", partition.file.toString())) {
+                Files.writeString(partition.file, content);
+                partition.savedContent = content;
+                event.finish(content.length(), partition.tasks.size());
+            }
+        }
+    }
+
+    /**
+     * Represents the tasks of one partition, in the order of the list, and what its file held when it was last
+     * read or written.
+     */
+    private static class Partition {
+        private final Path file;
+        private final List<Task> tasks = new ArrayList<>();
+        private String savedContent;
+
+        private Partition(Path file) {
+            this.file = file;
+        }
+    }
+
+    /**
+     * Represents a partition file as it was read, with its tasks sorted and the lines that could not be read.
+     */
+    private static class LoadedFile {
+        private final Path file;
+        private final String content;
+        private final List<Task> tasks;
+        private final List<LoadError> errors;
+
+        private LoadedFile(Path file, String content, List<Task> tasks, List<LoadError> errors) {
+            this.file = file;
+            this.content = content;
+            this.tasks = tasks;
+            this.errors = errors;
+        }
+
+        private static LoadedFile read(Path file) throws IOException {
+            String content = Files.readString(file);
+            List<Task> tasks = new ArrayList<>();
+            List<LoadError> errors = new ArrayList<>();
+            int lineNumber = 0;
+            for (String line : (Iterable<String>) content.lines()::iterator) {
+                Task task = toTaskOrNull(line, file.getFileName().toString(), ++lineNumber, errors);
+                if (task != null) {
+                    tasks.add(task);
+                }
+            }
+            Collections.sort(tasks);
+            return new LoadedFile(file, content, tasks, errors);
+        }
+    }
+}
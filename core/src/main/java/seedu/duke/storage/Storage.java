@@ -0,0 +1,1086 @@
+package seedu.duke.storage;
+
+import seedu.duke.enums.Priority;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InvalidDateException;
+import seedu.duke.exception.InvalidInputFormatException;
+import seedu.duke.profiling.StorageEvent;
+import seedu.duke.profiling.StorageLoadEvent;
+import seedu.duke.task.Deadline;
+import seedu.duke.task.Recurring;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskIdIndex;
+import seedu.duke.task.Todo;
+import seedu.duke.task.Event;
+import seedu.duke.ui.Ui;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Creates a hard disk that allows user to add, delete, or modify the content of the file.
+ */
+public class Storage {
+    private static final String ID_PREFIX = "@";
+    /**
+     * A | that is not escaped with a backslash, as a | inside a description is.
+     */
+    private static final String FIELD_SEPARATOR = "(?<!\\\\)\\|";
+    private static final String ESCAPED_SEPARATOR = "\\|";
+    private static final Pattern LABELS = Pattern.compile("\\s*([#!]\\S+|@\\d+)(\\s+([#!]\\S+|@\\d+))*\\s*");
+    private static final String QUARANTINE_EXTENSION = ".quarantine";
+    private static final String PARTIAL_EXTENSION = ".part";
+    private static final String IDS_EXTENSION = ".ids";
+
+    String filePath;
+    List<Task> tasks;
+    private Archive archive;
+    private StorageJournal journal;
+    private Consumer<List<Task>> firstPageListener;
+    private int firstPageSize;
+    private List<LoadError> loadErrors = new ArrayList<>();
+    private long maxId;
+    private Map<Long, Integer> recordPositions = new HashMap<>();
+
+    /**
+     * Creates a hard disk to store and load the user's task list.
+     *
+     * @param filePath Relative path to the file that is being opened.
+     */
+    public Storage(String filePath) {
+        this.filePath = filePath;
+        archive = new Archive(new File(new File(filePath).getAbsoluteFile().getParentFile(), "archive"));
+    }
+
+    /**
+     * Creates the hard disk chosen by the system property duke.storage.layout: one file by default, one file per
+     * partition when it is "partitioned", or a page file when it is "paged", which keeps as many pages in memory as
+     * the system property duke.storage.cachePages, or 64 if it is not set.
+     *
+     * @param filePath Relative path to the task file.
+     * @return The hard disk.
+     */
+    public static Storage fromSystemProperties(String filePath) {
+        String layout = System.getProperty("duke.storage.layout");
+        if ("partitioned".equals(layout)) {
+            return new PartitionedStorage(filePath);
+        } else if ("paged".equals(layout)) {
+            return new PagedStorage(filePath, Integer.getInteger("duke.storage.cachePages",
+                    PagedTasks.DEFAULT_CACHE_PAGES));
+        }
+        return new Storage(filePath);
+    }
+
+    public Archive getArchive() {
+        return archive;
+    }
+
+    /**
+     * Sets a listener that the next load gives the first tasks of the sorted list to as soon as they are known,
+     * before the rest of the list is ready, e.g. to show them while it is loading. The listener is called once, on
+     * the loading thread, and the tasks may change after it returns.
+     *
+     * @param size The number of tasks in the first page.
+     * @param listener The listener.
+     */
+    public void setFirstPageListener(int size, Consumer<List<Task>> listener) {
+        firstPageSize = size;
+        firstPageListener = listener;
+    }
+
+    /**
+     * Gives the first page of the sorted list to the first page listener, if one is waiting for it.
+     *
+     * @param sortedTasks The first tasks of the list, or all of them, in order.
+     */
+    void publishFirstPage(List<Task> sortedTasks) {
+        if (firstPageListener != null) {
+            Consumer<List<Task>> listener = firstPageListener;
+            firstPageListener = null;
+            listener.accept(new ArrayList<>(sortedTasks.subList(0, Math.min(firstPageSize, sortedTasks.size()))));
+        }
+    }
+
+    /**
+     * Starts sharing the task file safely with other Duke processes, through a StorageJournal next to it.
+     * Writes are then recorded in the journal, and should be made while holding the lock given by {@link #lock}.
+     *
+     * @throws IOException If the journal cannot be opened.
+     */
+    public void openJournal() throws IOException {
+        if (journal == null) {
+            journal = StorageJournal.open(Path.of(filePath));
+        }
+    }
+
+    /**
+     * Gets the journal shared with other Duke processes.
+     *
+     * @return The journal, or null if the task file is not shared.
+     */
+    public StorageJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Locks the task file against other Duke processes, if it is shared with them.
+     *
+     * @return The hold of the lock, to be closed once the task file is no longer read or written.
+     * @throws IOException If the lock cannot be taken.
+     */
+    public Closeable lock() throws IOException {
+        if (journal == null) {
+            return () -> { };
+        }
+        return journal.lock();
+    }
+
+    private void recordSaved(Task task) throws IOException {
+        if (journal != null) {
+            journal.recordSaved(toStorageString(task));
+        }
+    }
+
+    private void recordDeleted(Task task) throws IOException {
+        if (journal != null) {
+            journal.recordDeleted(task.getId());
+        }
+    }
+
+    private void recordRewritten() throws IOException {
+        if (journal != null) {
+            journal.recordRewritten();
+        }
+    }
+
+    /**
+     * Gets the folder that holds the files of the hard disk, e.g. to watch it for changes.
+     *
+     * @return The folder.
+     */
+    public Path getDirectory() {
+        return Path.of(filePath).toAbsolutePath().getParent();
+    }
+
+    /**
+     * Checks if a file in the folder of the hard disk is one of its files.
+     *
+     * @param fileName The name of the file.
+     * @return true if the file is part of the hard disk.
+     */
+    public boolean isStorageFile(Path fileName) {
+        return Path.of(filePath).getFileName().equals(fileName);
+    }
+
+    //@@author johannagwan-reused
+    //Reused from https://www.w3schools.com/java/java_files_create.asp with minor modifications.
+    /**
+     * Creates new file when the data file specified in the file path does not exist.
+     */
+    public void makeNewFile() {
+        Ui ui = new Ui();
+        try {
+            String newFilePath = "duke.txt";
+            File newFile = new File(newFilePath);
+            if (!newFile.createNewFile()) {
+                ui.printDuplicateFile();
+            } else { // if file is successfully created, change the file path to the new one.
+                filePath = newFilePath;
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Loads the content of the hard disk into a list of tasks that user can see.
+     * If a first page listener is set, the first tasks are kept in a bounded heap while the file is read, so that
+     * they can be published before the whole list is sorted, given ids and saved.
+     * Lines that cannot be read are moved to the quarantine file, and the rest of the tasks are loaded.
+     *
+     * @return A task list with content from the hard disk.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public List<Task> load() throws IOException {
+        Closeable lock = lock();
+        try (lock) {
+            final StorageLoadEvent event = StorageLoadEvent.start();
+            tasks = new ArrayList<>();
+            List<String> lines = new ArrayList<>();
+            PriorityQueue<Task> lastFirst = firstPageListener == null ? null
+                    : new PriorityQueue<>(Collections.reverseOrder());
+            List<LoadError> errors = new ArrayList<>();
+            String inputLine;
+            File file = new File(filePath);
+            String fileName = file.getName();
+            final long bytesRead = file.length();
+            FileReader fr = new FileReader(file);
+            BufferedReader br = new BufferedReader(fr);
+            int lineNumber = 0;
+            while ((inputLine = br.readLine()) != null) {
+                Task task = toTaskOrNull(inputLine, fileName, ++lineNumber, errors);
+                if (task == null) {
+                    continue;
+                }
+                tasks.add(task);
+                lines.add(inputLine);
+                if (lastFirst != null && (lastFirst.size() < firstPageSize || task.compareTo(lastFirst.peek()) < 0)) {
+                    lastFirst.offer(task);
+                    if (lastFirst.size() > firstPageSize) {
+                        lastFirst.poll();
+                    }
+                }
+            }
+            br.close();
+            if (journal != null) {
+                journal.markSynced();
+            }
+            if (lastFirst != null) {
+                List<Task> firstPage = new ArrayList<>(lastFirst);
+                Collections.sort(firstPage);
+                publishFirstPage(firstPage);
+            }
+
+            quarantine(errors);
+            Collections.sort(tasks);
+            loadMaxId();
+            TaskIdIndex.assignIds(tasks, maxId);
+            recordIds(tasks);
+            // sorted, given ids, or without the lines left out, so it is saved again in one write
+            if (lines.size() < lineNumber || !isSavedAs(tasks, lines)) {
+                rewriteStorage(tasks);
+            }
+            event.finish(filePath, 1, bytesRead, tasks.size());
+            return tasks;
+        }
+    }
+
+    /**
+     * Reads a line of the hard disk into a task, noting the line as an error instead of throwing if it cannot be
+     * read, so that loading goes on past it. Blank lines are skipped.
+     *
+     * @param line The line.
+     * @param fileName The name of the file the line is in.
+     * @param lineNumber The one-based number of the line in the file.
+     * @param errors The errors so far, which the line is added to if it cannot be read.
+     * @return The task, or null if the line is blank or cannot be read.
+     */
+    static Task toTaskOrNull(String line, String fileName, int lineNumber, List<LoadError> errors) {
+        if (line.isBlank()) {
+            return null;
+        }
+        try {
+            return toTask(line);
+        } catch (DukeException e) {
+            String reason = e instanceof InvalidDateException ? e.toString() : "Not in the format of a task";
+            errors.add(new LoadError(fileName, lineNumber, line, reason));
+            return null;
+        }
+    }
+
+    /**
+     * Appends the lines that could not be loaded to the quarantine file next to the task file, e.g.
+     * duke.txt.quarantine, each after a comment telling where it was and why it could not be read. This is done
+     * before the hard disk is saved without them, so that none of them is lost. The errors are kept until the next
+     * load, to be told to the user.
+     *
+     * @param errors The lines that could not be loaded.
+     * @throws IOException If the quarantine file cannot be written.
+     */
+    void quarantine(List<LoadError> errors) throws IOException {
+        loadErrors = errors;
+        if (errors.isEmpty()) {
+            return;
+        }
+        StringBuilder content = new StringBuilder();
+        for (LoadError error : errors) {
+            content.append("# ").append(error).append("\n").append(error.getLine()).append("\n");
+        }
+        Files.writeString(getQuarantineFile(), content, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Gets the lines that could not be read by the latest load, which were moved to the quarantine file.
+     *
+     * @return The errors, with the numbers of the lines in their files.
+     */
+    public List<LoadError> getLoadErrors() {
+        return loadErrors;
+    }
+
+    public Path getQuarantineFile() {
+        return Path.of(filePath + QUARANTINE_EXTENSION);
+    }
+
+    /**
+     * Gets the highest id ever given to a task saved in the hard disk, even if that task has been deleted since.
+     * It is kept in a file next to the task file, e.g. duke.txt.ids, so that ids are never given out twice, even
+     * after a restart.
+     *
+     * @return The highest id, or 0 if no task has been given one.
+     */
+    public long getMaxId() {
+        return maxId;
+    }
+
+    /**
+     * Reads the highest id ever given from the file next to the task file. If it is missing or cannot be read, the
+     * ids of the loaded tasks are all there is to go by.
+     */
+    void loadMaxId() {
+        try {
+            maxId = Math.max(maxId, Long.parseLong(Files.readString(Path.of(filePath + IDS_EXTENSION)).trim()));
+        } catch (IOException | NumberFormatException e) {
+            // the ids of the loaded tasks are used instead
+        }
+    }
+
+    /**
+     * Saves the highest id of the given tasks if it is higher than any given before.
+     *
+     * @param tasks The tasks being saved.
+     * @throws IOException If the file of the highest id cannot be written.
+     */
+    void recordIds(List<Task> tasks) throws IOException {
+        long highestId = 0;
+        for (Task task : tasks) {
+            highestId = Math.max(highestId, task.getId());
+        }
+        recordId(highestId);
+    }
+
+    /**
+     * Saves an id as the highest ever given if it is higher, through a temporary file so that it is never half
+     * written.
+     *
+     * @param id The id of a task being saved.
+     * @throws IOException If the file of the highest id cannot be written.
+     */
+    void recordId(long id) throws IOException {
+        if (id <= maxId) {
+            return;
+        }
+        maxId = id;
+        Path idsFile = Path.of(filePath + IDS_EXTENSION);
+        Path partialFile = idsFile.resolveSibling(idsFile.getFileName() + PARTIAL_EXTENSION);
+        Files.writeString(partialFile, String.valueOf(maxId));
+        Files.move(partialFile, idsFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static boolean isSavedAs(List<Task> tasks, List<String> lines) {
+        for (int i = 0; i < tasks.size(); i++) {
+            if (!toStorageString(tasks.get(i)).equals(lines.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sorts the content inside the hard disk according to due dates and alphabetical order.
+     *
+     * @throws InvalidInputFormatException If an input is keyed in a wrong format.
+     * @throws InvalidDateException If a date is input in a wrong format.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void sortStorage() throws InvalidInputFormatException, InvalidDateException, IOException {
+        List<Task> tasksInStorage = new ArrayList<>();
+        tasksInStorage = load();
+        Collections.sort(tasksInStorage);
+        deleteAllInStorage();
+        addAllToStorage(tasksInStorage);
+    }
+
+    /**
+     * Deletes all content inside the hard disk.
+     *
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void deleteAllInStorage() throws IOException {
+        try (StorageEvent event = StorageEvent.start("deleteAll", filePath)) {
+            writeAtomically(new byte[0]);
+            recordRewritten();
+            event.finish(0, 0);
+        }
+    }
+
+    /**
+     * Adds all the sorted tasks into the hard disk.
+     *
+     * @param sortedTasks The list of sorted tasks.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void addAllToStorage(List<Task> sortedTasks) throws IOException {
+        try (StorageEvent event = StorageEvent.start("addAll", filePath)) {
+            for (Task task : sortedTasks) {
+                addToStorage(task);
+            }
+            event.finish(() -> new File(filePath).length(), sortedTasks.size());
+        }
+    }
+
+    /**
+     * Replaces the content of the hard disk with the given tasks in a single write. The tasks are written to a
+     * file next to it, which then replaces it in one atomic move, so a crash never leaves it half written.
+     *
+     * @param tasks The tasks to be saved.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void rewriteStorage(List<Task> tasks) throws IOException {
+        try (StorageEvent event = StorageEvent.start("rewrite", filePath)) {
+            StringBuilder data = new StringBuilder();
+            for (Task task : tasks) {
+                appendLine(data, toStorageString(task));
+            }
+
+            byte[] bytes = data.toString().getBytes();
+            writeAtomically(bytes);
+            recordIds(tasks);
+            recordRewritten();
+            event.finish(bytes.length, tasks.size());
+        }
+    }
+
+    /**
+     * Reads the lines of the hard disk as they are, e.g. to compare them with the tasks in memory.
+     *
+     * @return The lines of the hard disk.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public List<String> readLines() throws IOException {
+        try (StorageEvent event = StorageEvent.start("readLines", filePath)) {
+            List<String> lines = Files.readAllLines(Path.of(filePath));
+            event.finish(0, lines.size());
+            return lines;
+        }
+    }
+
+    /**
+     * Converts a line in the hard disk into the task it represents. The last field is only read as the labels of the
+     * task if it holds nothing else, so a line saved before a | in a description was escaped is still read whole.
+     *
+     * @param inputLine The line to be converted.
+     * @return The task represented by the line.
+     * @throws InvalidInputFormatException If the line is written in a wrong format.
+     * @throws InvalidDateException If a date is written in a wrong format.
+     */
+    public static Task toTask(String inputLine) throws InvalidInputFormatException, InvalidDateException {
+        String[] inputs = inputLine.split(FIELD_SEPARATOR, 3);
+        if (inputs.length < 3) {
+            throw new InvalidInputFormatException();
+        }
+        String type = inputs[0].trim();
+        String doneStatus = inputs[1].trim();
+        String desc = inputs[2].trim();
+        String labels = "";
+        String[] fields = inputLine.split(FIELD_SEPARATOR, -1);
+        if (fields.length > getFieldCount(type) && LABELS.matcher(fields[fields.length - 1]).matches()) {
+            labels = fields[fields.length - 1];
+            desc = desc.substring(0, lastSeparatorIndex(desc)).trim();
+        }
+
+        Task task;
+        if (type.equalsIgnoreCase("T")) {
+            task = toTodo(unescape(desc), doneStatus);
+        } else if (type.equalsIgnoreCase("D")) {
+            task = toDeadline(desc, doneStatus);
+        } else if (type.equalsIgnoreCase("E")) {
+            task = toEvent(desc, doneStatus);
+        } else if (type.equalsIgnoreCase("R")) {
+            task = toRecurring(desc, doneStatus);
+        } else {
+            throw new InvalidInputFormatException();
+        }
+        setLabels(task, labels);
+        return task;
+    }
+
+    private static int lastSeparatorIndex(String fields) {
+        int index = fields.lastIndexOf('|');
+        while (index > 0 && fields.charAt(index - 1) == '\\') {
+            index = fields.lastIndexOf('|', index - 1);
+        }
+        return index;
+    }
+
+    /**
+     * Escapes every | in a description, so that it cannot be taken for the end of a field.
+     *
+     * @param description The description.
+     * @return The description as it is saved in a line.
+     */
+    private static String escape(String description) {
+        return description.replace("|", ESCAPED_SEPARATOR);
+    }
+
+    private static String unescape(String description) {
+        return description.replace(ESCAPED_SEPARATOR, "|");
+    }
+
+    /**
+     * Gets the number of fields in the line of a type of task, not counting the optional field for its labels.
+     *
+     * @param type The letter of the type of task.
+     * @return The number of fields, or 0 if the type is unknown.
+     */
+    public static int getFieldCount(String type) {
+        switch (type.trim().toUpperCase()) {
+        case "T":
+            return 3;
+        case "D":
+        case "E":
+            return 4;
+        case "R":
+            return 7;
+        default:
+            return 0;
+        }
+    }
+
+    /**
+     * Sets the id, priority and tags of a task from its labels in the hard disk, e.g. "@17 !high #work #home".
+     */
+    private static void setLabels(Task task, String labels) throws InvalidInputFormatException {
+        Set<String> tags = new TreeSet<>();
+        for (String label : labels.trim().split("\\s+")) {
+            if (label.isEmpty()) {
+                continue;
+            } else if (label.startsWith("#") && label.length() > 1) {
+                tags.add(label.substring(1));
+            } else if (label.startsWith("!")) {
+                task.setPriority(toPriority(label.substring(1)));
+            } else if (label.startsWith(ID_PREFIX)) {
+                task.setId(toId(label.substring(ID_PREFIX.length())));
+            } else {
+                throw new InvalidInputFormatException();
+            }
+        }
+        task.setTags(tags);
+    }
+
+    private static long toId(String id) throws InvalidInputFormatException {
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            throw new InvalidInputFormatException();
+        }
+    }
+
+    /**
+     * Converts the name of a priority, in any case, into the priority.
+     *
+     * @param name The name of the priority.
+     * @return The priority.
+     * @throws InvalidInputFormatException If there is no priority with the name.
+     */
+    public static Priority toPriority(String name) throws InvalidInputFormatException {
+        try {
+            return Priority.valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputFormatException();
+        }
+    }
+
+    /**
+     * Loads a todo task from the hard disk.
+     *
+     * @param desc The details of the todo task.
+     * @param doneStatus An indicator which shows whether a todo task has been completed or not.
+     * @return The todo task.
+     */
+    private static Task toTodo(String desc, String doneStatus) {
+        Task todo = new Todo(desc);
+        if (doneStatus.equalsIgnoreCase("Y")) {
+            todo.markAsDone();
+            assert todo.isDone();
+        }
+        return todo;
+    }
+
+    /**
+     * Loads a deadline task from the hard disk.
+     *
+     * @param desc The details of the deadline task.
+     * @param doneStatus An indicator which shows whether a deadline task has been completed or not.
+     * @return The deadline task.
+     * @throws InvalidInputFormatException If an input is keyed in a wrong format.
+     * @throws InvalidDateException If a date is input in a wrong format.
+     */
+    private static Task toDeadline(String desc, String doneStatus)
+            throws InvalidInputFormatException, InvalidDateException {
+        String[] descs = desc.split(" /by |" + FIELD_SEPARATOR);
+        if (descs.length == 1) { // invalid Deadline input format
+            throw new InvalidInputFormatException();
+        }
+
+        String deadlineDesc = unescape(descs[0].trim());
+        String deadlineDate = descs[1].trim();
+
+        if (deadlineDate.length() != 10) {
+            throw new InvalidDateException();
+        }
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+        LocalDate formattedDeadlineDate = null;
+        if (deadlineDate.length() == 10 && isValidDate(deadlineDate)) {
+            formattedDeadlineDate = LocalDate.parse(deadlineDate);
+        } else {
+            throw new InvalidDateException();
+        }
+
+        Task deadline = new Deadline(deadlineDesc, formattedDeadlineDate);
+
+        if (doneStatus.equalsIgnoreCase("Y")) {
+            deadline.markAsDone();
+        }
+        return deadline;
+    }
+
+    /**
+     * Loads an event task from the hard disk.
+     *
+     * @param desc The details of the event task.
+     * @param doneStatus An indicator which shows whether an event task has been completed or not.
+     * @return The event task.
+     * @throws InvalidInputFormatException If an input is keyed in a wrong format.
+     * @throws InvalidDateException If a date is input in a wrong format.
+     */
+    private static Task toEvent(String desc, String doneStatus)
+            throws InvalidInputFormatException, InvalidDateException {
+        String[] descs = desc.split(" /at |" + FIELD_SEPARATOR);
+        if (descs.length == 1) { // invalid Event input format
+            throw new InvalidInputFormatException();
+        }
+        String eventDesc = unescape(descs[0].trim());
+        String eventDate = descs[1].trim();
+
+        LocalDate formattedEventDate = null;
+        if (eventDate.length() == 10 && isValidDate(eventDate)) {
+            formattedEventDate = LocalDate.parse(eventDate);
+        } else {
+            throw new InvalidDateException();
+        }
+        Task event = new Event(eventDesc, formattedEventDate);
+
+        if (doneStatus.equalsIgnoreCase("Y")) {
+            event.markAsDone();
+        }
+
+        return event;
+    }
+
+    /**
+     * Loads a recurring task from the hard disk, with the numbers of its done occurrences.
+     *
+     * @param desc The details of the recurring task.
+     * @param doneStatus An indicator which shows whether every occurrence has been completed or not.
+     * @return The recurring task.
+     * @throws InvalidInputFormatException If an input is keyed in a wrong format.
+     * @throws InvalidDateException If a date is input in a wrong format.
+     */
+    private static Task toRecurring(String desc, String doneStatus)
+            throws InvalidInputFormatException, InvalidDateException {
+        String[] descs = desc.split(FIELD_SEPARATOR);
+        if (descs.length != 5) { // invalid Recurring input format
+            throw new InvalidInputFormatException();
+        }
+        String startDate = descs[1].trim();
+        String endDate = descs[3].trim();
+        if (!isValidFullDate(startDate) || !(endDate.equals("-") || isValidFullDate(endDate))) {
+            throw new InvalidDateException();
+        }
+
+        Set<Long> doneOccurrences = new TreeSet<>();
+        int intervalDays;
+        try {
+            intervalDays = Integer.parseInt(descs[2].trim());
+            String occurrences = descs[4].trim();
+            if (!occurrences.equals("-")) {
+                for (String occurrence : occurrences.split(",")) {
+                    doneOccurrences.add(Long.parseLong(occurrence.trim()));
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new InvalidInputFormatException();
+        }
+        if (intervalDays < 1) {
+            throw new InvalidInputFormatException();
+        }
+
+        Recurring recurring = new Recurring(unescape(descs[0].trim()), LocalDate.parse(startDate), intervalDays,
+                endDate.equals("-") ? null : LocalDate.parse(endDate));
+        recurring.setDoneOccurrences(doneOccurrences);
+        recurring.setDone(doneStatus.equalsIgnoreCase("Y"));
+        return recurring;
+    }
+
+    private static boolean isValidFullDate(String date) {
+        return date.length() == 10 && isValidDate(date);
+    }
+
+    /**
+     * Replaces the task in the hard disk at the index number given, e.g. after one occurrence of it has been done.
+     *
+     * @param index The index number of the task that is being replaced.
+     * @param task The task as it should be saved.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void replaceInStorage(int index, Task task) throws IOException {
+        try (StorageEvent event = StorageEvent.start("replace", filePath)) {
+            List<String> lines = readLines();
+            int lineIndex = indexOfRecord(lines, index, task);
+            long bytesWritten = 0;
+            if (lineIndex < lines.size()) {
+                lines.set(lineIndex, toStorageString(task));
+                bytesWritten = writeLines(lines);
+                recordId(task.getId());
+                recordSaved(task);
+            }
+            event.finish(bytesWritten, lines.size());
+        }
+    }
+
+    /**
+     * Finds the line of a task by its id, so that the right line is changed even if the hard disk is not in the
+     * order of the list. The line at the index number of the task is tried first, then the line the task was last
+     * found on; only if neither holds it are the ids of all the lines read again into the index of lines by id.
+     * Tasks without an id, or whose id is not saved yet, are found by their index number.
+     *
+     * @param lines The lines of the hard disk.
+     * @param index The index number of the task in the list.
+     * @param task The task.
+     * @return The zero-based position of the line of the task.
+     */
+    private int indexOfRecord(List<String> lines, int index, Task task) {
+        long id = task.getId();
+        if (id <= 0 || isRecordAt(lines, index - 1, id)) {
+            return index - 1;
+        }
+        Integer position = recordPositions.get(id);
+        if (position != null && isRecordAt(lines, position, id)) {
+            return position;
+        }
+        recordPositions.clear();
+        for (int i = 0; i < lines.size(); i++) {
+            long lineId = idOf(lines.get(i));
+            if (lineId > 0) {
+                recordPositions.put(lineId, i);
+            }
+        }
+        position = recordPositions.get(id);
+        return position == null ? index - 1 : position;
+    }
+
+    private static boolean isRecordAt(List<String> lines, int position, long id) {
+        return position >= 0 && position < lines.size() && idOf(lines.get(position)) == id;
+    }
+
+    /**
+     * Reads the id saved in a line of the hard disk, e.g. 17 in "T | N | read book | @17 #home".
+     *
+     * @param line The line.
+     * @return The id, or 0 if the line has none.
+     */
+    public static long idOf(String line) {
+        String[] fields = line.split(FIELD_SEPARATOR, -1);
+        if (fields.length <= getFieldCount(fields[0]) || !LABELS.matcher(fields[fields.length - 1]).matches()) {
+            return 0;
+        }
+        for (String label : fields[fields.length - 1].trim().split("\\s+")) {
+            if (label.startsWith(ID_PREFIX)) {
+                try {
+                    return Long.parseLong(label.substring(ID_PREFIX.length()));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Replaces the content of the hard disk with the given lines.
+     *
+     * @return The number of bytes written.
+     */
+    private long writeLines(List<String> lines) throws IOException {
+        StringBuilder data = new StringBuilder();
+        for (String line : lines) {
+            appendLine(data, line);
+        }
+
+        byte[] bytes = data.toString().getBytes();
+        writeAtomically(bytes);
+        return bytes.length;
+    }
+
+    /**
+     * Replaces the content of the hard disk with the given bytes. They are written to a file next to it, which then
+     * replaces it in one atomic move, so a crash never leaves it half written.
+     */
+    private void writeAtomically(byte[] bytes) throws IOException {
+        Path file = Path.of(filePath);
+        Path partialFile = file.resolveSibling(file.getFileName() + PARTIAL_EXTENSION);
+        try (FileOutputStream fileOutputStr = new FileOutputStream(partialFile.toFile())) {
+            fileOutputStr.write(bytes);
+            fileOutputStr.getFD().sync();
+        }
+        Files.move(partialFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    //@@author johannagwan-reused
+    //Reused from http://www.java2s.com/Tutorial/Java/0120__Development/CheckifaStringisavaliddate.htm
+    //with minor modifications.
+    /**
+     * Checks if an input date is written in a valid date format.
+     *
+     * @param inDate The input date.
+     * @return true if the input date is written in a valid date format.
+     */
+    public static boolean isValidDate(String inDate) {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+        dateFormat.setLenient(false);
+        try {
+            dateFormat.parse(inDate.trim());
+        } catch (ParseException pe) {
+            return false;
+        }
+        return true;
+    }
+    //@@author
+
+    /**
+     * Saves the task that the user inputs into the hard disk.
+     *
+     * @param task The task that user inputs which needs to be saved into the hard disk.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void addToStorage(Task task) throws IOException {
+        try (StorageEvent event = StorageEvent.start("add", filePath)) {
+            File file = new File(filePath);
+            FileWriter fw = new FileWriter(file, true);
+            BufferedWriter bw = new BufferedWriter(fw);
+            String data = toStorageString(task);
+
+            if (file.length() == 0) {
+                bw.write(data);
+            } else {
+                data = "\n" + data;
+                bw.write(data);
+            }
+
+            bw.close();
+            fw.close();
+            recordId(task.getId());
+            recordSaved(task);
+            event.finish(data.length(), 1);
+        }
+    }
+
+    /**
+     * Converts a task into the line that represents it in the hard disk. A | in the description is escaped, so
+     * that the fields, and the labels after them, are always found again.
+     *
+     * @param task The task to be converted.
+     * @return The line representing the task.
+     */
+    public static String toStorageString(Task task) {
+        String data = "";
+        if (task instanceof Deadline) {
+            data += "D | " + task.getStatusIcon() + " | " + escape(task.getDescription())
+                + " | " + ((Deadline) task).getDate();
+        } else if (task instanceof Event) {
+            data += "E | " + task.getStatusIcon() + " | " + escape(task.getDescription())
+                + " | " + ((Event) task).getDate();
+        } else if (task instanceof Todo) {
+            data += "T | " + task.getStatusIcon() + " | " + escape(task.getDescription());
+        } else if (task instanceof Recurring) {
+            Recurring recurring = (Recurring) task;
+            String doneOccurrences = recurring.getDoneOccurrences().stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","));
+            data += "R | " + task.getStatusIcon() + " | " + escape(task.getDescription())
+                + " | " + recurring.getStartDate() + " | " + recurring.getIntervalDays()
+                + " | " + (recurring.getEndDate() == null ? "-" : recurring.getEndDate())
+                + " | " + (doneOccurrences.isEmpty() ? "-" : doneOccurrences);
+        }
+        String labels = task.getLabels();
+        if (task.getId() > 0) {
+            data += " | " + ID_PREFIX + task.getId() + labels;
+        } else if (!labels.isEmpty()) {
+            data += " |" + labels;
+        }
+        return data;
+    }
+
+    /**
+     * Inserts a task into the hard disk at the index number given, e.g. when a deletion is undone.
+     *
+     * @param index The index number the task will have in the hard disk.
+     * @param task The task to be inserted.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void insertInStorage(int index, Task task) throws IOException {
+        try (StorageEvent event = StorageEvent.start("insert", filePath)) {
+            File file = new File(filePath);
+            FileReader fr = new FileReader(file);
+            BufferedReader br = new BufferedReader(fr);
+
+            StringBuilder data = new StringBuilder();
+            String line = null;
+            int counter = 1;
+            while ((line = br.readLine()) != null) {
+                if (counter == index) {
+                    appendLine(data, toStorageString(task));
+                }
+                appendLine(data, line);
+                counter++;
+            }
+            br.close();
+            if (counter <= index) { // the task goes after the last line
+                appendLine(data, toStorageString(task));
+            }
+
+            byte[] bytes = data.toString().getBytes();
+            writeAtomically(bytes);
+            recordId(task.getId());
+            recordSaved(task);
+            event.finish(bytes.length, counter);
+        }
+    }
+
+    private static void appendLine(StringBuilder data, String line) {
+        if (data.length() > 0) {
+            data.append("\n");
+        }
+        data.append(line);
+    }
+
+    /**
+     * Modifies the done status of a task inside the hard disk according to the index number given by the user.
+     *
+     * @param index The index number ot the task that is being modified.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void changeToStorage(int index) throws IOException {
+        changeToStorage(index, true);
+    }
+
+    /**
+     * Sets the done status of a task inside the hard disk according to the index number given.
+     *
+     * @param index The index number of the task that is being modified.
+     * @param isDone true if the task should be marked as done.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void changeToStorage(int index, boolean isDone) throws IOException {
+        try (StorageEvent event = StorageEvent.start("change", filePath)) {
+            File file = new File(filePath);
+            FileReader fr = new FileReader(file);
+            BufferedReader br = new BufferedReader(fr);
+
+            String data = "";
+            String line = null;
+            int counter = 1;
+            while ((line = br.readLine()) != null) {
+                if (counter == index) {
+                    line = line.substring(0, 4) + (isDone ? "Y" : "N") + line.substring(5, line.length());
+                }
+
+                if (counter == 1) {
+                    data += line;
+                } else {
+                    assert counter > 1 : counter;
+                    data += "\n" + line;
+                }
+                counter++;
+            }
+
+            byte[] bytes = data.getBytes();
+            writeAtomically(bytes);
+            recordRewritten();
+            event.finish(bytes.length, counter - 1);
+        }
+    }
+
+    /**
+     * Deletes the task in the hard disk according to the index number given by the user.
+     *
+     * @param index The index number ot the task that is being modified.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void deleteInStorage(int index) throws IOException {
+        try (StorageEvent event = StorageEvent.start("delete", filePath)) {
+            File file = new File(filePath);
+            FileReader fr = new FileReader(file);
+            BufferedReader br = new BufferedReader(fr);
+
+            String data = "";
+            String line = null;
+            int counter = 1;
+            boolean isFirstUndeletedLine = true;
+            while ((line = br.readLine()) != null) {
+                if (counter != index) {
+                    if (isFirstUndeletedLine) {
+                        data += line;
+                        isFirstUndeletedLine = false;
+                    } else {
+                        assert !isFirstUndeletedLine;
+                        data += "\n" + line;
+                    }
+                }
+                counter++;
+            }
+
+            byte[] bytes = data.getBytes();
+            writeAtomically(bytes);
+            recordRewritten();
+            event.finish(bytes.length, counter - 1);
+        }
+    }
+
+    /**
+     * Deletes a task in the hard disk, finding its line by its id if it has one.
+     *
+     * @param index The index number the task had in the list.
+     * @param task The task that is being deleted.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void deleteInStorage(int index, Task task) throws IOException {
+        try (StorageEvent event = StorageEvent.start("delete", filePath)) {
+            List<String> lines = readLines();
+            int lineIndex = indexOfRecord(lines, index, task);
+            long bytesWritten = 0;
+            if (lineIndex >= 0 && lineIndex < lines.size()) {
+                lines.remove(lineIndex);
+                bytesWritten = writeLines(lines);
+                recordDeleted(task);
+            }
+            event.finish(bytesWritten, lines.size());
+        }
+    }
+}
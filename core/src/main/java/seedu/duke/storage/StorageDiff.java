@@ -0,0 +1,147 @@
+package seedu.duke.storage;
+
+import seedu.duke.exception.InvalidDateException;
+import seedu.duke.exception.InvalidInputFormatException;
+import seedu.duke.task.Recurring;
+import seedu.duke.task.Task;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents the difference between the tasks in memory and the lines of the hard disk, e.g. after the file has
+ * been edited outside of Duke.
+ * Every record is hashed by the line that represents it, so unchanged tasks are matched in O(1) each. A record that
+ * only differs in its done status is matched by the hash of the rest of its line and reported as updated, and the
+ * records left over are reported as added or removed. The priority and tags of a task count as part of its status.
+ */
+public class StorageDiff {
+    private final List<Task> addedTasks = new ArrayList<>();
+    private final List<Integer> removedIndexes = new ArrayList<>();
+    private final Map<Integer, Task> updatedTasks = new HashMap<>();
+    private final boolean isSameOrder;
+
+    private StorageDiff(List<Task> tasks, List<Task> savedTasks) {
+        Map<String, Deque<Integer>> unmatchedByLine = new HashMap<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            unmatchedByLine.computeIfAbsent(Storage.toStorageString(tasks.get(i)), key -> new ArrayDeque<>()).add(i);
+        }
+
+        boolean isSameOrder = tasks.size() == savedTasks.size();
+        List<Task> unmatchedSavedTasks = new ArrayList<>();
+        for (int i = 0; i < savedTasks.size(); i++) {
+            Deque<Integer> indexes = unmatchedByLine.get(Storage.toStorageString(savedTasks.get(i)));
+            if (indexes == null || indexes.isEmpty()) {
+                unmatchedSavedTasks.add(savedTasks.get(i));
+                isSameOrder = false;
+            } else if (indexes.poll() != i) {
+                isSameOrder = false;
+            }
+        }
+        this.isSameOrder = isSameOrder;
+
+        Map<String, Deque<Integer>> unmatchedByIdentity = new HashMap<>();
+        for (Deque<Integer> indexes : unmatchedByLine.values()) {
+            for (int index : indexes) {
+                unmatchedByIdentity.computeIfAbsent(toIdentity(tasks.get(index)), key -> new ArrayDeque<>())
+                        .add(index);
+            }
+        }
+        for (Task savedTask : unmatchedSavedTasks) {
+            Deque<Integer> indexes = unmatchedByIdentity.get(toIdentity(savedTask));
+            if (indexes == null || indexes.isEmpty()) {
+                addedTasks.add(savedTask);
+            } else {
+                updatedTasks.put(indexes.poll(), savedTask);
+            }
+        }
+        for (Deque<Integer> indexes : unmatchedByIdentity.values()) {
+            removedIndexes.addAll(indexes);
+        }
+        removedIndexes.sort(null);
+    }
+
+    /**
+     * Compares the tasks in memory with the lines of the hard disk.
+     *
+     * @param tasks The tasks in memory.
+     * @param lines The lines of the hard disk, where blank lines are ignored.
+     * @return The difference between them.
+     * @throws InvalidInputFormatException If a line is written in a wrong format.
+     * @throws InvalidDateException If a date is written in a wrong format.
+     */
+    public static StorageDiff between(List<Task> tasks, List<String> lines)
+            throws InvalidInputFormatException, InvalidDateException {
+        List<Task> savedTasks = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            if (!line.isBlank()) {
+                savedTasks.add(Storage.toTask(line));
+            }
+        }
+        return new StorageDiff(tasks, savedTasks);
+    }
+
+    /**
+     * Checks if two tasks are the same task, which may differ in their done status and labels.
+     *
+     * @param task The task.
+     * @param otherTask The other task.
+     * @return true if the tasks only differ in their done status and labels.
+     */
+    public static boolean isSameTask(Task task, Task otherTask) {
+        return toIdentity(task).equals(toIdentity(otherTask));
+    }
+
+    /**
+     * Gets the line of a task without its done status and labels, which can change while the task is in the list.
+     */
+    private static String toIdentity(Task task) {
+        String[] fields = Storage.toStorageString(task).split(" \\| ", -1);
+        int fieldCount = Storage.getFieldCount(fields[0]);
+        fields[1] = "";
+        if (task instanceof Recurring) {
+            fields[fieldCount - 1] = "";
+        }
+        return String.join(" | ", Arrays.copyOf(fields, fieldCount));
+    }
+
+    public List<Task> getAddedTasks() {
+        return addedTasks;
+    }
+
+    /**
+     * Gets the positions in memory of the tasks that are no longer in the hard disk.
+     *
+     * @return The zero-based positions, in ascending order.
+     */
+    public List<Integer> getRemovedIndexes() {
+        return removedIndexes;
+    }
+
+    /**
+     * Gets the tasks whose done status differs in the hard disk.
+     *
+     * @return The tasks as they are saved, by the zero-based positions of the tasks in memory.
+     */
+    public Map<Integer, Task> getUpdatedTasks() {
+        return updatedTasks;
+    }
+
+    public boolean isEmpty() {
+        return addedTasks.isEmpty() && removedIndexes.isEmpty() && updatedTasks.isEmpty();
+    }
+
+    /**
+     * Checks if the hard disk holds exactly the tasks in memory, in the same order.
+     *
+     * @return true if every line matches the task at the same position.
+     */
+    public boolean isSameOrder() {
+        return isSameOrder;
+    }
+}
@@ -0,0 +1,379 @@
+package seedu.duke.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Coordinates the Duke processes that share a task file, e.g. the GUI and scripts run from the console.
+ * The journal lives next to the task file, e.g. duke.txt.journal, and its exclusive FileChannel lock is held while
+ * the task file is read or written, so no process sees it halfway through a write. Every write to the task file
+ * adds an entry to the journal with the next version: the line of a saved task, the id of a deleted task, or a mark
+ * that the whole file was written again. A process then catches up by reading only the entries after the version it
+ * last saw, which costs one small read when nothing has changed. Each entry also holds the size and modification
+ * time the task file had after the write, so an edit made outside of Duke is noticed as a mismatch.
+ * Once the journal holds many entries, it is started again from the latest version; a process that had not seen
+ * that version yet has to compare the whole file instead.
+ * A file lock is held by the whole JVM, so one process should open a single journal per task file and share it
+ * between its threads: a second journal on the same file in the same JVM cannot wait for the first one, and
+ * locking it while the first one holds the lock throws an OverlappingFileLockException.
+ */
+public class StorageJournal implements Closeable {
+    private static final String EXTENSION = ".journal";
+    private static final String HEADER = "duke-journal ";
+    private static final int HEADER_MAX_LENGTH = 64;
+    private static final int MAX_ENTRIES = 1024;
+    private static final String SAVED = "+";
+    private static final String DELETED = "-";
+    private static final String REWRITTEN = "*";
+    private static final String NO_FILE = "-";
+
+    private final Path taskFile;
+    private final FileChannel channel;
+    private final ReentrantLock threadLock = new ReentrantLock();
+    private FileLock fileLock;
+    private long base = -1;
+    private long headerLength;
+    private long offset;
+    private int entryCount;
+    private long version;
+    private String stamp = NO_FILE;
+    private Changes pending = new Changes();
+
+    private StorageJournal(Path taskFile, FileChannel channel) {
+        this.taskFile = taskFile;
+        this.channel = channel;
+    }
+
+    /**
+     * Opens the journal of a task file, creating it if there is none yet. Changes saved before it was opened are
+     * assumed to be in the file the process is about to load.
+     *
+     * @param taskFile The task file.
+     * @return The journal.
+     * @throws IOException If the journal cannot be opened or locked.
+     */
+    public static StorageJournal open(Path taskFile) throws IOException {
+        Path file = taskFile.resolveSibling(taskFile.getFileName() + EXTENSION);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        StorageJournal journal = new StorageJournal(taskFile, channel);
+        try {
+            Closeable lock = journal.lock();
+            try (lock) {
+                if (channel.size() == 0) {
+                    journal.writeHeader(0);
+                }
+                journal.markSynced();
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return journal;
+    }
+
+    /**
+     * Locks the task file against other processes and other threads, waiting until they release it. The lock can
+     * be taken again by the thread that holds it, and is released when every hold is closed. Only other processes
+     * and threads sharing this journal are waited for; another journal on the same file in this process makes it
+     * throw an OverlappingFileLockException instead.
+     *
+     * @return The hold of the lock, to be closed once the task file is no longer read or written.
+     * @throws IOException If the journal cannot be locked.
+     */
+    public Closeable lock() throws IOException {
+        threadLock.lock();
+        if (threadLock.getHoldCount() == 1) {
+            try {
+                fileLock = channel.lock();
+            } catch (IOException | RuntimeException e) {
+                threadLock.unlock();
+                throw e;
+            }
+        }
+        return this::unlock;
+    }
+
+    private void unlock() throws IOException {
+        try {
+            if (threadLock.getHoldCount() == 1 && fileLock != null) {
+                fileLock.release();
+                fileLock = null;
+            }
+        } finally {
+            threadLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the changes saved by other processes since this one last caught up, including the changes it has not
+     * taken yet.
+     *
+     * @return The changes, which ask for the whole file to be compared if the journal cannot tell what changed.
+     * @throws IOException If the journal cannot be read.
+     */
+    public Changes readChanges() throws IOException {
+        Closeable lock = lock();
+        try (lock) {
+            readNewEntries();
+            String currentStamp = stampOf(taskFile);
+            if (!currentStamp.equals(stamp)) { // written outside of Duke since the latest entry
+                pending.markRewritten();
+                stamp = currentStamp;
+            }
+            Changes changes = pending;
+            pending = new Changes();
+            return changes;
+        }
+    }
+
+    /**
+     * Marks every change saved so far as seen, e.g. after the whole task file has been read.
+     *
+     * @throws IOException If the journal cannot be read.
+     */
+    public void markSynced() throws IOException {
+        Closeable lock = lock();
+        try (lock) {
+            readNewEntries();
+            stamp = stampOf(taskFile);
+            pending = new Changes();
+        }
+    }
+
+    /**
+     * Records that the line of a task was added or changed in the task file.
+     *
+     * @param line The line the task is saved as, with its id.
+     * @throws IOException If the journal cannot be written.
+     */
+    public void recordSaved(String line) throws IOException {
+        if (Storage.idOf(line) <= 0) {
+            recordRewritten();
+        } else {
+            append(SAVED, line);
+        }
+    }
+
+    /**
+     * Records that the line of a task was deleted from the task file.
+     *
+     * @param id The id of the task.
+     * @throws IOException If the journal cannot be written.
+     */
+    public void recordDeleted(long id) throws IOException {
+        if (id <= 0) {
+            recordRewritten();
+        } else {
+            append(DELETED, String.valueOf(id));
+        }
+    }
+
+    /**
+     * Records that the whole task file was written again, so other processes compare all of it.
+     *
+     * @throws IOException If the journal cannot be written.
+     */
+    public void recordRewritten() throws IOException {
+        append(REWRITTEN, "");
+    }
+
+    /**
+     * Adds an entry after the latest one. The entries this process has not taken yet stay pending, so the next
+     * call to readChanges still returns them.
+     */
+    private void append(String type, String payload) throws IOException {
+        Closeable lock = lock();
+        try (lock) {
+            readNewEntries();
+            if (entryCount >= MAX_ENTRIES) {
+                writeHeader(version);
+            }
+            version++;
+            stamp = stampOf(taskFile);
+            byte[] entry = (version + " " + type + " " + stamp + " " + payload + "\n")
+                    .getBytes(StandardCharsets.UTF_8);
+            channel.write(ByteBuffer.wrap(entry), offset);
+            offset += entry.length;
+            entryCount++;
+        }
+    }
+
+    /**
+     * Starts the journal again from a version, dropping the entries up to it.
+     */
+    private void writeHeader(long baseVersion) throws IOException {
+        byte[] header = (HEADER + baseVersion + "\n").getBytes(StandardCharsets.UTF_8);
+        channel.truncate(0);
+        channel.write(ByteBuffer.wrap(header), 0);
+        channel.force(false);
+        base = baseVersion;
+        headerLength = header.length;
+        offset = headerLength;
+        entryCount = 0;
+        version = Math.max(version, baseVersion);
+    }
+
+    /**
+     * Reads the entries written since the last read into the pending changes.
+     */
+    private void readNewEntries() throws IOException {
+        ByteBuffer headerBuffer = ByteBuffer.allocate(HEADER_MAX_LENGTH);
+        channel.read(headerBuffer, 0);
+        String header = new String(headerBuffer.array(), 0, headerBuffer.position(), StandardCharsets.UTF_8);
+        int end = header.indexOf('\n');
+        if (!header.startsWith(HEADER) || end < 0) {
+            writeHeader(version); // the journal was damaged, so no entry in it can be trusted
+            pending.markRewritten();
+            return;
+        }
+        long headerBase = Long.parseLong(header.substring(HEADER.length(), end).trim());
+        if (headerBase != base) { // started again by another process
+            if (base >= 0 && version < headerBase) {
+                pending.markRewritten();
+            }
+            base = headerBase;
+            headerLength = end + 1;
+            offset = headerLength;
+            entryCount = 0;
+            version = Math.max(version, headerBase);
+        }
+
+        long size = channel.size();
+        if (size <= offset) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) (size - offset));
+        while (buffer.hasRemaining() && channel.read(buffer, offset + buffer.position()) >= 0) {
+            continue;
+        }
+        int length = buffer.position();
+        while (length > 0 && buffer.get(length - 1) != '\n') {
+            length--; // the last entry is still being written
+        }
+        if (length == 0) {
+            return;
+        }
+        for (String entry : new String(buffer.array(), 0, length - 1, StandardCharsets.UTF_8).split("\n", -1)) {
+            readEntry(entry);
+        }
+        offset += length;
+    }
+
+    private void readEntry(String entry) {
+        String[] fields = entry.split(" ", 4);
+        entryCount++;
+        long entryVersion;
+        try {
+            entryVersion = Long.parseLong(fields[0]);
+        } catch (NumberFormatException e) {
+            pending.markRewritten();
+            return;
+        }
+        if (entryVersion <= version) {
+            return; // seen before the journal was started again
+        }
+        version = entryVersion;
+        if (fields.length < 4) {
+            pending.markRewritten();
+            return;
+        }
+        stamp = fields[2];
+        switch (fields[1]) {
+        case SAVED:
+            pending.save(Storage.idOf(fields[3]), fields[3]);
+            break;
+        case DELETED:
+            try {
+                pending.save(Long.parseLong(fields[3]), null);
+            } catch (NumberFormatException e) {
+                pending.markRewritten();
+            }
+            break;
+        default:
+            pending.markRewritten();
+            break;
+        }
+    }
+
+    /**
+     * Describes the size and modification time of a file, which change whenever the file is written.
+     */
+    private static String stampOf(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return NO_FILE;
+        }
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return attributes.size() + ":" + attributes.lastModifiedTime().to(TimeUnit.MICROSECONDS);
+    }
+
+    /**
+     * Gets the latest version of the task file that this process knows of.
+     *
+     * @return The version, which only ever grows.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Represents the changes saved to the task file between two versions.
+     */
+    public static class Changes {
+        private final Map<Long, String> savedLines = new LinkedHashMap<>();
+        private boolean isRewritten;
+
+        private void save(long id, String line) {
+            if (id <= 0) {
+                markRewritten();
+            } else if (!isRewritten) {
+                savedLines.put(id, line);
+            }
+        }
+
+        private void markRewritten() {
+            isRewritten = true;
+            savedLines.clear();
+        }
+
+        /**
+         * Checks if the whole task file has to be compared, as the journal cannot tell which tasks changed.
+         *
+         * @return true if the file was written again, edited outside of Duke, or changed too long ago.
+         */
+        public boolean isRewritten() {
+            return isRewritten;
+        }
+
+        /**
+         * Gets the latest line of every task that changed.
+         *
+         * @return The lines by the ids of their tasks, where a deleted task has a null line.
+         */
+        public Map<Long, String> getSavedLines() {
+            return Collections.unmodifiableMap(savedLines);
+        }
+
+        public boolean isEmpty() {
+            return !isRewritten && savedLines.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.duke.storage;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the files of a hard disk for changes made outside of Duke, such as by an editor or a script.
+ * Changes that arrive close together, like a script writing a file in several steps, are handled once they settle.
+ */
+public class StorageWatcher {
+    private static final long SETTLE_MILLIS = 100;
+
+    private final Storage storage;
+    private final Runnable onChange;
+    private Thread thread;
+
+    /**
+     * Creates a watcher for the files of a hard disk.
+     *
+     * @param storage The hard disk to be watched.
+     * @param onChange What to do after the file has changed. It is also called after Duke writes the file, so it
+     *     should compare the file with the list first.
+     */
+    public StorageWatcher(Storage storage, Runnable onChange) {
+        this.storage = storage;
+        this.onChange = onChange;
+    }
+
+    /**
+     * Starts watching on a background thread, which runs until the application exits.
+     *
+     * @throws IOException If the folder of the file cannot be watched.
+     */
+    public synchronized void start() throws IOException {
+        if (thread != null) {
+            return;
+        }
+        WatchService watchService = FileSystems.getDefault().newWatchService();
+        storage.getDirectory().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        thread = new Thread(() -> run(watchService), "duke-storage-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void run(WatchService watchService) {
+        try (watchService) {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean hasChanged = isFileChanged(key);
+                while ((key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    hasChanged |= isFileChanged(key);
+                }
+                if (hasChanged) {
+                    onChange.run();
+                }
+            }
+        } catch (InterruptedException | IOException e) {
+            return;
+        }
+    }
+
+    /**
+     * Checks if any of the events of a key is about a file of the hard disk, and gets the key ready for more events.
+     */
+    private boolean isFileChanged(WatchKey key) {
+        boolean isFileChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || storage.isStorageFile((Path) event.context())) {
+                isFileChanged = true;
+            }
+        }
+        key.reset();
+        return isFileChanged;
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.duke.task;
 
+import seedu.duke.enums.TaskTypes;
+
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
@@ -24,9 +26,15 @@ public class Deadline extends Task {
     public String toString() {
         String formattedDeadlineTime = " (by: "
                 + deadlineDate.format(DateTimeFormatter.ofPattern("MMM d yyyy")) + ")";
-        return "[D]" + super.toString() + formattedDeadlineTime;
+        return "[D]" + super.toString() + formattedDeadlineTime + getLabels();
     }
 
+    @Override
+    public TaskTypes getType() {
+        return TaskTypes.DEADLINE;
+    }
+
+    @Override
     public LocalDate getDate() {
         return deadlineDate;
     }
@@ -47,6 +55,13 @@ public class Deadline extends Task {
             } else {
                 return cmp;
             }
+        } else if (task instanceof Recurring && task.getDate() != null) { // by the next occurrence
+            int cmp = getDate().compareTo(task.getDate());
+            if (cmp == 0) {
+                return toString().compareTo(task.toString());
+            } else {
+                return cmp;
+            }
         } else {
             return toString().compareTo(task.toString());
         }
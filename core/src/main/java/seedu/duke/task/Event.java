@@ -1,5 +1,7 @@
 package seedu.duke.task;
 
+import seedu.duke.enums.TaskTypes;
+
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
@@ -22,9 +24,15 @@ public class Event extends Task {
     @Override
     public String toString() {
         String formattedEventDate = " (at: " + eventDate.format(DateTimeFormatter.ofPattern("MMM d yyyy")) + ")";
-        return "[E]" + super.toString() + formattedEventDate;
+        return "[E]" + super.toString() + formattedEventDate + getLabels();
     }
 
+    @Override
+    public TaskTypes getType() {
+        return TaskTypes.EVENT;
+    }
+
+    @Override
     public LocalDate getDate() {
         return eventDate;
     }
@@ -45,6 +53,13 @@ public class Event extends Task {
             } else {
                 return cmp;
             }
+        } else if (task instanceof Recurring && task.getDate() != null) { // by the next occurrence
+            int cmp = getDate().compareTo(task.getDate());
+            if (cmp == 0) {
+                return toString().compareTo(task.toString());
+            } else {
+                return cmp;
+            }
         } else {
             return toString().compareTo(task.toString());
         }
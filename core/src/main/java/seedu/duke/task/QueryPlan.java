@@ -0,0 +1,168 @@
+package seedu.duke.task;
+
+import seedu.duke.filter.CompressedBitmap;
+import seedu.duke.filter.TaskBitmapIndex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Decides how to run a TaskQuery and runs it as a lazy stream, counting the tasks it looks at.
+ * The tasks come either from the whole list in list order, or from a TaskBitmapIndex when the conditions it can
+ * answer keep few enough tasks. The other conditions are checked cheapest first, so a costly one only sees the tasks
+ * the cheap ones let through. Without an order, a limit stops the stream as soon as enough tasks are found; with
+ * one, only the best tasks up to the limit are kept in a bounded heap instead of sorting all of them.
+ */
+public class QueryPlan {
+    /** The index is used if the tasks it keeps are at most this fraction of the list. */
+    private static final int INDEX_SELECTIVITY = 4;
+
+    private final TaskQuery query;
+    private final List<Task> tasks;
+    private final TaskBitmapIndex index;
+    private final List<String> steps = new ArrayList<>();
+    private long scanCount;
+
+    /**
+     * Plans a query.
+     *
+     * @param query The query.
+     * @param tasks The tasks in the list, in list order.
+     * @param index The bitmap index of the tasks, or null to scan the list.
+     */
+    public QueryPlan(TaskQuery query, List<Task> tasks, TaskBitmapIndex index) {
+        this.query = query;
+        this.tasks = tasks;
+        this.index = index;
+    }
+
+    /**
+     * Runs the query.
+     *
+     * @return The tasks found, in the order of the query or else in list order.
+     */
+    public List<Task> execute() {
+        List<Task> found = new ArrayList<>();
+        execute(found::add);
+        return found;
+    }
+
+    /**
+     * Runs the query, and hands each task found to an action as soon as it is known to be next. Without an order,
+     * no task found is held; with one, only the tasks being ordered are.
+     *
+     * @param action The action taking the tasks found, in the order of the query or else in list order.
+     * @return The number of tasks found.
+     */
+    public int execute(Consumer<Task> action) {
+        steps.clear();
+        scanCount = 0;
+        List<TaskQuery.Condition> remaining = new ArrayList<>(query.getConditions());
+        Stream<Task> stream = openSource(remaining).peek(task -> scanCount++);
+
+        remaining.sort(Comparator.comparingInt(condition -> condition.cost));
+        for (TaskQuery.Condition condition : remaining) {
+            stream = stream.filter(condition.predicate);
+            steps.add("filter " + condition.name);
+        }
+
+        Comparator<Task> order = query.getOrder();
+        int limit = query.getLimit();
+        if (order == null) {
+            if (limit < Integer.MAX_VALUE) {
+                stream = stream.limit(limit);
+                steps.add("stop after " + limit + " in list order");
+            }
+        } else if (limit < Integer.MAX_VALUE) {
+            steps.add("keep top " + limit + " by " + query.getOrderName());
+            stream = selectTop(stream, order, limit).stream();
+        } else {
+            steps.add("sort by " + query.getOrderName());
+            stream = stream.sorted(order);
+        }
+        int[] foundCount = new int[1];
+        stream.forEach(task -> {
+            foundCount[0]++;
+            action.accept(task);
+        });
+        return foundCount[0];
+    }
+
+    /**
+     * Chooses where the tasks come from, and takes the conditions answered by the index out of those remaining.
+     */
+    private Stream<Task> openSource(List<TaskQuery.Condition> remaining) {
+        List<TaskQuery.Condition> indexed = new ArrayList<>();
+        List<CompressedBitmap> bitmaps = new ArrayList<>();
+        if (index != null) {
+            for (TaskQuery.Condition condition : remaining) {
+                if (condition.lookup != null) {
+                    indexed.add(condition);
+                    bitmaps.add(condition.lookup.apply(index));
+                }
+            }
+        }
+        if (!bitmaps.isEmpty()) {
+            bitmaps.sort(Comparator.comparingInt(CompressedBitmap::cardinality));
+            CompressedBitmap candidates = bitmaps.get(0);
+            for (int i = 1; i < bitmaps.size() && !candidates.isEmpty(); i++) {
+                candidates = candidates.and(bitmaps.get(i));
+            }
+            if ((long) candidates.cardinality() * INDEX_SELECTIVITY <= tasks.size()) {
+                remaining.removeAll(indexed);
+                List<Task> found = index.toTasks(candidates);
+                if (query.getOrder() == null) {
+                    Collections.sort(found); // the index keeps no order
+                }
+                steps.add("index " + indexed.stream().map(condition -> condition.name)
+                        .collect(Collectors.joining(" and ")) + ": " + found.size() + " of " + tasks.size()
+                        + " tasks");
+                return found.stream();
+            }
+        }
+        steps.add("scan all " + tasks.size() + " tasks in list order");
+        return tasks.stream();
+    }
+
+    /**
+     * Keeps the first tasks in an order without sorting all of them, in O(n log k) time and O(k) space.
+     */
+    private static List<Task> selectTop(Stream<Task> stream, Comparator<Task> order, int limit) {
+        PriorityQueue<Task> worstFirst = new PriorityQueue<>(order.reversed());
+        stream.forEach(task -> {
+            if (worstFirst.size() < limit) {
+                worstFirst.offer(task);
+            } else if (order.compare(task, worstFirst.peek()) < 0) {
+                worstFirst.poll();
+                worstFirst.offer(task);
+            }
+        });
+        List<Task> top = new ArrayList<>(worstFirst);
+        top.sort(order);
+        return top;
+    }
+
+    /**
+     * Describes how the query was run, one step per line.
+     *
+     * @return The steps of the plan.
+     */
+    public List<String> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Counts the tasks looked at by the latest run.
+     *
+     * @return The number of tasks taken from the list or the index.
+     */
+    public long getScanCount() {
+        return scanCount;
+    }
+}
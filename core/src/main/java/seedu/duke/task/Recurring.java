@@ -0,0 +1,212 @@
+package seedu.duke.task;
+
+import seedu.duke.enums.TaskTypes;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Represents a Recurring object, a task that happens every few days from a start date until an optional end date.
+ * Only the rule is kept: occurrences are worked out when they are needed, and only the numbers of the occurrences
+ * that have been done are stored.
+ */
+public class Recurring extends Task {
+    protected LocalDate startDate;
+    protected int intervalDays;
+    protected LocalDate endDate;
+    protected SortedSet<Long> doneOccurrences = new TreeSet<>();
+
+    /**
+     * Represents a Recurring object.
+     *
+     * @param description The details of the recurring task.
+     * @param startDate The date of the first occurrence.
+     * @param intervalDays The number of days between occurrences.
+     * @param endDate The last date an occurrence can fall on, or null if the task recurs forever.
+     */
+    public Recurring(String description, LocalDate startDate, int intervalDays, LocalDate endDate) {
+        super(description);
+        assert intervalDays > 0 : intervalDays;
+        this.startDate = startDate;
+        this.intervalDays = intervalDays;
+        this.endDate = endDate;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public int getIntervalDays() {
+        return intervalDays;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public SortedSet<Long> getDoneOccurrences() {
+        return Collections.unmodifiableSortedSet(doneOccurrences);
+    }
+
+    /**
+     * Replaces the occurrences that have been done, e.g. when a change is undone.
+     *
+     * @param doneOccurrences The numbers of the occurrences that have been done, counting from 0.
+     */
+    public void setDoneOccurrences(Set<Long> doneOccurrences) {
+        this.doneOccurrences = new TreeSet<>(doneOccurrences);
+    }
+
+    /**
+     * Checks if a task occurs on the given date.
+     *
+     * @param date The date to be checked.
+     * @return true if one of the occurrences falls on the date.
+     */
+    public boolean isOccurrence(LocalDate date) {
+        long days = ChronoUnit.DAYS.between(startDate, date);
+        return days >= 0 && days % intervalDays == 0 && (endDate == null || !date.isAfter(endDate));
+    }
+
+    public boolean isOccurrenceDone(LocalDate date) {
+        return isOccurrence(date) && doneOccurrences.contains(toOccurrence(date));
+    }
+
+    /**
+     * Marks one occurrence as done. The whole task is done once every occurrence up to the end date is done.
+     *
+     * @param date The date of the occurrence.
+     */
+    public void markOccurrenceAsDone(LocalDate date) {
+        assert isOccurrence(date) : date;
+        doneOccurrences.add(toOccurrence(date));
+        if (endDate != null && doneOccurrences.size() == toOccurrence(endDate) + 1) {
+            isDone = true;
+        }
+    }
+
+    /**
+     * Finds the first occurrence on or after a date that has not been done.
+     *
+     * @param from The earliest date of the occurrence.
+     * @return The date of the occurrence, or null if there are no more occurrences.
+     */
+    public LocalDate getNextOccurrence(LocalDate from) {
+        long occurrence = from.isAfter(startDate)
+                ? Math.floorDiv(ChronoUnit.DAYS.between(startDate, from) + intervalDays - 1, intervalDays) : 0;
+        for (Long done : doneOccurrences.tailSet(occurrence)) { // skips the done occurrences, which are few
+            if (done != occurrence) {
+                break;
+            }
+            occurrence++;
+        }
+        LocalDate date = toDate(occurrence);
+        return endDate != null && date.isAfter(endDate) ? null : date;
+    }
+
+    /**
+     * Lists the occurrences between two dates lazily, one at a time as they are iterated.
+     *
+     * @param from The first date of the window.
+     * @param to The last date of the window.
+     * @return The dates of the occurrences in the window, done or not.
+     */
+    public Iterable<LocalDate> getOccurrences(LocalDate from, LocalDate to) {
+        LocalDate last = endDate != null && endDate.isBefore(to) ? endDate : to;
+        long first = from.isAfter(startDate)
+                ? Math.floorDiv(ChronoUnit.DAYS.between(startDate, from) + intervalDays - 1, intervalDays) : 0;
+        return () -> new Iterator<>() {
+            private long occurrence = first;
+
+            @Override
+            public boolean hasNext() {
+                return !toDate(occurrence).isAfter(last);
+            }
+
+            @Override
+            public LocalDate next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return toDate(occurrence++);
+            }
+        };
+    }
+
+    private long toOccurrence(LocalDate date) {
+        return ChronoUnit.DAYS.between(startDate, date) / intervalDays;
+    }
+
+    private LocalDate toDate(long occurrence) {
+        return startDate.plusDays(occurrence * intervalDays);
+    }
+
+    /**
+     * Gets the date of the next occurrence from today that has not been done.
+     *
+     * @return The date of the next occurrence, or null if there are no more occurrences.
+     */
+    @Override
+    public LocalDate getDate() {
+        return getNextOccurrence(LocalDate.now());
+    }
+
+    /**
+     * Marks the next occurrence from today as done, or the whole task if there are no more occurrences.
+     */
+    @Override
+    public void markAsDone() {
+        LocalDate next = getDate();
+        if (next == null) {
+            isDone = true;
+        } else {
+            markOccurrenceAsDone(next);
+        }
+    }
+
+    @Override
+    public String toString() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM d yyyy");
+        LocalDate next = getDate();
+        return "[R]" + super.toString() + " (every " + intervalDays + (intervalDays == 1 ? " day" : " days")
+                + " from " + startDate.format(formatter)
+                + (endDate == null ? "" : " until " + endDate.format(formatter))
+                + (next == null ? "" : ", next: " + next.format(formatter)) + ")" + getLabels();
+    }
+
+    @Override
+    public TaskTypes getType() {
+        return TaskTypes.RECURRING;
+    }
+
+    /**
+     * Compares a recurring task by the date of its next occurrence with other tasks that have a date, like a
+     * deadline or an event on that date. A recurring task with no more occurrences goes after every task with a
+     * date, like deadlines and events do with recurring tasks that have ended, so the order stays consistent.
+     * The next occurrence moves on with today, so a sorted list may fall out of order from one day to the next; it
+     * is sorted again by the next list command, and tasks added meanwhile find their place by a linear search.
+     */
+    @Override
+    public int compareTo(Task task) {
+        LocalDate next = getDate();
+        LocalDate otherDate = task.getDate();
+        if (next != null && otherDate != null) {
+            int cmp = next.compareTo(otherDate);
+            if (cmp != 0) {
+                return cmp;
+            }
+        } else if (next == null && otherDate != null) {
+            return 1;
+        } else if (next != null && task instanceof Recurring) { // the other recurring task has ended
+            return -1;
+        }
+        return toString().compareTo(task.toString());
+    }
+}
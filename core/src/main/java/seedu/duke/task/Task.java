@@ -0,0 +1,137 @@
+package seedu.duke.task;
+
+import seedu.duke.enums.Priority;
+import seedu.duke.enums.TaskTypes;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Represents a Task object.
+ */
+public abstract class Task implements Comparable<Task> {
+    protected String description;
+    protected boolean isDone;
+    protected SortedSet<String> tags = new TreeSet<>();
+    protected Priority priority = Priority.NONE;
+    protected long id;
+
+    /**
+     * Creates a task based on the description input by the user.
+     *
+     * @param description The details of the task created.
+     */
+    public Task(String description) {
+        this.description = description;
+        isDone = false;
+    }
+
+    /**
+     * Prints the done status of a task.
+     *
+     * @return "Y" if the task is marked done, "N" otherwise.
+     */
+    public String getStatusIcon() {
+        return (isDone ? "Y" : "N"); //return tick or X symbols
+    }
+
+    /**
+     * Marks a task as done.
+     */
+    public void markAsDone() {
+        isDone = true;
+    }
+
+    /**
+     * Sets the done status of a task, e.g. when a change to it is undone.
+     *
+     * @param isDone true if the task should be marked as done.
+     */
+    public void setDone(boolean isDone) {
+        this.isDone = isDone;
+    }
+
+    /**
+     * Checks if a task is marked as done.
+     *
+     * @return true if a task is marked as done.
+     */
+    public boolean isDone() {
+        return isDone;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Gets the id of a task, which stays the same however the list is sorted and is saved with the task.
+     *
+     * @return The id, or 0 if the task has not been given one yet.
+     */
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public abstract TaskTypes getType();
+
+    public SortedSet<String> getTags() {
+        return Collections.unmodifiableSortedSet(tags);
+    }
+
+    /**
+     * Replaces the tags of a task.
+     *
+     * @param tags The tags, without the leading #.
+     */
+    public void setTags(Set<String> tags) {
+        this.tags = new TreeSet<>(tags);
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * Formats the priority and tags of a task to be shown after its details.
+     *
+     * @return The priority and tags, e.g. " !high #work", or an empty string if the task has neither.
+     */
+    public String getLabels() {
+        StringBuilder labels = new StringBuilder();
+        if (priority != Priority.NONE) {
+            labels.append(" !").append(priority.name().toLowerCase());
+        }
+        for (String tag : tags) {
+            labels.append(" #").append(tag);
+        }
+        return labels.toString();
+    }
+
+    /**
+     * Gets the date of a task.
+     *
+     * @return The date of the task, or null if the task has no date.
+     */
+    public LocalDate getDate() {
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + getStatusIcon() + "] " + description;
+    }
+
+    public abstract int compareTo(Task task);
+}
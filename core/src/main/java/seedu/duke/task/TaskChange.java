@@ -0,0 +1,81 @@
+package seedu.duke.task;
+
+import seedu.duke.storage.Storage;
+
+/**
+ * A change to a TaskList, as published by a TaskChangeFeed. The task is shared with the list and may have changed
+ * again by the time the change is received, so the change also keeps the task as it was saved at the time.
+ */
+public class TaskChange {
+    /**
+     * The kinds of change to a task.
+     */
+    public enum Type {
+        ADDED, MARKED_DONE, UPDATED, DELETED,
+        /** The list was sorted into another order, so positions of earlier changes no longer hold. */
+        REORDERED
+    }
+
+    private final long sequence;
+    private final Type type;
+    private final int index;
+    private final Task task;
+    private final String line;
+
+    TaskChange(long sequence, Type type, int index, Task task) {
+        this.sequence = sequence;
+        this.type = type;
+        this.index = index;
+        this.task = task;
+        this.line = task == null ? null : Storage.toStorageString(task);
+    }
+
+    /**
+     * Returns the number of the change. Changes are numbered one after another, so a gap shows that the changes in
+     * between were dropped.
+     *
+     * @return The number of the change, from 1.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the position of the task when it changed, or the position it had if it was deleted.
+     *
+     * @return The zero-based position of the task, or -1 if the list was reordered.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the task that changed.
+     *
+     * @return The task, or null if the list was reordered.
+     */
+    public Task getTask() {
+        return task;
+    }
+
+    /**
+     * Returns the task as it was saved when it changed.
+     *
+     * @return The line of the task in the task file, or null if the list was reordered.
+     */
+    public String getLine() {
+        return line;
+    }
+
+    @Override
+    public String toString() {
+        if (type == Type.REORDERED) {
+            return "#" + sequence + " " + type;
+        }
+        return "#" + sequence + " " + type + " " + index + ": " + line;
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.duke.task;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes every change to the TaskList it observes as a TaskChange, so that a consumer can keep its own view of
+ * the list up to date one task at a time. Changes are delivered on a background thread through a bounded buffer per
+ * subscriber. A subscriber whose buffer is full does not hold up the command that made the change: the change is
+ * dropped for that subscriber instead, which it can tell from the gap in the numbers of the changes it receives.
+ * Positions are those of the list at the time of each change; when the list is sorted into another order, a
+ * REORDERED change is published, after which a consumer should sort its own view the same way or copy the list again.
+ */
+public class TaskChangeFeed implements TaskListObserver, AutoCloseable {
+    /** The number of changes buffered for each subscriber unless another size is given. */
+    public static final int DEFAULT_BUFFER_SIZE = Flow.defaultBufferSize();
+
+    private final SubmissionPublisher<TaskChange> publisher;
+    private final Set<Task> doneTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final AtomicLong droppedCount = new AtomicLong();
+    private long lastSequence;
+
+    /**
+     * Constructor for TaskChangeFeed.
+     *
+     * @param tasks The tasks in the list.
+     * @param bufferSize The most changes buffered for a subscriber that has not requested them yet, rounded up to a
+     *                   power of two.
+     */
+    public TaskChangeFeed(List<Task> tasks, int bufferSize) {
+        publisher = new SubmissionPublisher<>(ForkJoinPool.commonPool(), bufferSize);
+        for (Task task : tasks) {
+            if (task.isDone()) {
+                doneTasks.add(task);
+            }
+        }
+    }
+
+    /**
+     * Subscribes to the changes made from now on. To start from a known state, copy the list and subscribe while
+     * holding the lock of the TaskList.
+     *
+     * @param subscriber The subscriber.
+     */
+    public void subscribe(Flow.Subscriber<? super TaskChange> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    /**
+     * Returns how many changes were dropped, counting once for each subscriber that missed a change.
+     *
+     * @return The number of dropped changes.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Returns the number of the latest change published. Read it while holding the lock of the TaskList, together
+     * with a copy of the list, to tell which changes the copy already includes.
+     *
+     * @return The number of the latest change, or 0 if none has been published.
+     */
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    @Override
+    public void taskAdded(int index, Task task) {
+        if (task.isDone()) {
+            doneTasks.add(task);
+        }
+        publish(TaskChange.Type.ADDED, index, task);
+    }
+
+    @Override
+    public void taskStatusChanged(int index, Task task) {
+        boolean isMarkedDone = task.isDone() && doneTasks.add(task);
+        if (!task.isDone()) {
+            doneTasks.remove(task);
+        }
+        publish(isMarkedDone ? TaskChange.Type.MARKED_DONE : TaskChange.Type.UPDATED, index, task);
+    }
+
+    @Override
+    public void taskRemoved(int index, Task task) {
+        doneTasks.remove(task);
+        publish(TaskChange.Type.DELETED, index, task);
+    }
+
+    @Override
+    public void tasksReordered() {
+        publish(TaskChange.Type.REORDERED, -1, null);
+    }
+
+    private void publish(TaskChange.Type type, int index, Task task) {
+        if (publisher.isClosed() || !publisher.hasSubscribers()) {
+            return;
+        }
+        publisher.offer(new TaskChange(++lastSequence, type, index, task), (subscriber, change) -> {
+            droppedCount.incrementAndGet();
+            return false;
+        });
+    }
+
+    /**
+     * Stops publishing changes, and tells every subscriber once it has received the changes already published.
+     */
+    @Override
+    public void close() {
+        publisher.close();
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.duke.task;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps a hash index from the id of each task in a list to the task and its position, so that a task is found by
+ * its id in constant time however the list has been sorted. Positions are shifted as tasks are added and removed,
+ * which costs as much as the shift of the list itself, and worked out again after the list has been reordered. They
+ * are checked before they are used, so a change the index was not told about costs one pass over the list.
+ */
+public class TaskIdIndex implements TaskListObserver {
+    private final List<Task> tasks;
+    private final Map<Long, Task> tasksById = new HashMap<>();
+    private final Map<Task, Integer> positions = new IdentityHashMap<>();
+    private final Map<Task, Long> indexedIds = new IdentityHashMap<>();
+    private long nextId = 1;
+
+    /**
+     * Constructor for TaskIdIndex. Tasks without an id, or with the id of an earlier task, are given new ids.
+     *
+     * @param tasks The list of tasks, which is read again whenever positions have to be worked out.
+     * @param maxId The highest id ever given, e.g. to a task deleted since, which new ids follow.
+     */
+    public TaskIdIndex(List<Task> tasks, long maxId) {
+        this.tasks = tasks;
+        nextId = maxId + 1;
+        for (Task task : tasks) {
+            nextId = Math.max(nextId, task.getId() + 1);
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+            assignId(tasks.get(i));
+            positions.put(tasks.get(i), i);
+        }
+    }
+
+    /**
+     * Gives an id to every task that has none, or the same id as an earlier task, e.g. after a task file from
+     * before ids is loaded. New ids follow the highest id in the list, or the highest id ever given if it is higher,
+     * so that the id of a deleted task is never given to another.
+     *
+     * @param tasks The tasks.
+     * @param maxId The highest id ever given, or 0 if it is not known.
+     */
+    public static void assignIds(List<Task> tasks, long maxId) {
+        long nextId = maxId + 1;
+        for (Task task : tasks) {
+            nextId = Math.max(nextId, task.getId() + 1);
+        }
+        Set<Long> usedIds = new HashSet<>();
+        for (Task task : tasks) {
+            if (task.getId() <= 0 || !usedIds.add(task.getId())) {
+                task.setId(nextId++);
+                usedIds.add(task.getId());
+            }
+        }
+    }
+
+    /**
+     * Gives a task an id if it has none or its id belongs to another task, and indexes it by its id.
+     *
+     * @param task The task.
+     */
+    public void assignId(Task task) {
+        Task owner = tasksById.get(task.getId());
+        if (task.getId() <= 0 || (owner != null && owner != task)) {
+            task.setId(nextId);
+        }
+        nextId = Math.max(nextId, task.getId() + 1);
+        Long indexedId = indexedIds.put(task, task.getId());
+        if (indexedId != null && indexedId != task.getId() && tasksById.get(indexedId) == task) {
+            tasksById.remove(indexedId);
+        }
+        tasksById.put(task.getId(), task);
+    }
+
+    public Task getTask(long id) {
+        return tasksById.get(id);
+    }
+
+    /**
+     * Finds the position of the task with an id, in constant time unless the list was changed without the index
+     * being told, in which case the positions are worked out again from the whole list.
+     *
+     * @param id The id of the task.
+     * @return The zero-based position, or -1 if no task in the list has the id.
+     */
+    public int indexOf(long id) {
+        Task task = tasksById.get(id);
+        if (task == null) {
+            return -1;
+        }
+        Integer position = positions.get(task);
+        if (position == null || position >= tasks.size() || tasks.get(position) != task) {
+            tasksReordered();
+            position = positions.get(task);
+        }
+        return position == null ? -1 : position;
+    }
+
+    @Override
+    public void taskAdded(int index, Task task) {
+        assignId(task);
+        positions.replaceAll((other, position) -> position >= index ? position + 1 : position);
+        positions.put(task, index);
+    }
+
+    @Override
+    public void taskStatusChanged(int index, Task task) {
+        Long indexedId = indexedIds.get(task);
+        if (indexedId == null || indexedId != task.getId()) {
+            assignId(task); // the task took the id of its saved copy
+        }
+    }
+
+    @Override
+    public void taskRemoved(int index, Task task) {
+        if (tasksById.get(task.getId()) == task) {
+            tasksById.remove(task.getId());
+        }
+        positions.remove(task);
+        positions.replaceAll((other, position) -> position > index ? position - 1 : position);
+        indexedIds.remove(task);
+    }
+
+    @Override
+    public void tasksReordered() {
+        positions.clear();
+        for (int i = 0; i < tasks.size(); i++) {
+            positions.put(tasks.get(i), i);
+        }
+    }
+}
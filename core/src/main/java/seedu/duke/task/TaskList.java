@@ -0,0 +1,1129 @@
+package seedu.duke.task;
+
+import seedu.duke.autocomplete.TaskCompleter;
+import seedu.duke.enums.Priority;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InvalidInputFormatException;
+import seedu.duke.filter.FilterQuery;
+import seedu.duke.filter.TaskBitmapIndex;
+import seedu.duke.history.TaskHistory;
+import seedu.duke.stats.TaskStatistics;
+import seedu.duke.storage.Archive;
+import seedu.duke.storage.ArchivePolicy;
+import seedu.duke.storage.PagedTasks;
+import seedu.duke.storage.Storage;
+import seedu.duke.storage.StorageDiff;
+import seedu.duke.storage.StorageJournal;
+import seedu.duke.ui.Ui;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Contains the task list and operations to add, delete, and change the list.
+ */
+public class TaskList {
+    private static final int SIMILAR_TASK_LIMIT = 10;
+    private static final int PAGED_SORT_LIMIT = 1000;
+
+    protected List<Task> tasks;
+    private Storage storage;
+    private Ui ui;
+    private TaskHistory history;
+    private ArchivePolicy archivePolicy = ArchivePolicy.fromSystemProperties();
+    private List<TaskListObserver> observers = new ArrayList<>();
+    private TrigramIndex trigramIndex;
+    private TaskStatistics statistics;
+    private TaskBitmapIndex bitmapIndex;
+    private TaskIdIndex idIndex;
+    private TaskChangeFeed changeFeed;
+    private TaskCompleter completer;
+    private PagedTasks pagedTasks;
+    private long changeCount;
+    private long modificationCount;
+
+    /**
+     * Constructor for TaskList. A list kept in pages on the hard disk is not held in memory, so it has no history
+     * of changes to undo and no index of ids, and its filters and searches index a chunk of it at a time.
+     *
+     * @param tasks The list of tasks.
+     * @param storage The hard disk for storage of data.
+     */
+    public TaskList(List<Task> tasks, Storage storage) {
+        this.tasks = tasks;
+        this.storage = storage;
+        ui = new Ui();
+        if (tasks instanceof PagedTasks) {
+            pagedTasks = (PagedTasks) tasks;
+            history = TaskHistory.disabled();
+        } else if (tasks != null) {
+            history = new TaskHistory(tasks);
+            idIndex = new TaskIdIndex(tasks, storage.getMaxId());
+            addObserver(idIndex);
+        }
+    }
+
+    public List<Task> getTasks() {
+        return tasks;
+    }
+
+    /**
+     * Makes the list print through another Ui, e.g. one that keeps the response of a single command.
+     *
+     * @param ui The Ui to print through.
+     * @return The Ui the list printed through before.
+     */
+    public Ui setUi(Ui ui) {
+        Ui previousUi = this.ui;
+        this.ui = ui;
+        return previousUi;
+    }
+
+    /**
+     * Checks if the list is kept in pages on the hard disk rather than in memory.
+     *
+     * @return true if the list is paged.
+     */
+    public boolean isPaged() {
+        return pagedTasks != null;
+    }
+
+    /**
+     * Finds the index number of the task with an id, through the hash index of ids, or by reading a paged list in
+     * order.
+     *
+     * @param id The id of the task.
+     * @return The index number, or 0 if no task in the list has the id.
+     */
+    public int getIndexNumber(long id) {
+        if (pagedTasks == null) {
+            return idIndex.indexOf(id) + 1;
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+            if (tasks.get(i).getId() == id) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Gives a task an id if it has none, through the hash index of ids, or after the highest id of a paged list.
+     */
+    private void assignId(Task task) {
+        if (pagedTasks == null) {
+            idIndex.assignId(task);
+        } else if (task.getId() <= 0) {
+            task.setId(pagedTasks.getMaxId() + 1);
+        }
+    }
+
+    /**
+     * Registers an observer that is told about every later change to the list.
+     *
+     * @param observer The observer to be registered.
+     */
+    public void addObserver(TaskListObserver observer) {
+        observers.add(observer);
+    }
+
+    /**
+     * Counts the tasks added, changed and removed so far, e.g. to tell whether a command changed the list.
+     *
+     * @return The number of changes to tasks in the list.
+     */
+    public long getChangeCount() {
+        return changeCount;
+    }
+
+    /**
+     * Counts every change to the list that could change what it prints, i.e. the changes to tasks as well as
+     * sorting that moved tasks, e.g. to tell whether a response printed from the list is still up to date.
+     *
+     * @return The number of modifications to the list so far.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    private void notifyAdded(int index, Task task) {
+        changeCount++;
+        modificationCount++;
+        for (TaskListObserver observer : observers) {
+            observer.taskAdded(index, task);
+        }
+    }
+
+    private void notifyStatusChanged(int index, Task task) {
+        changeCount++;
+        modificationCount++;
+        for (TaskListObserver observer : observers) {
+            observer.taskStatusChanged(index, task);
+        }
+    }
+
+    private void notifyRemoved(int index, Task task) {
+        changeCount++;
+        modificationCount++;
+        for (TaskListObserver observer : observers) {
+            observer.taskRemoved(index, task);
+        }
+    }
+
+    /**
+     * Adds a task into the list and the hard disk where it belongs, found by binary search, so only the new task is
+     * written and no other task moves. If the list has drifted out of order, e.g. as recurring tasks move on to
+     * their next occurrences, it is sorted again when it is listed. A paged list takes the task through insertTask.
+     *
+     * @param task The task to be added.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void addTask(Task task) throws IOException {
+        if (pagedTasks != null) {
+            insertTask(task);
+            return;
+        }
+        idIndex.assignId(task);
+        int index = sortedIndexOf(task);
+        tasks.add(index, task);
+        history.recordAdd(index, task);
+        storage.insertInStorage(index + 1, task);
+        notifyAdded(index, task);
+    }
+
+    /**
+     * Finds where a task goes in the list by binary search. The list may have fallen out of order since it was last
+     * sorted, e.g. when a task was marked as done, so the neighbours of that index are checked, and the index is
+     * found by a linear search if they are out of order.
+     */
+    private int sortedIndexOf(Task task) {
+        int index = Collections.binarySearch(tasks, task);
+        index = index < 0 ? -index - 1 : index;
+        boolean isAfterPrevious = index == 0 || tasks.get(index - 1).compareTo(task) <= 0;
+        boolean isBeforeNext = index == tasks.size() || task.compareTo(tasks.get(index)) <= 0;
+        if (isAfterPrevious && isBeforeNext) {
+            return index;
+        }
+        for (index = 0; index < tasks.size(); index++) {
+            if (task.compareTo(tasks.get(index)) < 0) {
+                break;
+            }
+        }
+        return index;
+    }
+
+    private boolean isSorted() {
+        for (int i = 1; i < tasks.size(); i++) {
+            if (tasks.get(i - 1).compareTo(tasks.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Moves every done task into the archive.
+     *
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void archiveTasks() throws IOException {
+        int count = archive(Task::isDone);
+        if (count == 0) {
+            ui.printNoTaskToArchive();
+        } else {
+            ui.printArchived(count);
+        }
+    }
+
+    /**
+     * Moves the done tasks chosen by the archive policy into the archive, if the list has grown past its limit.
+     *
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void applyArchivePolicy() throws IOException {
+        if (!archivePolicy.isDue(tasks.size())) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        int count = archive(task -> archivePolicy.isArchivable(task, today));
+        if (count > 0) {
+            ui.printArchived(count);
+        }
+    }
+
+    /**
+     * Writes the tasks that match into a new archive segment and keeps only the others in the list and hard disk.
+     * The segment is written first and the hard disk is then replaced atomically, so a crash in between leaves the
+     * archived tasks in both rather than in neither.
+     * Archived tasks cannot be restored by undo, so the history starts again from the remaining tasks.
+     * A paged list has the archived tasks removed from it one by one, so that it is never copied into memory.
+     *
+     * @param isArchived Tells which tasks are to be archived.
+     * @return The number of tasks archived.
+     * @throws IOException If an input or output exception occurred.
+     */
+    private int archive(Predicate<Task> isArchived) throws IOException {
+        List<Task> archivedTasks = new ArrayList<>();
+        List<Task> remainingTasks = new ArrayList<>();
+        List<Integer> archivedIndexes = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            if (isArchived.test(task)) {
+                archivedTasks.add(task);
+                archivedIndexes.add(i);
+            } else if (pagedTasks == null) {
+                remainingTasks.add(task);
+            }
+        }
+        if (archivedTasks.isEmpty()) {
+            return 0;
+        }
+
+        storage.getArchive().append(archivedTasks);
+        if (pagedTasks == null) {
+            tasks.clear();
+            tasks.addAll(remainingTasks);
+        } else {
+            for (int i = archivedIndexes.size() - 1; i >= 0; i--) {
+                tasks.remove((int) archivedIndexes.get(i));
+            }
+        }
+        storage.rewriteStorage(tasks);
+        history.reset(tasks);
+        for (int i = archivedTasks.size() - 1; i >= 0; i--) {
+            notifyRemoved(archivedIndexes.get(i), archivedTasks.get(i));
+        }
+        return archivedTasks.size();
+    }
+
+    /**
+     * Brings the list in line with the hard disk after it has been changed outside of Duke. Only the tasks that
+     * differ are added, updated or removed, and added tasks are inserted where they belong rather than resorting.
+     * The hard disk is then saved in the order of the list again, so that later changes go to the right lines.
+     * Changes from outside cannot be undone, so the history starts again from the new list.
+     *
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void reloadFromStorage() throws IOException {
+        reloadFromStorage(true);
+    }
+
+    /**
+     * Brings the list in line with the hard disk.
+     *
+     * @param isOrderSaved true to save the hard disk in the order of the list afterwards. Processes that share the
+     *     hard disk do not, or they could take turns saving it in their own orders.
+     */
+    private void reloadFromStorage(boolean isOrderSaved) throws IOException {
+        StorageDiff diff;
+        try {
+            diff = StorageDiff.between(tasks, storage.readLines());
+        } catch (DukeException e) {
+            ui.printUnreadableStorage();
+            return;
+        }
+        applyDiff(diff, isOrderSaved);
+        if (!diff.isEmpty()) {
+            ui.printReloaded(diff.getAddedTasks().size(), diff.getUpdatedTasks().size(),
+                    diff.getRemovedIndexes().size());
+        }
+    }
+
+    /**
+     * Catches up with the changes other Duke processes have saved to the hard disk since the list last did, reading
+     * only the lines that changed from the journal of the hard disk. If the journal cannot tell what changed, e.g.
+     * as the file was edited outside of Duke, the whole file is compared with the list instead.
+     * The lock of the hard disk should be held, so that no process writes the file meanwhile.
+     *
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void syncWithStorage() throws IOException {
+        StorageJournal journal = storage == null ? null : storage.getJournal();
+        if (tasks == null || journal == null) {
+            return;
+        }
+        StorageJournal.Changes changes = journal.readChanges();
+        if (changes.isRewritten()) {
+            reloadFromStorage(false);
+            return;
+        }
+
+        int addedCount = 0;
+        int updatedCount = 0;
+        int removedCount = 0;
+        for (Map.Entry<Long, String> entry : changes.getSavedLines().entrySet()) {
+            int index = idIndex.indexOf(entry.getKey());
+            String line = entry.getValue();
+            if (line == null) {
+                if (index >= 0) {
+                    notifyRemoved(index, tasks.remove(index));
+                    removedCount++;
+                }
+                continue;
+            }
+            if (index >= 0 && Storage.toStorageString(tasks.get(index)).equals(line)) {
+                continue;
+            }
+
+            Task savedTask;
+            try {
+                savedTask = Storage.toTask(line);
+            } catch (DukeException e) {
+                reloadFromStorage(false);
+                return;
+            }
+            if (index >= 0 && StorageDiff.isSameTask(tasks.get(index), savedTask)) {
+                Task task = tasks.get(index);
+                copyStatus(savedTask, task);
+                notifyStatusChanged(index, task);
+                updatedCount++;
+                continue;
+            }
+            if (index >= 0) { // the task was edited, so it may belong elsewhere in the list
+                notifyRemoved(index, tasks.remove(index));
+                updatedCount++;
+            } else {
+                addedCount++;
+            }
+            int newIndex = sortedIndexOf(savedTask);
+            tasks.add(newIndex, savedTask);
+            notifyAdded(newIndex, savedTask);
+        }
+        if (addedCount + updatedCount + removedCount > 0) {
+            history.reset(tasks);
+            ui.printReloaded(addedCount, updatedCount, removedCount);
+        }
+    }
+
+    /**
+     * Adds, updates and removes the tasks that differ from a saved list, and saves the list in its own order.
+     *
+     * @param diff The difference between the list and the saved list.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void applyDiff(StorageDiff diff) throws IOException {
+        applyDiff(diff, true);
+    }
+
+    private void applyDiff(StorageDiff diff, boolean isOrderSaved) throws IOException {
+        if (diff.isSameOrder() || (diff.isEmpty() && !isOrderSaved)) {
+            return;
+        }
+
+        List<Integer> removedIndexes = diff.getRemovedIndexes();
+        for (int i = removedIndexes.size() - 1; i >= 0; i--) {
+            int index = removedIndexes.get(i);
+            notifyRemoved(index, tasks.remove(index));
+        }
+
+        for (Map.Entry<Integer, Task> entry : diff.getUpdatedTasks().entrySet()) {
+            int index = entry.getKey() - countBefore(removedIndexes, entry.getKey());
+            Task task = tasks.get(index);
+            Task savedTask = entry.getValue();
+            copyStatus(savedTask, task);
+            notifyStatusChanged(index, task);
+        }
+
+        for (Task task : diff.getAddedTasks()) {
+            assignId(task);
+            int index = sortedIndexOf(task);
+            tasks.add(index, task);
+            notifyAdded(index, task);
+        }
+
+        if (isOrderSaved) {
+            storage.rewriteStorage(tasks);
+        }
+        history.reset(tasks);
+    }
+
+    /**
+     * Adds a task where it belongs in the list, e.g. when it was added on another copy of the list.
+     *
+     * @param task The task to be added.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void insertTask(Task task) throws IOException {
+        assignId(task);
+        int index = sortedIndexOf(task);
+        tasks.add(index, task);
+        storage.insertInStorage(index + 1, task);
+        history.reset(tasks);
+        notifyAdded(index, task);
+    }
+
+    /**
+     * Copies the done status of a saved task to the task in the list that it was saved from.
+     *
+     * @param oldLine The line the task was saved as before its done status changed.
+     * @param savedTask The task as it is saved now.
+     * @return false if no task in the list is saved as the old line.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public boolean updateSavedTask(String oldLine, Task savedTask) throws IOException {
+        int index = indexOfSaved(oldLine);
+        if (index < 0) {
+            return false;
+        }
+        Task task = tasks.get(index);
+        copyStatus(savedTask, task);
+        storage.replaceInStorage(index + 1, task);
+        history.reset(tasks);
+        notifyStatusChanged(index, task);
+        return true;
+    }
+
+    /**
+     * Removes the task that is saved as the given line.
+     *
+     * @param line The line the task is saved as.
+     * @return false if no task in the list is saved as the line.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public boolean removeSavedTask(String line) throws IOException {
+        int index = indexOfSaved(line);
+        if (index < 0) {
+            return false;
+        }
+        Task task = tasks.remove(index);
+        storage.deleteInStorage(index + 1, task);
+        history.reset(tasks);
+        notifyRemoved(index, task);
+        return true;
+    }
+
+    /**
+     * Copies the done status, occurrences done, priority, tags and id of a saved task to the task it was saved from.
+     */
+    private static void copyStatus(Task savedTask, Task task) {
+        if (savedTask.getId() > 0) {
+            task.setId(savedTask.getId());
+        }
+        task.setDone(savedTask.isDone());
+        task.setPriority(savedTask.getPriority());
+        task.setTags(savedTask.getTags());
+        if (task instanceof Recurring) {
+            ((Recurring) task).setDoneOccurrences(((Recurring) savedTask).getDoneOccurrences());
+        }
+    }
+
+    /**
+     * Finds the task saved as a line through the id in the line, or by comparing every task with it if the line was
+     * saved before tasks had ids.
+     */
+    private int indexOfSaved(String line) {
+        long id = Storage.idOf(line);
+        if (id > 0) {
+            int index = getIndexNumber(id) - 1;
+            return index >= 0 && Storage.toStorageString(tasks.get(index)).equals(line) ? index : -1;
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+            if (Storage.toStorageString(tasks.get(i)).equals(line)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int countBefore(List<Integer> sortedIndexes, int index) {
+        int position = Collections.binarySearch(sortedIndexes, index);
+        return position < 0 ? -position - 1 : position;
+    }
+
+    /**
+     * Sorts the list according to due dates and alphabetical order, if it is not sorted already, and tells the
+     * observers that the positions of the tasks have changed.
+     */
+    public void sortTasks() {
+        if (!isSorted()) {
+            Collections.sort(tasks);
+            modificationCount++;
+            history.sync(tasks);
+            for (TaskListObserver observer : observers) {
+                observer.tasksReordered();
+            }
+        }
+    }
+
+    public void printList() {
+        ui.printList(tasks);
+    }
+
+    /**
+     * Marks the task as done by changing the done status from "N" to "Y".
+     * It also updates the done status in the hard disk storage list accordingly.
+     *
+     * @param index The index number of the task that is marked as done.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void markTaskAsDone(int index) throws IOException {
+        Task task = tasks.get(index - 1);
+        if (task.isDone()) {
+            ui.printTaskAlrDone();
+        } else {
+            task.markAsDone();
+            assert task.isDone() || task instanceof Recurring;
+            history.recordDone(index - 1, task);
+            storage.replaceInStorage(index, task);
+            notifyStatusChanged(index - 1, task);
+            ui.printTaskDone();
+        }
+        ui.print(task.toString());
+    }
+
+    /**
+     * Marks one occurrence of a recurring task as done.
+     *
+     * @param index The index number of the recurring task.
+     * @param date The date of the occurrence.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void markOccurrenceAsDone(int index, LocalDate date) throws IOException {
+        Recurring task = (Recurring) tasks.get(index - 1);
+        if (task.isOccurrenceDone(date)) {
+            ui.printTaskAlrDone();
+        } else {
+            task.markOccurrenceAsDone(date);
+            history.recordDone(index - 1, task);
+            storage.replaceInStorage(index, task);
+            notifyStatusChanged(index - 1, task);
+            ui.printTaskDone();
+        }
+        ui.print(task.toString());
+    }
+
+    /**
+     * Adds tags to a task.
+     *
+     * @param index The index number of the task.
+     * @param tags The tags to be added, without the leading #.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void tagTask(int index, Set<String> tags) throws IOException {
+        changeTask(index, task -> {
+            Set<String> newTags = new TreeSet<>(task.getTags());
+            newTags.addAll(tags);
+            task.setTags(newTags);
+        });
+    }
+
+    /**
+     * Removes tags from a task.
+     *
+     * @param index The index number of the task.
+     * @param tags The tags to be removed, without the leading #, or no tags to remove them all.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void untagTask(int index, Set<String> tags) throws IOException {
+        changeTask(index, task -> {
+            Set<String> newTags = new TreeSet<>(task.getTags());
+            if (tags.isEmpty()) {
+                newTags.clear();
+            } else {
+                newTags.removeAll(tags);
+            }
+            task.setTags(newTags);
+        });
+    }
+
+    /**
+     * Sets the priority of a task.
+     *
+     * @param index The index number of the task.
+     * @param priority The new priority.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void setTaskPriority(int index, Priority priority) throws IOException {
+        changeTask(index, task -> task.setPriority(priority));
+    }
+
+    /**
+     * Changes the labels of a task, in the list, the history and the hard disk.
+     */
+    private void changeTask(int index, Consumer<Task> change) throws IOException {
+        Task task = tasks.get(index - 1);
+        change.accept(task);
+        history.recordChange(index - 1, task);
+        storage.replaceInStorage(index, task);
+        notifyStatusChanged(index - 1, task);
+        ui.printTaskChanged();
+        ui.print(task.toString());
+    }
+
+    /**
+     * Deletes the task from the task list and the hard disk storage list accordingly.
+     *
+     * @param index The index number of the task that is being deleted.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void deleteTask(int index) throws IOException {
+        Task task = tasks.get(index - 1);
+        tasks.remove(index - 1);
+        history.recordDelete(index - 1, task);
+        notifyRemoved(index - 1, task);
+        ui.printRemoveTask();
+        ui.print(task.toString());
+        ui.printNumTask(tasks);
+        storage.deleteInStorage(index, task);
+    }
+
+    /**
+     * Marks several tasks as done in one pass and writes the list to the hard disk once.
+     *
+     * @param indexes The zero-based positions of the tasks, in ascending order.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void markTasksAsDone(int[] indexes) throws IOException {
+        int[] changedIndexes = new int[indexes.length];
+        List<Task> changedTasks = new ArrayList<>();
+        for (int index : indexes) {
+            Task task = tasks.get(index);
+            if (!task.isDone()) {
+                task.markAsDone();
+                changedIndexes[changedTasks.size()] = index;
+                changedTasks.add(task);
+            }
+        }
+
+        if (changedTasks.isEmpty()) {
+            ui.printTaskAlrDone();
+            return;
+        }
+        history.recordAllDone(Arrays.copyOf(changedIndexes, changedTasks.size()), changedTasks);
+        storage.rewriteStorage(tasks);
+        for (int i = 0; i < changedTasks.size(); i++) {
+            notifyStatusChanged(changedIndexes[i], changedTasks.get(i));
+        }
+        ui.printTasksDone(changedTasks.size());
+        ui.printList(changedTasks);
+    }
+
+    /**
+     * Deletes several tasks in one pass and writes the list to the hard disk once. A paged list has them removed one
+     * by one instead of being copied.
+     *
+     * @param indexes The zero-based positions of the tasks, in ascending order.
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void deleteTasks(int[] indexes) throws IOException {
+        List<Task> deletedTasks = new ArrayList<>(indexes.length);
+        if (pagedTasks != null) {
+            for (int index : indexes) {
+                deletedTasks.add(tasks.get(index));
+            }
+            for (int i = indexes.length - 1; i >= 0; i--) {
+                tasks.remove(indexes[i]);
+            }
+        } else {
+            List<Task> remainingTasks = new ArrayList<>(tasks.size() - indexes.length);
+            int next = 0;
+            for (int i = 0; i < tasks.size(); i++) {
+                if (next < indexes.length && indexes[next] == i) {
+                    deletedTasks.add(tasks.get(i));
+                    next++;
+                } else {
+                    remainingTasks.add(tasks.get(i));
+                }
+            }
+            tasks.clear();
+            tasks.addAll(remainingTasks);
+        }
+        history.recordAllDeleted(indexes, deletedTasks);
+        storage.rewriteStorage(tasks);
+        for (int i = indexes.length - 1; i >= 0; i--) {
+            notifyRemoved(indexes[i], deletedTasks.get(i));
+        }
+        ui.printRemoveTasks(deletedTasks.size());
+        ui.printNumTask(tasks);
+    }
+
+    /**
+     * Undoes the latest change to the list and reverts the hard disk storage list accordingly.
+     *
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void undo() throws IOException {
+        if (!history.canUndo()) {
+            ui.printNothingToUndo();
+            return;
+        }
+        TaskHistory.Step step = history.undo();
+        restore(step.getTasks());
+        ui.printUndo();
+        printChangedTasks(step.getTasks());
+    }
+
+    /**
+     * Redoes the latest undone change to the list and reapplies it to the hard disk storage list accordingly.
+     *
+     * @throws IOException If an input or output exception occurred.
+     */
+    public void redo() throws IOException {
+        if (!history.canRedo()) {
+            ui.printNothingToRedo();
+            return;
+        }
+        TaskHistory.Step step = history.redo();
+        restore(step.getTasks());
+        ui.printRedo();
+        printChangedTasks(step.getTasks());
+    }
+
+    private void printChangedTasks(List<Task> changedTasks) {
+        for (Task task : changedTasks) {
+            ui.print(task.toString());
+        }
+    }
+
+    /**
+     * Replaces the list with the current version of the history and writes the changed tasks to the hard disk.
+     * A single changed task is written in place; several are written together in one pass.
+     *
+     * @param changedTasks The tasks that differ between the list and the restored version.
+     * @throws IOException If an input or output exception occurred.
+     */
+    private void restore(List<Task> changedTasks) throws IOException {
+        Map<Task, Integer> oldIndexes = indexesOf(tasks, changedTasks);
+        List<Task> restored = history.restore();
+        Map<Task, Integer> newIndexes = indexesOf(restored, changedTasks);
+        tasks.clear();
+        tasks.addAll(restored);
+
+        Task changedTask = changedTasks.get(0);
+        int oldIndex = oldIndexes.getOrDefault(changedTask, -1);
+        int newIndex = newIndexes.getOrDefault(changedTask, -1);
+        if (changedTasks.size() > 1) {
+            storage.rewriteStorage(tasks);
+        } else if (oldIndex < 0) {
+            storage.insertInStorage(newIndex + 1, changedTask);
+        } else if (newIndex < 0) {
+            storage.deleteInStorage(oldIndex + 1, changedTask);
+        } else {
+            storage.replaceInStorage(oldIndex + 1, changedTask);
+        }
+
+        for (int i = changedTasks.size() - 1; i >= 0; i--) {
+            Task task = changedTasks.get(i);
+            if (!newIndexes.containsKey(task)) {
+                notifyRemoved(oldIndexes.get(task), task);
+            }
+        }
+        for (Task task : changedTasks) {
+            if (!oldIndexes.containsKey(task)) {
+                notifyAdded(newIndexes.get(task), task);
+            } else if (newIndexes.containsKey(task)) {
+                notifyStatusChanged(newIndexes.get(task), task);
+            }
+        }
+    }
+
+    /**
+     * Finds the positions of the wanted tasks in a list, scanning the list once however many tasks are wanted.
+     *
+     * @param list The list to be searched.
+     * @param wantedTasks The tasks to be found.
+     * @return The zero-based position of each wanted task that is in the list.
+     */
+    private static Map<Task, Integer> indexesOf(List<Task> list, List<Task> wantedTasks) {
+        Map<Task, Integer> indexes = new IdentityHashMap<>();
+        if (wantedTasks.size() == 1) {
+            int index = list.indexOf(wantedTasks.get(0));
+            if (index >= 0) {
+                indexes.put(wantedTasks.get(0), index);
+            }
+            return indexes;
+        }
+        Map<Task, Boolean> isWanted = new IdentityHashMap<>();
+        for (Task task : wantedTasks) {
+            isWanted.put(task, true);
+        }
+        for (int i = 0; i < list.size(); i++) {
+            if (isWanted.containsKey(list.get(i))) {
+                indexes.put(list.get(i), i);
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Finds task(s) which contains a substring given by the user.
+     *
+     * @param desc A substring of a task that user wants to find.
+     */
+    public void findTask(String desc) {
+        findTask(desc, false);
+    }
+
+    /**
+     * Finds task(s) which contains a substring given by the user, optionally also in the archive.
+     * The archive is read one segment at a time, after the tasks in the list. Tasks are printed as they are found,
+     * so neither a paged list nor the archive is ever held in memory.
+     *
+     * @param desc A substring of a task that user wants to find.
+     * @param includesArchive true if archived tasks are searched too.
+     */
+    public void findTask(String desc, boolean includesArchive) {
+        FoundTaskPrinter foundTasks = new FoundTaskPrinter(ui::printFoundTask);
+        for (Task task : tasks) {
+            if (task.getDescription().contains(desc)) {
+                foundTasks.accept(task);
+            }
+        }
+        FoundTaskPrinter foundArchivedTasks = new FoundTaskPrinter(ui::printFoundArchivedTask);
+        if (includesArchive) {
+            try (Archive.Reader archivedTasks = storage.getArchive().open()) {
+                while (archivedTasks.hasNext()) {
+                    Task task = archivedTasks.next();
+                    if (task.getDescription().contains(desc)) {
+                        foundArchivedTasks.accept(task);
+                    }
+                }
+            } catch (IOException | UncheckedIOException e) {
+                ui.print(e.toString());
+            }
+        }
+
+        if (foundTasks.count == 0 && foundArchivedTasks.count == 0) {
+            ui.printNoFoundTask();
+        }
+    }
+
+    /**
+     * Gets the counts of open and done tasks, which are worked out on the first call and then kept up to date with
+     * every change to the list. The counts of a paged list are worked out again on every call, as keeping them up to
+     * date means keeping every task.
+     *
+     * @return The statistics of the list.
+     */
+    public TaskStatistics getStatistics() {
+        if (pagedTasks != null) {
+            return TaskStatistics.countOnce(tasks);
+        }
+        if (statistics == null) {
+            statistics = new TaskStatistics(tasks);
+            addObserver(statistics);
+        }
+        return statistics;
+    }
+
+    /**
+     * Gets the feed of changes to the list, which is created on the first call. Subscribe to it while holding the
+     * lock of the list, after copying the list, to start from a known state.
+     *
+     * @return The change feed of the list.
+     */
+    public TaskChangeFeed getChangeFeed() {
+        if (changeFeed == null) {
+            changeFeed = new TaskChangeFeed(tasks, TaskChangeFeed.DEFAULT_BUFFER_SIZE);
+            addObserver(changeFeed);
+        }
+        return changeFeed;
+    }
+
+    /**
+     * Gets the completer of commands typed against the list, which is built on the first call and then kept up to
+     * date with every change to the list.
+     *
+     * @return The completer of the list.
+     */
+    public TaskCompleter getCompleter() {
+        if (completer == null) {
+            completer = new TaskCompleter(tasks);
+            addObserver(completer);
+        }
+        return completer;
+    }
+
+    /**
+     * Finds the tasks that match a filter over their tags, priority, type and done status, in list order.
+     * The bitmap index is built on the first filter and then kept up to date with every change to the list. A paged
+     * list is filtered a chunk at a time instead, through an index of the chunk that is dropped afterwards, and the
+     * matches of each chunk are printed before the next one is read.
+     *
+     * @param query The filter given by the user, e.g. "#work high -done".
+     * @throws InvalidInputFormatException If the filter cannot be read.
+     */
+    public void filterTasks(String query) throws InvalidInputFormatException {
+        FilterQuery filter = FilterQuery.parse(query);
+        if (pagedTasks != null) {
+            FoundTaskPrinter foundTasks = new FoundTaskPrinter(ui::printFoundFilteredTask);
+            for (int start = 0; start < tasks.size(); start += pagedTasks.getChunkSize()) {
+                TaskBitmapIndex index = new TaskBitmapIndex(readChunk(start));
+                List<Task> chunkMatches = index.toTasks(filter.evaluate(index));
+                Collections.sort(chunkMatches);
+                chunkMatches.forEach(foundTasks);
+            }
+            if (foundTasks.count == 0) {
+                ui.printNoFoundTask();
+            }
+            return;
+        }
+
+        TaskBitmapIndex index = getBitmapIndex();
+        List<Task> foundTasks = index.toTasks(filter.evaluate(index));
+        if (foundTasks.isEmpty()) {
+            ui.printNoFoundTask();
+        } else {
+            Collections.sort(foundTasks);
+            ui.printFoundFilteredTask();
+            ui.printList(foundTasks);
+        }
+    }
+
+    private List<Task> readChunk(int start) {
+        return new ArrayList<>(tasks.subList(start, Math.min(tasks.size(), start + pagedTasks.getChunkSize())));
+    }
+
+    private TaskBitmapIndex getBitmapIndex() {
+        if (bitmapIndex == null) {
+            bitmapIndex = new TaskBitmapIndex(tasks);
+            addObserver(bitmapIndex);
+        }
+        return bitmapIndex;
+    }
+
+    /**
+     * Finds the tasks that match a query, and prints how the query was run if it asks for it.
+     * The bitmap index is built on the first query that could use it and then kept up to date with every change to
+     * the list. A paged list is scanned, as its tasks are not kept in an index, and its tasks are printed as they
+     * are found, followed by the plan. Only its first PAGED_SORT_LIMIT tasks are sorted, as sorting holds them all.
+     *
+     * @param query The query.
+     */
+    public void queryTasks(TaskQuery query) {
+        if (pagedTasks != null) {
+            boolean isSortLimited = query.getOrder() != null && query.getLimit() > PAGED_SORT_LIMIT;
+            if (isSortLimited) {
+                query.setLimit(PAGED_SORT_LIMIT);
+            }
+            QueryPlan plan = new QueryPlan(query, tasks, null);
+            FoundTaskPrinter foundTasks = new FoundTaskPrinter(ui::printFoundQueriedTask);
+            int foundCount = plan.execute(foundTasks);
+            if (foundCount == 0) {
+                ui.printNoFoundTask();
+            } else if (isSortLimited && foundCount == PAGED_SORT_LIMIT) {
+                ui.printSortedTaskLimit(PAGED_SORT_LIMIT);
+            }
+            if (query.isExplained()) {
+                ui.printQueryPlan(plan.getSteps(), plan.getScanCount(), foundCount);
+            }
+            return;
+        }
+
+        boolean isIndexed = query.hasIndexedCondition();
+        QueryPlan plan = new QueryPlan(query, tasks, isIndexed ? getBitmapIndex() : null);
+        List<Task> foundTasks = plan.execute();
+        if (query.isExplained()) {
+            ui.printQueryPlan(plan.getSteps(), plan.getScanCount(), foundTasks.size());
+        }
+        if (foundTasks.isEmpty()) {
+            ui.printNoFoundTask();
+        } else {
+            ui.printFoundQueriedTask();
+            ui.printList(foundTasks);
+        }
+    }
+
+    /**
+     * Finds the tasks whose descriptions are closest to a possibly misspelt keyword, best match first.
+     * The trigram index is built on the first search and then kept up to date with every change to the list.
+     * A paged list is searched a chunk at a time instead, and the best matches of every chunk are ranked together,
+     * which gives the same matches as a single index as each match is scored by itself.
+     *
+     * @param keyword The keyword given by the user.
+     */
+    public void findSimilarTask(String keyword) {
+        List<Task> foundTasks;
+        if (pagedTasks != null) {
+            List<Task> chunkMatches = new ArrayList<>();
+            for (int start = 0; start < tasks.size(); start += pagedTasks.getChunkSize()) {
+                chunkMatches.addAll(new TrigramIndex(readChunk(start)).search(keyword, SIMILAR_TASK_LIMIT));
+            }
+            foundTasks = new TrigramIndex(chunkMatches).search(keyword, SIMILAR_TASK_LIMIT);
+        } else {
+            if (trigramIndex == null) {
+                trigramIndex = new TrigramIndex(tasks);
+                addObserver(trigramIndex);
+            }
+            foundTasks = trigramIndex.search(keyword, SIMILAR_TASK_LIMIT);
+        }
+        if (foundTasks.isEmpty()) {
+            ui.printNoFoundTask();
+        } else {
+            ui.printFoundSimilarTask();
+            ui.printList(foundTasks);
+        }
+    }
+
+    /**
+     * Prints the deadlines, events and occurrences of recurring tasks that are not done and fall within the next
+     * few days. Occurrences are only worked out for the days in the window.
+     *
+     * @param days The number of days after today to include.
+     */
+    public void printUpcoming(int days) {
+        LocalDate today = LocalDate.now();
+        LocalDate lastDay = today.plusDays(days);
+        List<Map.Entry<LocalDate, String>> upcoming = new ArrayList<>();
+        for (Task task : tasks) {
+            if (task instanceof Recurring) {
+                Recurring recurring = (Recurring) task;
+                for (LocalDate date : recurring.getOccurrences(today, lastDay)) {
+                    if (!recurring.isOccurrenceDone(date)) {
+                        upcoming.add(Map.entry(date, "[R][N] " + recurring.getDescription()));
+                    }
+                }
+            } else if (!task.isDone() && task.getDate() != null
+                    && !task.getDate().isBefore(today) && !task.getDate().isAfter(lastDay)) {
+                upcoming.add(Map.entry(task.getDate(), task.toString()));
+            }
+        }
+
+        if (upcoming.isEmpty()) {
+            ui.printNothingUpcoming(days);
+            return;
+        }
+        upcoming.sort(Map.Entry.comparingByKey(Comparator.naturalOrder()));
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("EEE, MMM d yyyy");
+        List<String> lines = new ArrayList<>(upcoming.size());
+        for (Map.Entry<LocalDate, String> entry : upcoming) {
+            lines.add(entry.getKey().format(formatter) + ": " + entry.getValue());
+        }
+        ui.printUpcoming(days, lines);
+    }
+
+    /**
+     * Prints the tasks found in a search as they are found, so they are never all held at once. The heading is
+     * printed before the first task, and nothing is printed if none is found.
+     */
+    private class FoundTaskPrinter implements Consumer<Task> {
+        private final Runnable printHeading;
+        private int count;
+
+        private FoundTaskPrinter(Runnable printHeading) {
+            this.printHeading = printHeading;
+        }
+
+        @Override
+        public void accept(Task task) {
+            if (count == 0) {
+                printHeading.run();
+            }
+            count++;
+            ui.printListItem(count, task);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.duke.task;
+
+/**
+ * Gets told about every change to a TaskList, so that anything kept alongside the list can be updated one task at
+ * a time instead of being rebuilt from the whole list.
+ */
+public interface TaskListObserver {
+    /**
+     * Tells that a task has been added to the list.
+     *
+     * @param index The zero-based position of the task in the list.
+     * @param task The task that was added.
+     */
+    void taskAdded(int index, Task task);
+
+    /**
+     * Tells that a task has been marked as done, or as not done when a change is undone.
+     *
+     * @param index The zero-based position of the task in the list.
+     * @param task The task whose done status changed.
+     */
+    void taskStatusChanged(int index, Task task);
+
+    /**
+     * Tells that a task has been removed from the list, by deleting or archiving it.
+     *
+     * @param index The zero-based position the task had in the list.
+     * @param task The task that was removed.
+     */
+    void taskRemoved(int index, Task task);
+
+    /**
+     * Tells that the list has been sorted into another order, so the positions told before no longer hold. No task
+     * was added, removed or changed. Observers that do not keep positions need not do anything.
+     */
+    default void tasksReordered() {
+
+    }
+}
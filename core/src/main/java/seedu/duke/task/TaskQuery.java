@@ -0,0 +1,190 @@
+package seedu.duke.task;
+
+import seedu.duke.enums.Priority;
+import seedu.duke.enums.TaskTypes;
+import seedu.duke.filter.CompressedBitmap;
+import seedu.duke.filter.TaskBitmapIndex;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Represents a query over the tasks: the conditions a task must meet, the order of the results and how many of
+ * them to keep. Each condition knows how costly it is to check and, if it only looks at the type, done status,
+ * priority or tags of a task, how to look it up in a TaskBitmapIndex, so that a QueryPlan can decide how to run it.
+ */
+public class TaskQuery {
+    /** Checks a field of the task. */
+    static final int FIELD_COST = 0;
+    /** Works out a date, which for a recurring task means finding its next occurrence. */
+    static final int DATE_COST = 1;
+    /** Looks up a set of the task. */
+    static final int SET_COST = 2;
+    /** Searches the description of the task. */
+    static final int TEXT_COST = 3;
+
+    private final List<Condition> conditions = new ArrayList<>();
+    private Comparator<Task> order;
+    private String orderName;
+    private int limit = Integer.MAX_VALUE;
+    private boolean isExplained;
+
+    /**
+     * Keeps the tasks of any of the given types.
+     *
+     * @param types The types, e.g. deadline and event.
+     * @param name The condition as the user typed it, e.g. "type:deadline,event".
+     */
+    public void whereType(Set<TaskTypes> types, String name) {
+        addCondition(name, FIELD_COST, task -> types.contains(task.getType()), index -> {
+            CompressedBitmap bitmap = new CompressedBitmap();
+            for (TaskTypes type : types) {
+                bitmap = bitmap.or(index.getType(type));
+            }
+            return bitmap;
+        });
+    }
+
+    public void whereDone(boolean isDone, String name) {
+        addCondition(name, FIELD_COST, task -> task.isDone() == isDone, index -> index.getDone(isDone));
+    }
+
+    /**
+     * Keeps the tasks with any of the given priorities.
+     *
+     * @param priorities The priorities.
+     * @param name The condition as the user typed it, e.g. "priority:high".
+     */
+    public void wherePriority(Set<Priority> priorities, String name) {
+        addCondition(name, FIELD_COST, task -> priorities.contains(task.getPriority()), index -> {
+            CompressedBitmap bitmap = new CompressedBitmap();
+            for (Priority priority : priorities) {
+                bitmap = bitmap.or(index.getPriority(priority));
+            }
+            return bitmap;
+        });
+    }
+
+    public void whereTag(String tag, String name) {
+        addCondition(name, SET_COST, task -> task.getTags().contains(tag), index -> index.getTag(tag));
+    }
+
+    public void whereBefore(LocalDate date, String name) {
+        addCondition(name, DATE_COST, task -> task.getDate() != null && task.getDate().isBefore(date), null);
+    }
+
+    public void whereAfter(LocalDate date, String name) {
+        addCondition(name, DATE_COST, task -> task.getDate() != null && task.getDate().isAfter(date), null);
+    }
+
+    /**
+     * Keeps the tasks whose descriptions contain a text, ignoring case.
+     *
+     * @param text The text.
+     * @param name The condition as the user typed it, e.g. "text:report".
+     */
+    public void whereText(String text, String name) {
+        String lowerCaseText = text.toLowerCase();
+        addCondition(name, TEXT_COST, task -> task.getDescription().toLowerCase().contains(lowerCaseText), null);
+    }
+
+    private void addCondition(String name, int cost, Predicate<Task> predicate,
+            Function<TaskBitmapIndex, CompressedBitmap> lookup) {
+        conditions.add(new Condition(name, cost, predicate, lookup));
+    }
+
+    /**
+     * Orders the results by a key, and then in list order.
+     *
+     * @param key date, description, priority, type or id. Tasks without a date come last, and high priority
+     *            comes first.
+     * @param isDescending true to reverse the order of the key.
+     * @return false if the key is unknown.
+     */
+    public boolean sortBy(String key, boolean isDescending) {
+        Comparator<Task> keyOrder;
+        switch (key) {
+        case "date":
+            keyOrder = Comparator.comparing(Task::getDate, Comparator.nullsLast(Comparator.naturalOrder()));
+            break;
+        case "description":
+            keyOrder = Comparator.comparing(task -> task.getDescription().toLowerCase());
+            break;
+        case "priority":
+            keyOrder = Comparator.comparing(Task::getPriority);
+            break;
+        case "type":
+            keyOrder = Comparator.comparing(Task::getType);
+            break;
+        case "id":
+            keyOrder = Comparator.comparingLong(Task::getId);
+            break;
+        default:
+            return false;
+        }
+        order = (isDescending ? keyOrder.reversed() : keyOrder).thenComparing(Comparator.naturalOrder());
+        orderName = key + (isDescending ? " desc" : " asc");
+        return true;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    public void setExplained(boolean isExplained) {
+        this.isExplained = isExplained;
+    }
+
+    List<Condition> getConditions() {
+        return Collections.unmodifiableList(conditions);
+    }
+
+    Comparator<Task> getOrder() {
+        return order;
+    }
+
+    String getOrderName() {
+        return orderName;
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    public boolean isExplained() {
+        return isExplained;
+    }
+
+    /**
+     * Checks if any condition can be looked up in a TaskBitmapIndex.
+     *
+     * @return true if the query could use the index.
+     */
+    public boolean hasIndexedCondition() {
+        return conditions.stream().anyMatch(condition -> condition.lookup != null);
+    }
+
+    /**
+     * Represents one condition of a query.
+     */
+    static class Condition {
+        final String name;
+        final int cost;
+        final Predicate<Task> predicate;
+        final Function<TaskBitmapIndex, CompressedBitmap> lookup;
+
+        private Condition(String name, int cost, Predicate<Task> predicate,
+                Function<TaskBitmapIndex, CompressedBitmap> lookup) {
+            this.name = name;
+            this.cost = cost;
+            this.predicate = predicate;
+            this.lookup = lookup;
+        }
+    }
+}
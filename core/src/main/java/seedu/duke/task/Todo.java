@@ -1,5 +1,7 @@
 package seedu.duke.task;
 
+import seedu.duke.enums.TaskTypes;
+
 /**
  * Represents a Todo object.
  */
@@ -15,7 +17,12 @@ public class Todo extends Task {
 
     @Override
     public String toString() {
-        return "[T]" + super.toString();
+        return "[T]" + super.toString() + getLabels();
+    }
+
+    @Override
+    public TaskTypes getType() {
+        return TaskTypes.TODO;
     }
 
     @Override
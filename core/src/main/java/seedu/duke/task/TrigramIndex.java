@@ -0,0 +1,185 @@
+package seedu.duke.task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Indexes the descriptions of tasks by their trigrams, the groups of three consecutive characters in each word,
+ * so that tasks can be found by a keyword even if it is misspelt or cased differently.
+ * The index follows the TaskList it observes, so it is only built once.
+ */
+public class TrigramIndex implements TaskListObserver {
+    private static final int MAX_CANDIDATES = 512;
+
+    private Map<Long, Set<Task>> postings = new HashMap<>();
+
+    /**
+     * Creates an index of the given tasks.
+     *
+     * @param tasks The tasks to be indexed.
+     */
+    public TrigramIndex(List<Task> tasks) {
+        for (Task task : tasks) {
+            add(task);
+        }
+    }
+
+    @Override
+    public void taskAdded(int index, Task task) {
+        add(task);
+    }
+
+    @Override
+    public void taskStatusChanged(int index, Task task) {
+        // the description, and so the trigrams, of a task never change
+    }
+
+    @Override
+    public void taskRemoved(int index, Task task) {
+        for (long trigram : trigramsOf(task.getDescription())) {
+            Set<Task> tasks = postings.get(trigram);
+            tasks.remove(task);
+            if (tasks.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    private void add(Task task) {
+        for (long trigram : trigramsOf(task.getDescription())) {
+            postings.computeIfAbsent(trigram, key -> new HashSet<>()).add(task);
+        }
+    }
+
+    /**
+     * Finds the tasks whose descriptions are closest to the keyword, ignoring case.
+     * Only the tasks sharing the most trigrams with the keyword, at most MAX_CANDIDATES of them, are compared
+     * character by character, and each comparison stops as soon as it is sure to need too many edits. Only the best
+     * matches are kept in a bounded heap while they are compared.
+     *
+     * @param keyword The keyword typed by the user.
+     * @param limit The largest number of tasks to return.
+     * @return The closest tasks, best match first.
+     */
+    public List<Task> search(String keyword, int limit) {
+        String query = keyword.trim().toLowerCase();
+        Set<Long> queryTrigrams = trigramsOf(query);
+        Map<Task, int[]> overlaps = new IdentityHashMap<>();
+        for (long trigram : queryTrigrams) {
+            for (Task task : postings.getOrDefault(trigram, Collections.emptySet())) {
+                overlaps.computeIfAbsent(task, key -> new int[1])[0]++;
+            }
+        }
+
+        int maxEdits = query.length() <= 4 ? 1 : 2;
+        int minOverlap = Math.max(1, queryTrigrams.size() - 3 * maxEdits); // one edit changes at most 3 trigrams
+        PriorityQueue<Map.Entry<Task, int[]>> candidates = new PriorityQueue<>(
+                Comparator.comparingInt(entry -> entry.getValue()[0]));
+        for (Map.Entry<Task, int[]> entry : overlaps.entrySet()) {
+            if (entry.getValue()[0] >= minOverlap) {
+                candidates.offer(entry);
+                if (candidates.size() > MAX_CANDIDATES) {
+                    candidates.poll();
+                }
+            }
+        }
+
+        PriorityQueue<Match> bestMatches = new PriorityQueue<>(Match.WORST_FIRST);
+        for (Map.Entry<Task, int[]> entry : candidates) {
+            int edits = substringDistance(query, entry.getKey().getDescription().toLowerCase(), maxEdits);
+            if (edits > maxEdits) {
+                continue;
+            }
+            double score = (double) entry.getValue()[0] / queryTrigrams.size() - edits;
+            bestMatches.offer(new Match(entry.getKey(), score));
+            if (bestMatches.size() > limit) {
+                bestMatches.poll();
+            }
+        }
+
+        List<Task> foundTasks = new ArrayList<>(bestMatches.size());
+        while (!bestMatches.isEmpty()) {
+            foundTasks.add(bestMatches.poll().task);
+        }
+        Collections.reverse(foundTasks);
+        return foundTasks;
+    }
+
+    /**
+     * Splits a text into words and lists the trigrams of every word, with a space marking the start and end of it.
+     */
+    private static Set<Long> trigramsOf(String text) {
+        Set<Long> trigrams = new HashSet<>();
+        for (String word : text.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = " " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16)
+                        | padded.charAt(i + 2));
+            }
+        }
+        return trigrams;
+    }
+
+    /**
+     * Counts the fewest insertions, deletions and substitutions that turn the query into some substring of the
+     * text, so a query matches wherever it appears in a description. The text is read one character at a time,
+     * keeping a column of distances for every prefix of the query, but only down to the last prefix that is still
+     * within maxEdits (Ukkonen's cut-off), so a text far from the query costs O(maxEdits) per character.
+     *
+     * @return The distance, or maxEdits + 1 if it is more than maxEdits.
+     */
+    static int substringDistance(String query, String text, int maxEdits) {
+        int length = query.length();
+        int[] column = new int[length + 1]; // distances below lastActive are stale, and taken as maxEdits + 1
+        for (int i = 0; i <= length; i++) {
+            column[i] = i;
+        }
+        int lastActive = Math.min(maxEdits, length);
+        int best = lastActive == length ? length : maxEdits + 1;
+        for (int j = 0; j < text.length() && best > 0; j++) {
+            char c = text.charAt(j);
+            int diagonal = 0; // the empty prefix of the query matches before any character
+            int lastRow = Math.min(lastActive + 1, length);
+            for (int i = 1; i <= lastRow; i++) {
+                int left = i > lastActive ? maxEdits + 1 : column[i];
+                column[i] = query.charAt(i - 1) == c ? diagonal
+                        : 1 + Math.min(diagonal, Math.min(left, column[i - 1]));
+                diagonal = left;
+            }
+            lastActive = lastRow;
+            while (column[lastActive] > maxEdits) {
+                lastActive--;
+            }
+            if (lastActive == length) {
+                best = Math.min(best, column[length]);
+            }
+        }
+        return best;
+    }
+
+    private static class Match {
+        /** Orders matches by score, preferring shorter and then alphabetically earlier descriptions on a tie. */
+        private static final Comparator<Match> WORST_FIRST = Comparator.<Match>comparingDouble(match -> match.score)
+                .thenComparing(match -> match.task.getDescription(),
+                        Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder()).reversed());
+
+        private final Task task;
+        private final double score;
+
+        private Match(Task task, double score) {
+            this.task = task;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.duke.ui;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replaces System.out with a stream that is only written to the console when its buffer fills up, or at the
+ * latest a moment after something was printed, instead of on every line.
+ * Everything Ui prints goes through System.out, so it is buffered too.
+ */
+public class BufferedOutput implements AutoCloseable {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final long FLUSH_MILLIS = 200;
+
+    private final PrintStream originalOut;
+    private final PrintStream out;
+    private final ScheduledExecutorService flusher;
+
+    private BufferedOutput() {
+        originalOut = System.out;
+        out = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), BUFFER_SIZE),
+                false, StandardCharsets.UTF_8);
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "duke-output-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(out::flush, FLUSH_MILLIS, FLUSH_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Starts buffering System.out until the returned output is closed.
+     *
+     * @return The buffered output.
+     */
+    public static BufferedOutput install() {
+        BufferedOutput output = new BufferedOutput();
+        System.setOut(output.out);
+        return output;
+    }
+
+    /**
+     * Writes what is left in the buffer and puts the original System.out back.
+     */
+    @Override
+    public void close() {
+        flusher.shutdownNow();
+        out.flush();
+        System.setOut(originalOut);
+    }
+}
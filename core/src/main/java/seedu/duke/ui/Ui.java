@@ -0,0 +1,361 @@
+package seedu.duke.ui;
+
+import seedu.duke.storage.LoadError;
+import seedu.duke.task.Task;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Deals with interactions with the user.
+ */
+public class Ui {
+    private static final int QUARANTINED_LINES_SHOWN = 5;
+
+    private PrintStream out;
+
+    public Ui() {
+
+    }
+
+    /**
+     * Creates a Ui that prints to the given stream instead of System.out, e.g. to keep the response of a single
+     * command apart from what other threads print meanwhile.
+     *
+     * @param out The stream to print to.
+     */
+    public Ui(PrintStream out) {
+        this.out = out;
+    }
+
+    private PrintStream out() {
+        return out == null ? System.out : out;
+    }
+
+    /**
+     * Greets the user when the GUI first starts and displays the available commands.
+     * @return greetings and available commands format.
+     */
+    public String greet() {
+        String greetings = "Hi there, I'm Dodo!\n"
+                + "How may I help you today?\n"
+                + "Available commands:\n"
+                + "- To list all tasks: list\n"
+                + "- To add new deadline: deadline [description] /by [due date in yyyy-mm-dd]\n"
+                + "- To add new event: event [description] /at [date in yyyy-mm-dd]\n"
+                + "- To add new todo: todo [description]\n"
+                + "- To add new recurring task: recur [description] /from [yyyy-mm-dd] /every [days, day, week"
+                + " or fortnight] (optional: /until [yyyy-mm-dd])\n"
+                + "- To mark task as done: done [index] (or a list like 1-5,8, or [index] /on [yyyy-mm-dd] for one"
+                + " occurrence)\n"
+                + "- To delete a task: delete [index] (or a list, /done, /before [yyyy-mm-dd])\n"
+                + "- To see what is due soon: upcoming [number of days, default 7]\n"
+                + "- To count deadlines and events per period: agenda [day, week or month] (optional: /from"
+                + " [yyyy-mm-dd])\n"
+                + "- To count open and done tasks by type: stats\n"
+                + "- To find a task: find [keyword] (find ~[keyword] allows typos, find --all [keyword] searches the"
+                + " archive too)\n"
+                + "- To tag a task: tag [index] #[tag] ... (untag [index] #[tag] ... removes them, or all tags)\n"
+                + "- To set the priority of a task: priority [index] [high, medium, low or none]\n"
+                + "- To filter tasks: filter [#tag, priority, type, done or open, joined by and, or, not and"
+                + " brackets]\n"
+                + "- To query tasks: query [type:, done:, priority:, tag:, before:, after:, text:, sort: (asc or"
+                + " desc), limit:, explain]\n"
+                + "- To pick a task by its id instead of its index: #[id], e.g. done #17 or tag #17 #[tag]\n"
+                + "- To archive all done tasks: archive\n"
+                + "- To undo or redo the latest change: undo, redo\n"
+                + "- To exit: bye";
+        return greetings;
+    }
+
+    /**
+     * Formats a warning about the lines of the task file that could not be read when it was loaded.
+     *
+     * @param errors The lines that could not be read.
+     * @param quarantineFile The file the lines were moved to.
+     * @return The warning, naming the first few lines.
+     */
+    public String formatQuarantined(List<LoadError> errors, Path quarantineFile) {
+        StringBuilder warning = new StringBuilder(String.format("I could not read %d line(s) of your task file, so "
+                + "I moved them to %s. Your other tasks are all here.", errors.size(), quarantineFile.getFileName()));
+        for (int i = 0; i < Math.min(errors.size(), QUARANTINED_LINES_SHOWN); i++) {
+            warning.append("\n").append(errors.get(i));
+        }
+        return warning.toString();
+    }
+
+    public void print(String str) {
+        out().println(str);
+    }
+
+    public void sayBye() {
+        out().println("Stop procrastinating. See you!");
+    }
+
+    public void printFoundTask() {
+        out().println("Here are the matching tasks in your list:");
+    }
+
+    public void printFoundSimilarTask() {
+        out().println("Here are the closest matches in your list:");
+    }
+
+    public void printFoundFilteredTask() {
+        out().println("Here are the tasks that match your filter:");
+    }
+
+    public void printFoundQueriedTask() {
+        out().println("Here are the tasks that match your query:");
+    }
+
+    /**
+     * Prints how a query was run.
+     *
+     * @param steps The steps of the plan of the query.
+     * @param scanCount The number of tasks the query looked at.
+     * @param foundCount The number of tasks the query found.
+     */
+    public void printQueryPlan(List<String> steps, long scanCount, int foundCount) {
+        out().println("Query plan:");
+        for (int i = 0; i < steps.size(); i++) {
+            out().printf("%d. %s\n", i + 1, steps.get(i));
+        }
+        out().printf("Looked at %d %s to find %d.\n", scanCount, scanCount == 1 ? "task" : "tasks", foundCount);
+    }
+
+    public void printFoundArchivedTask() {
+        out().println("Here are the matching tasks in your archive:");
+    }
+
+    public void printNoFoundTask() {
+        out().println("Sorry I can't find what you are looking for....");
+    }
+
+    public void printRemoveTask() {
+        out().println("Okay, I have removed this task for you:");
+    }
+
+    public void printRemoveTasks(int count) {
+        out().printf("Okay, I have removed %d %s for you!\n", count, count == 1 ? "task" : "tasks");
+    }
+
+    public void printAddToList() {
+        out().println("Gotcha. Added this to your list:");
+    }
+
+    protected void printNoTaskYet() {
+        out().println("You currently don't have any task. Start listing now!");
+    }
+
+    protected void printStopProcrastinating() {
+        out().println("Stop procrastinating. Do it now!");
+    }
+
+    public void printTaskDone() {
+        out().println("Good job! One off your chest!");
+    }
+
+    public void printTaskChanged() {
+        out().println("Noted. I've updated this task:");
+    }
+
+    public void printTasksDone(int count) {
+        out().printf("Good job! %d %s off your chest!\n", count, count == 1 ? "task" : "tasks");
+    }
+
+    public void printTaskAlrDone() {
+        out().println("Task is already done!");
+    }
+
+    /**
+     * Reminds the user of a deadline or event that is coming up.
+     *
+     * @param task The task to be reminded of.
+     * @return The reminder.
+     */
+    public String formatReminder(Task task) {
+        return "Psst, don't forget this one is coming up!\n" + task.toString();
+    }
+
+    /**
+     * Tells the user that the task table stopped following the list.
+     *
+     * @param error What went wrong.
+     * @return The message.
+     */
+    public String formatTaskTableError(Throwable error) {
+        return "Sorry, the task table stopped updating, so it may be out of date. Type list to see your tasks.\n"
+                + error;
+    }
+
+    /**
+     * Tells the user that the task file exists but could not be loaded, so nothing can be done with the tasks.
+     *
+     * @param error Why the task file could not be loaded.
+     * @return The message.
+     */
+    public String formatLoadFailure(Exception error) {
+        return "Sorry, I cannot read your tasks: " + error.getMessage() + ": " + error.getCause() + "\n"
+                + "I will not do anything with them, so nothing is saved over them. Fix the file and start me again.";
+    }
+
+    public String formatLoading() {
+        return "Hold on, I'm still loading your tasks. Anything you ask now will be done once they are ready.";
+    }
+
+    public void printReminder(Task task) {
+        out().println(formatReminder(task));
+    }
+
+    public void printNothingUpcoming(int days) {
+        out().printf("Nothing is due in the next %d %s. Enjoy!\n", days, days == 1 ? "day" : "days");
+    }
+
+    /**
+     * Prints what is coming up in the next few days.
+     *
+     * @param days The number of days after today that are included.
+     * @param lines The dates and tasks that are coming up, in order.
+     */
+    public void printUpcoming(int days, List<String> lines) {
+        out().printf("Here is what is coming up in the next %d %s:\n", days, days == 1 ? "day" : "days");
+        for (int i = 0; i < lines.size(); i++) {
+            out().printf("%d. %s\n", i + 1, lines.get(i));
+        }
+    }
+
+    /**
+     * Prints the number of open and done deadlines and events in each period.
+     *
+     * @param lines One line for each period.
+     */
+    public void printAgenda(List<String> lines) {
+        out().println("Here is your agenda:");
+        for (String line : lines) {
+            out().println(line);
+        }
+    }
+
+    /**
+     * Prints the number of open and done tasks of each type.
+     *
+     * @param lines One line for each type of task, and one for the total.
+     */
+    public void printStatistics(List<String> lines) {
+        out().println("Here is how you are doing:");
+        for (String line : lines) {
+            out().println(line);
+        }
+    }
+
+    public void printDuplicateFile() {
+        out().println("File already exists.");
+    }
+
+    public void printArchived(int count) {
+        out().printf("Tidied up! Moved %d done %s to the archive.\n", count, count == 1 ? "task" : "tasks");
+    }
+
+    /**
+     * Prints how the list changed after the hard disk was edited outside of Dodo.
+     *
+     * @param addedCount The number of tasks added.
+     * @param updatedCount The number of tasks whose done status changed.
+     * @param removedCount The number of tasks removed.
+     */
+    public void printReloaded(int addedCount, int updatedCount, int removedCount) {
+        out().printf("Your task file was changed, so I have caught up: %d added, %d updated, %d removed.\n",
+                addedCount, updatedCount, removedCount);
+    }
+
+    public void printUnreadableStorage() {
+        out().println("Your task file was changed, but I cannot read it. I will catch up once it is fixed!");
+    }
+
+    public void printNoTaskToArchive() {
+        out().println("There is no done task to archive!");
+    }
+
+    public void printUndo() {
+        out().println("Alright, I have undone the change to:");
+    }
+
+    public void printRedo() {
+        out().println("Alright, I have redone the change to:");
+    }
+
+    public void printNothingToUndo() {
+        out().println("There is nothing to undo!");
+    }
+
+    public void printNothingToRedo() {
+        out().println("There is nothing to redo!");
+    }
+
+
+
+    /**
+     * Updates the user of the remaining number of tasks in the list.
+     *
+     * @param tasks The current list of tasks.
+     */
+    public void printNumTask(List<Task> tasks) {
+        String taskWord;
+        if (tasks.size() <= 1) {
+            taskWord = "task";
+        } else {
+            assert tasks.size() > 1 : tasks.size();
+            taskWord = "tasks";
+        }
+        out().printf("Now you got %d %s in your list!\n", tasks.size(), taskWord);
+    }
+
+    /**
+     * Formats a task with its id, which can be used in place of its index number, e.g. "done #17".
+     *
+     * @param task The task.
+     * @return The task followed by its id, or just the task if it has no id.
+     */
+    public static String withId(Task task) {
+        return task.getId() > 0 ? task + " (#" + task.getId() + ")" : task.toString();
+    }
+
+    /**
+     * Prints the list of tasks the user has.
+     *
+     * @param currTasks The list of tasks to be printed.
+     */
+    public void printList(List<Task> currTasks) {
+        if (currTasks.size() == 0) {
+            printNoTaskYet();
+        } else {
+            assert currTasks.size() > 0 : currTasks.size();
+            for (int i = 0; i < currTasks.size(); i++) {
+                printListItem(i + 1, currTasks.get(i));
+            }
+        }
+    }
+
+    /**
+     * Prints one task of a list that is printed as its tasks are found, starting with the same line as printList.
+     *
+     * @param number The number of the task in the printed list, starting from 1.
+     * @param task The task.
+     */
+    public void printListItem(int number, Task task) {
+        if (number == 1) {
+            printStopProcrastinating();
+        }
+        out().printf("%d. %s\n", number, withId(task));
+    }
+
+    public void printSortedTaskLimit(int limit) {
+        out().printf("Only the first %d tasks are sorted in a list kept in pages.\n", limit);
+    }
+
+
+
+
+
+}
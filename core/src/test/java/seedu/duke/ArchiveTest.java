@@ -0,0 +1,66 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.storage.Archive;
+import seedu.duke.storage.Storage;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskList;
+import seedu.duke.task.Todo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ArchiveTest {
+    @Test
+    public void testSegmentsAreReadNewestFirst() throws Exception {
+        File directory = Files.createTempDirectory("duke-archive").toFile();
+        Archive archive = new Archive(directory);
+        archive.append(List.of(new Todo("swim"), new Todo("cook")));
+        archive.append(List.of(new Todo("read")));
+        assertEquals(2, archive.getSegments().size());
+
+        List<String> descriptions = new ArrayList<>();
+        for (Task task : archive) {
+            descriptions.add(task.getDescription());
+        }
+        assertEquals(List.of("read", "swim", "cook"), descriptions);
+
+        try (Archive.Reader reader = archive.open()) {
+            assertEquals("read", reader.next().getDescription());
+        } // stopped early, so the open segment is closed here
+    }
+
+    @Test
+    public void testArchivedTasksAreFoundWithAll() throws Exception {
+        Path file = Files.createTempDirectory("duke-archive").resolve("duke.txt");
+        Files.writeString(file, "T | Y | swim laps\nT | N | swim meet\nT | N | cook");
+        Storage storage = new Storage(file.toString());
+        TaskList taskList = new TaskList(storage.load(), storage);
+
+        PrintStream out = System.out;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(buffer));
+        try {
+            taskList.archiveTasks();
+            assertEquals(2, Files.readAllLines(file).size());
+            buffer.reset();
+            taskList.findTask("swim");
+            assertFalse(buffer.toString().contains("swim laps"));
+            buffer.reset();
+            taskList.findTask("swim", true);
+        } finally {
+            System.setOut(out);
+        }
+        assertTrue(buffer.toString().contains("swim meet"));
+        assertTrue(buffer.toString().contains("swim laps"));
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.filter.CompressedBitmap;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompressedBitmapTest {
+    private static final int RANGE = 300000;
+
+    @Test
+    public void testSetOperationsMatchBitSet() {
+        Random random = new Random(11);
+        // Sparse and dense chunks, so that every pairing of chunk kinds is combined.
+        int[] densities = {50, 2000, 9000, 60000};
+        for (int first : densities) {
+            for (int second : densities) {
+                BitSet expectedFirst = new BitSet();
+                BitSet expectedSecond = new BitSet();
+                CompressedBitmap actualFirst = randomBitmap(random, first, expectedFirst);
+                CompressedBitmap actualSecond = randomBitmap(random, second, expectedSecond);
+
+                BitSet and = (BitSet) expectedFirst.clone();
+                and.and(expectedSecond);
+                assertMatches(and, actualFirst.and(actualSecond));
+                BitSet or = (BitSet) expectedFirst.clone();
+                or.or(expectedSecond);
+                assertMatches(or, actualFirst.or(actualSecond));
+                BitSet andNot = (BitSet) expectedFirst.clone();
+                andNot.andNot(expectedSecond);
+                assertMatches(andNot, actualFirst.andNot(actualSecond));
+                assertMatches(expectedFirst, actualFirst);
+            }
+        }
+    }
+
+    @Test
+    public void testRemoveShrinksDenseChunks() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        BitSet expected = new BitSet();
+        for (int i = 0; i < 10000; i++) {
+            bitmap.add(i * 3);
+            expected.set(i * 3);
+        }
+        for (int i = 0; i < 10000; i += 2) {
+            bitmap.remove(i * 3);
+            expected.clear(i * 3);
+        }
+        assertMatches(expected, bitmap);
+        for (int i = 0; i < 30000; i++) {
+            bitmap.remove(i);
+        }
+        assertTrue(bitmap.isEmpty());
+    }
+
+    private static CompressedBitmap randomBitmap(Random random, int count, BitSet expected) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int i = 0; i < count; i++) {
+            int value = random.nextInt(RANGE);
+            bitmap.add(value);
+            expected.set(value);
+        }
+        return bitmap;
+    }
+
+    private static void assertMatches(BitSet expected, CompressedBitmap actual) {
+        assertEquals(expected.cardinality(), actual.cardinality());
+        BitSet values = new BitSet();
+        actual.forEach(values::set);
+        assertEquals(expected, values);
+        for (int i = expected.nextSetBit(0); i >= 0; i = expected.nextSetBit(i + 1)) {
+            assertTrue(actual.contains(i));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.parser.QueryParser;
+import seedu.duke.storage.PagedStorage;
+import seedu.duke.storage.PagedTasks;
+import seedu.duke.storage.Storage;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskList;
+import seedu.duke.task.Todo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PagedTasksTest {
+    private static void assertSameDescriptions(List<Task> expected, List<Task> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getDescription(), actual.get(i).getDescription());
+        }
+    }
+
+    @Test
+    public void testPagesMatchListAndSortOnDisk() throws Exception {
+        Path file = Files.createTempDirectory("duke-pages").resolve("duke.pages");
+        List<Task> expected = new ArrayList<>();
+        Random random = new Random(7);
+        try (PagedTasks pages = PagedTasks.open(file, 4)) {
+            for (int i = 0; i < 2000; i++) {
+                Todo task = new Todo(String.format("task %05d", random.nextInt(100000)));
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, task);
+                pages.add(index, task);
+            }
+            for (int i = 0; i < 300; i++) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index).getDescription(), pages.remove(index).getDescription());
+            }
+            assertSameDescriptions(expected, pages);
+
+            Collections.sort(expected);
+            pages.sort(null);
+            assertSameDescriptions(expected, pages);
+        }
+
+        try (PagedTasks pages = PagedTasks.open(file, 4)) {
+            assertSameDescriptions(expected, pages);
+            assertTrue(pages.getReadCount() < pages.getPageCount()); // pages were read ahead
+        }
+    }
+
+    @Test
+    public void testTaskFileIsMovedIntoPages() throws Exception {
+        Path file = Files.createTempDirectory("duke-pages").resolve("duke.txt");
+        Files.writeString(file, "T | N | swim\nT | N | read book | @4\nT | N | cook");
+        PagedStorage storage = new PagedStorage(file.toString(), 2);
+        TaskList taskList = new TaskList(storage.load(), storage);
+        assertTrue(Files.exists(file.resolveSibling("duke.txt.bak")));
+        assertEquals(3, taskList.getTasks().size());
+        assertEquals("cook", taskList.getTasks().get(0).getDescription());
+        assertEquals(2, taskList.getIndexNumber(4));
+
+        taskList.addTask(new Todo("dance"));
+        taskList.deleteTask(4);
+        assertEquals("dance", taskList.getTasks().get(1).getDescription());
+        assertEquals(7, taskList.getTasks().get(1).getId());
+        assertEquals(3, new PagedStorage(file.toString(), 2).load().size());
+    }
+
+    @Test
+    public void testPagedSearchesPrintLikeListInMemory() throws Exception {
+        Path directory = Files.createTempDirectory("duke-pages");
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            content.append(String.format("T | %s | task %03d | @%d\n", i % 3 == 0 ? "Y" : "N", i, i + 1));
+        }
+        Files.writeString(directory.resolve("duke.txt"), content.toString());
+        Files.writeString(directory.resolve("paged.txt"), content.toString());
+        Storage storage = new Storage(directory.resolve("duke.txt").toString());
+        TaskList taskList = new TaskList(storage.load(), storage);
+        PagedStorage pagedStorage = new PagedStorage(directory.resolve("paged.txt").toString(), 2);
+        TaskList pagedTaskList = new TaskList(pagedStorage.load(), pagedStorage);
+
+        assertEquals(print(() -> taskList.findTask("task 1")), print(() -> pagedTaskList.findTask("task 1")));
+        assertEquals(print(() -> taskList.filterTasks("done")), print(() -> pagedTaskList.filterTasks("done")));
+        assertEquals(print(() -> taskList.filterTasks("open")), print(() -> pagedTaskList.filterTasks("open")));
+        assertEquals(print(() -> taskList.queryTasks(QueryParser.parse("done:y sort:description desc"))),
+                print(() -> pagedTaskList.queryTasks(QueryParser.parse("done:y sort:description desc"))));
+        assertEquals(print(() -> taskList.queryTasks(QueryParser.parse("done:n text:task"))),
+                print(() -> pagedTaskList.queryTasks(QueryParser.parse("done:n text:task"))));
+        assertEquals(print(() -> taskList.findTask("swim")), print(() -> pagedTaskList.findTask("swim")));
+    }
+
+    private interface Printing {
+        void run() throws Exception;
+    }
+
+    private static String print(Printing printing) throws Exception {
+        PrintStream out = System.out;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(buffer));
+        try {
+            printing.run();
+        } finally {
+            System.setOut(out);
+        }
+        return buffer.toString();
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.storage.PartitionedStorage;
+import seedu.duke.storage.Storage;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskList;
+import seedu.duke.task.Todo;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PartitionedStorageTest {
+    private static final String FLAT_FILE = "T | N | read book\n"
+            + "D | N | essay | 2020-02-03\n"
+            + "E | Y | party | 2020-01-20 | #home\n"
+            + "R | N | gym | 2020-01-06 | 7 | - | -\n"
+            + "D | N | report | 2020-01-10\n"
+            + "T | Y | buy milk";
+
+    @Test
+    public void testLoadMergesPartitionsInListOrder() throws Exception {
+        Path flatOnlyFile = Files.createTempDirectory("duke-flat").resolve("duke.txt");
+        Files.writeString(flatOnlyFile, FLAT_FILE);
+        List<Task> flatTasks = new Storage(flatOnlyFile.toString()).load(); // elsewhere, as ids are never given twice
+
+        Path directory = Files.createTempDirectory("duke-partitioned");
+        Path flatFile = directory.resolve("duke.txt");
+        Files.writeString(flatFile, FLAT_FILE);
+        List<Task> partitionedTasks = new PartitionedStorage(flatFile.toString()).load();
+        assertEquals(flatTasks.toString(), partitionedTasks.toString());
+        assertFalse(Files.exists(flatFile));
+        assertTrue(Files.exists(directory.resolve("duke.txt.bak")));
+        Path partitions = directory.resolve("duke.d");
+        assertEquals("D | N | report | 2020-01-10 | @1\nE | Y | party | 2020-01-20 | @2 #home",
+                Files.readString(partitions.resolve("2020-01.txt")));
+        assertEquals("D | N | essay | 2020-02-03 | @3", Files.readString(partitions.resolve("2020-02.txt")));
+        assertTrue(Files.exists(partitions.resolve("todo.txt")));
+        assertTrue(Files.exists(partitions.resolve("recurring.txt")));
+
+        List<Task> reloadedTasks = new PartitionedStorage(flatFile.toString()).load();
+        assertEquals(flatTasks.toString(), reloadedTasks.toString());
+    }
+
+    @Test
+    public void testChangesOnlyRewriteTheirPartition() throws Exception {
+        Path flatFile = Files.createTempDirectory("duke-partitioned").resolve("duke.txt");
+        Files.writeString(flatFile, FLAT_FILE);
+        PartitionedStorage storage = new PartitionedStorage(flatFile.toString());
+        TaskList taskList = new TaskList(storage.load(), storage);
+        Path partitions = flatFile.resolveSibling("duke.d");
+        String january = Files.readString(partitions.resolve("2020-01.txt"));
+
+        taskList.markTaskAsDone(3); // the essay in February
+        assertEquals("D | Y | essay | 2020-02-03 | @3", Files.readString(partitions.resolve("2020-02.txt")));
+        assertEquals(january, Files.readString(partitions.resolve("2020-01.txt")));
+
+        taskList.addTask(new Todo("apply"));
+        assertEquals("T | N | apply | @7\nT | N | read book | @5\nT | Y | buy milk | @6",
+                Files.readString(partitions.resolve("todo.txt")));
+        taskList.deleteTask(3); // the essay again, the only task in February
+        assertFalse(Files.exists(partitions.resolve("2020-02.txt")));
+
+        List<String> lines = storage.readLines();
+        for (int i = 0; i < lines.size(); i++) {
+            assertEquals(Storage.toStorageString(taskList.getTasks().get(i)), lines.get(i));
+        }
+        assertEquals(taskList.getTasks().toString(), new PartitionedStorage(flatFile.toString()).load().toString());
+    }
+
+    @Test
+    public void testReadLinesSeesPartitionsEditedByHand() throws Exception {
+        Path flatFile = Files.createTempDirectory("duke-partitioned").resolve("duke.txt");
+        Files.writeString(flatFile, FLAT_FILE);
+        PartitionedStorage storage = new PartitionedStorage(flatFile.toString());
+        TaskList taskList = new TaskList(storage.load(), storage);
+        assertEquals(taskList.getTasks().size(), storage.readLines().size());
+
+        Path todos = flatFile.resolveSibling("duke.d").resolve("todo.txt");
+        Files.writeString(todos, Files.readString(todos) + "\nT | N | added by hand\nnot a task");
+        List<String> lines = storage.readLines();
+        assertEquals(taskList.getTasks().size() + 2, lines.size());
+        assertTrue(lines.contains("T | N | added by hand"));
+        assertEquals("not a task", lines.get(lines.size() - 1));
+    }
+}
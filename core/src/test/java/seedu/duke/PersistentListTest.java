@@ -0,0 +1,50 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.history.PersistentList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PersistentListTest {
+    @Test
+    public void testUpdatesKeepEarlierVersions() {
+        PersistentList<String> empty = PersistentList.empty();
+        PersistentList<String> one = empty.insert(0, "a");
+        PersistentList<String> two = one.insert(1, "c").insert(1, "b");
+        PersistentList<String> changed = two.set(0, "z").remove(2);
+        assertEquals(List.of("z", "b"), changed.toList());
+
+        assertEquals(0, empty.size());
+        assertEquals(List.of("a"), one.toList());
+        assertEquals(List.of("a", "b", "c"), two.toList());
+    }
+
+    @Test
+    public void testMatchesArrayListUnderRandomUpdates() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            int op = random.nextInt(3);
+            if (op == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.insert(index, i);
+            } else if (op == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                actual = actual.set(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+        }
+        assertEquals(expected, actual.toList());
+        assertEquals(expected.get(expected.size() / 2), actual.get(expected.size() / 2));
+    }
+}
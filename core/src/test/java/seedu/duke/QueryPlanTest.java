@@ -0,0 +1,76 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.exception.DukeException;
+import seedu.duke.filter.TaskBitmapIndex;
+import seedu.duke.parser.QueryParser;
+import seedu.duke.task.Deadline;
+import seedu.duke.task.QueryPlan;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskQuery;
+import seedu.duke.task.Todo;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QueryPlanTest {
+    private static List<Task> makeTasks() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            Task task = i % 10 == 0
+                    ? new Deadline("report " + i, LocalDate.of(2020, 1, 1).plusDays(i))
+                    : new Todo("chore " + i);
+            task.setId(i);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private static List<Long> ids(List<Task> tasks) {
+        List<Long> ids = new ArrayList<>();
+        for (Task task : tasks) {
+            ids.add(task.getId());
+        }
+        return ids;
+    }
+
+    @Test
+    public void testStopsAtLimitAndKeepsTopTasks() throws DukeException {
+        List<Task> tasks = makeTasks();
+
+        QueryPlan firstTwo = new QueryPlan(QueryParser.parse("text:chore limit:2"), tasks, null);
+        assertEquals(List.of(1L, 2L), ids(firstTwo.execute()));
+        assertEquals(2, firstTwo.getScanCount());
+
+        QueryPlan latest = new QueryPlan(QueryParser.parse("type:deadline sort:date desc limit:3"), tasks, null);
+        assertEquals(List.of(100L, 90L, 80L), ids(latest.execute()));
+        assertEquals(100, latest.getScanCount());
+    }
+
+    @Test
+    public void testUsesIndexOnlyWhenSelective() throws DukeException {
+        List<Task> tasks = makeTasks();
+        TaskBitmapIndex index = new TaskBitmapIndex(tasks);
+
+        QueryPlan deadlines = new QueryPlan(QueryParser.parse("type:deadline text:report sort:id"), tasks, index);
+        assertEquals(10, deadlines.execute().size());
+        assertEquals(10, deadlines.getScanCount());
+        assertTrue(deadlines.getSteps().get(0).startsWith("index type:deadline"));
+
+        QueryPlan todos = new QueryPlan(QueryParser.parse("type:todo"), tasks, index);
+        assertEquals(90, todos.execute().size());
+        assertTrue(todos.getSteps().get(0).startsWith("scan all 100 tasks"));
+    }
+
+    @Test
+    public void testRejectsUnknownTerms() {
+        assertThrows(DukeException.class, () -> QueryParser.parse("colour:red"));
+        assertThrows(DukeException.class, () -> QueryParser.parse("sort:size"));
+        assertThrows(DukeException.class, () -> QueryParser.parse("limit:0"));
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.command.DoneCommand;
+import seedu.duke.storage.Storage;
+import seedu.duke.task.Deadline;
+import seedu.duke.task.Recurring;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskList;
+import seedu.duke.task.Todo;
+import seedu.duke.ui.Ui;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RecurringTest {
+    private static final LocalDate START = LocalDate.of(2020, 1, 6);
+
+    @Test
+    public void testNextOccurrenceSkipsDoneOccurrences() {
+        Recurring gym = new Recurring("gym", START, 7, null);
+        assertEquals(START, gym.getNextOccurrence(LocalDate.of(2019, 12, 1)));
+        assertEquals(LocalDate.of(2020, 1, 13), gym.getNextOccurrence(LocalDate.of(2020, 1, 7)));
+        assertEquals(LocalDate.of(2020, 1, 13), gym.getNextOccurrence(LocalDate.of(2020, 1, 13)));
+
+        gym.setDoneOccurrences(Set.of(1L, 2L, 4L, 1000L)); // sparse, with a gap at 3
+        assertEquals(LocalDate.of(2020, 1, 27), gym.getNextOccurrence(LocalDate.of(2020, 1, 8)));
+        assertEquals(START.plusDays(7 * 1001), gym.getNextOccurrence(START.plusDays(7 * 1000)));
+        assertTrue(gym.isOccurrenceDone(START.plusDays(7 * 1000)));
+        assertFalse(gym.isOccurrenceDone(START.plusDays(7 * 1000 + 1)));
+    }
+
+    @Test
+    public void testOccurrencesStopAtTheEndDate() {
+        Recurring gym = new Recurring("gym", START, 7, LocalDate.of(2020, 1, 25));
+        assertFalse(gym.isOccurrence(LocalDate.of(2020, 1, 27)));
+        assertNull(gym.getNextOccurrence(LocalDate.of(2020, 1, 21)));
+
+        List<LocalDate> dates = new ArrayList<>();
+        gym.getOccurrences(LocalDate.of(2019, 1, 1), LocalDate.of(2021, 1, 1)).forEach(dates::add);
+        assertEquals(List.of(START, START.plusDays(7), START.plusDays(14)), dates);
+
+        gym.markOccurrenceAsDone(START);
+        gym.markOccurrenceAsDone(START.plusDays(14));
+        assertFalse(gym.isDone());
+        gym.markOccurrenceAsDone(START.plusDays(7));
+        assertTrue(gym.isDone());
+    }
+
+    @Test
+    public void testDoneOnDateIsSavedAndReadBack() throws Exception {
+        Path file = Files.createTempDirectory("duke-recurring").resolve("duke.txt");
+        String line = "R | N | gym | 2020-01-06 | 7 | 2020-12-28 | 0,5";
+        Files.writeString(file, line);
+        assertEquals(line, Storage.toStorageString(Storage.toTask(line)));
+
+        Storage storage = new Storage(file.toString());
+        TaskList taskList = new TaskList(storage.load(), storage);
+        new DoneCommand(new String[] {"done", "1 /on 2020-01-20"}).execute(taskList, new Ui(), storage);
+        Recurring gym = (Recurring) Storage.toTask(Files.readAllLines(file).get(0));
+        assertEquals(Set.of(0L, 2L, 5L), gym.getDoneOccurrences());
+        assertEquals(LocalDate.of(2020, 12, 28), gym.getEndDate());
+
+        new DoneCommand(new String[] {"done", "1 /on 2020-01-21"}).execute(taskList, new Ui(), storage);
+        assertEquals(Set.of(0L, 2L, 5L), ((Recurring) taskList.getTasks().get(0)).getDoneOccurrences());
+    }
+
+    @Test
+    public void testRecurringTasksSortByNextOccurrence() {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new Deadline("later", LocalDate.of(2101, 1, 1)));
+        tasks.add(new Recurring("gym", LocalDate.of(2100, 1, 1), 7, null));
+        tasks.add(new Deadline("sooner", LocalDate.of(2099, 1, 1)));
+        Collections.sort(tasks);
+        assertEquals("sooner", tasks.get(0).getDescription());
+        assertEquals("gym", tasks.get(1).getDescription());
+        assertEquals("later", tasks.get(2).getDescription());
+    }
+
+    @Test
+    public void testEndedRecurringTasksSortAfterDatedTasks() {
+        LocalDate today = LocalDate.now();
+        Recurring ended = new Recurring("a ended", today.minusDays(30), 7, today.minusDays(1));
+        Recurring current = new Recurring("z current", today.plusDays(10), 7, null);
+        Deadline deadline = new Deadline("essay", today.plusDays(5));
+        assertTrue(ended.compareTo(current) > 0);
+        assertTrue(current.compareTo(ended) < 0);
+        assertTrue(ended.compareTo(deadline) > 0);
+        assertTrue(deadline.compareTo(ended) < 0);
+
+        Todo todo = new Todo("swim");
+        List<Task> tasks = new ArrayList<>(List.of(todo, ended, current, deadline));
+        Collections.sort(tasks);
+        assertEquals(List.of(deadline, current, ended, todo), tasks);
+    }
+}
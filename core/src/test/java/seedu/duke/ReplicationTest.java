@@ -0,0 +1,69 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.replication.Operation;
+import seedu.duke.replication.ReplicationFollower;
+import seedu.duke.replication.ReplicationPrimary;
+import seedu.duke.storage.Storage;
+import seedu.duke.task.Deadline;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskList;
+import seedu.duke.task.Todo;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ReplicationTest {
+    @Test
+    public void testFollowerAppliesChanges() throws Exception {
+        Task read = new Todo("read");
+        ReplicationPrimary primary = new ReplicationPrimary(List.of(read), 0);
+        primary.start();
+
+        Path dataFile = Files.createTempDirectory("duke-replication").resolve("duke.txt");
+        Files.writeString(dataFile, "T | N | stale");
+        Storage storage = new Storage(dataFile.toString());
+        TaskList taskList = new TaskList(storage.load(), storage);
+        ReplicationFollower follower = new ReplicationFollower("localhost", primary.getPort(), taskList,
+                dataFile.resolveSibling("duke.txt.replica"));
+        Thread thread = new Thread(follower::run);
+        thread.setDaemon(true);
+        thread.start();
+
+        Task essay = new Deadline("essay", LocalDate.of(2020, 1, 1));
+        primary.taskAdded(0, essay);
+        read.markAsDone();
+        primary.taskStatusChanged(1, read);
+        essay.markAsDone();
+        primary.taskStatusChanged(0, essay);
+        primary.taskRemoved(1, read);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (follower.getAppliedSequence() < 4 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(4, follower.getAppliedSequence());
+        assertEquals(List.of("D | Y | essay | 2020-01-01 | @2"), Files.readAllLines(dataFile));
+        assertEquals(1, taskList.getTasks().size());
+    }
+
+    @Test
+    public void testLinesLongerThan64KbAreShipped() throws Exception {
+        String line = "T | N | " + "a".repeat(70_000) + "\u00e9 | @1"; // e with an acute accent, two bytes in UTF-8
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        new Operation(3, Operation.Type.UPDATE, line, "T | N | a | @1").writeTo(new DataOutputStream(buffer));
+
+        Operation operation = Operation.readFrom(new DataInputStream(new ByteArrayInputStream(buffer.toByteArray())));
+        assertEquals(3, operation.getSequence());
+        assertEquals(line, operation.getLine());
+        assertEquals("T | N | a | @1", operation.getOldLine());
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.command.AddCommand;
+import seedu.duke.command.FindCommand;
+import seedu.duke.command.ListCommand;
+import seedu.duke.command.ResponseCache;
+import seedu.duke.storage.Storage;
+import seedu.duke.task.TaskList;
+import seedu.duke.task.Todo;
+import seedu.duke.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResponseCacheTest {
+    @Test
+    public void testResponseIsStaleOnceListChanges() throws Exception {
+        Path file = Files.createTempDirectory("duke-cache").resolve("duke.txt");
+        Files.writeString(file, "T | N | swim\nT | N | cook");
+        Storage storage = new Storage(file.toString());
+        TaskList taskList = new TaskList(storage.load(), storage);
+        assertEquals("list", ResponseCache.keyOf(new String[] {"list", "  "}, new ListCommand(taskList)));
+        assertEquals("find co", ResponseCache.keyOf(new String[] {"find", "co"}, new FindCommand(null)));
+        assertNull(ResponseCache.keyOf(new String[] {"todo", "read"}, new AddCommand(null, null)));
+
+        ResponseCache cache = new ResponseCache(1);
+        assertNull(cache.get("list", taskList));
+        cache.put("list", taskList, "1. swim");
+        assertEquals("1. swim", cache.get("list", taskList));
+        cache.put("find co", taskList, "1. cook");
+        assertNull(cache.get("list", taskList)); // dropped, as the cache holds one response
+
+        taskList.addTask(new Todo("read"));
+        assertNull(cache.get("find co", taskList));
+        taskList.sortTasks(); // already sorted, so nothing is modified
+        cache.put("find co", taskList, "1. cook");
+        taskList.sortTasks();
+        assertEquals("1. cook", cache.get("find co", taskList));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    public void testSearchesTypedWithOtherSpacingShareTheirKey() throws Exception {
+        assertEquals("find read book", ResponseCache.keyOf(new String[] {"find", " read \t  book  "},
+                new FindCommand(null)));
+        assertEquals("find --all read", ResponseCache.keyOf(new String[] {"find", "--all   read"},
+                new FindCommand(null)));
+
+        Path file = Files.createTempDirectory("duke-cache").resolve("duke.txt");
+        Files.writeString(file, "T | N | read book\nT | N | cook");
+        Storage storage = new Storage(file.toString());
+        TaskList taskList = new TaskList(storage.load(), storage);
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+        Ui ui = new Ui(new PrintStream(response));
+        Ui listUi = taskList.setUi(ui);
+        new FindCommand(new String[] {"find", "  read   book "}).execute(taskList, ui, storage);
+        taskList.setUi(listUi);
+        assertTrue(response.toString().contains("read book"));
+    }
+
+    @Test
+    public void testResponseIsPrintedThroughBoundUi() throws Exception {
+        Path file = Files.createTempDirectory("duke-cache").resolve("duke.txt");
+        Files.writeString(file, "T | N | swim\nT | N | cook");
+        Storage storage = new Storage(file.toString());
+        TaskList taskList = new TaskList(storage.load(), storage);
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+        Ui commandUi = new Ui(new PrintStream(response));
+
+        PrintStream out = System.out;
+        ByteArrayOutputStream console = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(console));
+        try {
+            Ui listUi = taskList.setUi(commandUi);
+            new FindCommand(new String[] {"find", "swim"}).execute(taskList, commandUi, storage);
+            new Ui().print("Reminder: cook"); // printed by another thread meanwhile
+            taskList.setUi(listUi);
+        } finally {
+            System.setOut(out);
+        }
+        assertTrue(response.toString().contains("swim"));
+        assertFalse(response.toString().contains("Reminder"));
+        assertEquals("Reminder: cook" + System.lineSeparator(), console.toString());
+    }
+}
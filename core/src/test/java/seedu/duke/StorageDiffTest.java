@@ -0,0 +1,50 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.storage.StorageDiff;
+import seedu.duke.task.Deadline;
+import seedu.duke.task.Task;
+import seedu.duke.task.Todo;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StorageDiffTest {
+    @Test
+    public void testUnchangedLinesMatch() throws Exception {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new Deadline("essay", LocalDate.of(2020, 1, 1)));
+        tasks.add(new Todo("read"));
+        StorageDiff diff = StorageDiff.between(tasks, List.of("D|N|essay|2020-01-01", "", "T | N | read"));
+        assertTrue(diff.isEmpty());
+        assertTrue(diff.isSameOrder());
+
+        diff = StorageDiff.between(tasks, List.of("T | N | read", "D | N | essay | 2020-01-01"));
+        assertTrue(diff.isEmpty());
+        assertFalse(diff.isSameOrder());
+    }
+
+    @Test
+    public void testOnlyChangedLinesAreReported() throws Exception {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new Deadline("essay", LocalDate.of(2020, 1, 1)));
+        tasks.add(new Todo("read"));
+        tasks.add(new Todo("read"));
+        tasks.add(new Todo("swim"));
+        StorageDiff diff = StorageDiff.between(tasks,
+                List.of("D | Y | essay | 2020-01-01", "T | N | read", "T | N | cook"));
+
+        assertEquals(List.of(2, 3), diff.getRemovedIndexes());
+        Map<Integer, Task> updatedTasks = diff.getUpdatedTasks();
+        assertEquals(1, updatedTasks.size());
+        assertTrue(updatedTasks.get(0).isDone());
+        assertEquals(1, diff.getAddedTasks().size());
+        assertEquals("cook", diff.getAddedTasks().get(0).getDescription());
+    }
+}
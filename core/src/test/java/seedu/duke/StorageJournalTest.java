@@ -0,0 +1,119 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.storage.Storage;
+import seedu.duke.storage.StorageJournal;
+import seedu.duke.task.TaskList;
+import seedu.duke.task.Todo;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StorageJournalTest {
+    private static TaskList open(Path file) throws Exception {
+        Storage storage = new Storage(file.toString());
+        storage.openJournal();
+        return new TaskList(storage.load(), storage);
+    }
+
+    @Test
+    public void testOtherProcessCatchesUpWithChangedLines() throws Exception {
+        Path file = Files.createTempDirectory("duke-journal").resolve("duke.txt");
+        Files.writeString(file, "T | N | read book");
+        TaskList first = open(file);
+        final TaskList second = open(file);
+
+        first.syncWithStorage();
+        first.addTask(new Todo("write essay"));
+        first.markTaskAsDone(1);
+        second.syncWithStorage();
+        assertEquals(2, second.getTasks().size());
+        assertTrue(second.getTasks().get(0).isDone());
+        assertEquals(2, second.getTasks().get(1).getId());
+
+        second.deleteTask(2);
+        second.addTask(new Todo("swim"));
+        first.syncWithStorage();
+        assertEquals(2, first.getTasks().size());
+        assertEquals("swim", first.getTasks().get(first.getIndexNumber(3) - 1).getDescription());
+        for (int i = 0; i < 2; i++) {
+            assertEquals(Files.readAllLines(file).get(i), Storage.toStorageString(first.getTasks().get(i)));
+        }
+    }
+
+    @Test
+    public void testOutsideEditIsNoticed() throws Exception {
+        Path file = Files.createTempDirectory("duke-journal").resolve("duke.txt");
+        Files.writeString(file, "T | N | read book | @1");
+        Storage storage = new Storage(file.toString());
+        storage.openJournal();
+        StorageJournal journal = storage.getJournal();
+        storage.load();
+        assertTrue(journal.readChanges().isEmpty());
+
+        Files.writeString(file, "T | Y | read book | @1\nT | N | swim | @2");
+        assertTrue(journal.readChanges().isRewritten());
+        assertFalse(journal.readChanges().isRewritten());
+    }
+
+    @Test
+    public void testLockWaitsForOtherProcess() throws Exception {
+        Path file = Files.createTempDirectory("duke-journal").resolve("duke.txt");
+        Files.writeString(file, "T | N | read book | @1");
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Process other = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                Locker.class.getName(), file.toString()).redirectErrorStream(true).start();
+        try (BufferedReader otherOutput = new BufferedReader(new InputStreamReader(other.getInputStream()))) {
+            assertEquals("locked", otherOutput.readLine());
+            CompletableFuture<Void> locked = CompletableFuture.runAsync(() -> {
+                try (StorageJournal journal = StorageJournal.open(file); Closeable lock = journal.lock()) {
+                    journal.readChanges();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            assertThrows(TimeoutException.class, () -> locked.get(500, TimeUnit.MILLISECONDS));
+
+            other.getOutputStream().close(); // the other process releases the lock and exits
+            locked.get(10, TimeUnit.SECONDS);
+            assertTrue(other.waitFor(10, TimeUnit.SECONDS));
+        } finally {
+            other.destroy();
+        }
+    }
+
+    /**
+     * Holds the lock of a journal in another process until its input is closed.
+     */
+    public static class Locker {
+        /**
+         * Locks the journal of a task file, tells the test so and waits for its input to be closed.
+         *
+         * @param args The path of the task file.
+         * @throws Exception If the journal cannot be opened or locked.
+         */
+        public static void main(String[] args) throws Exception {
+            try (StorageJournal journal = StorageJournal.open(Path.of(args[0]))) {
+                Closeable lock = journal.lock();
+                try (lock) {
+                    System.out.println("locked");
+                    System.out.flush();
+                    while (System.in.read() != -1) {
+                        // waits until the test closes the input
+                    }
+                }
+            }
+        }
+    }
+}
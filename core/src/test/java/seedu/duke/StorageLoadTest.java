@@ -0,0 +1,102 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.enums.Priority;
+import seedu.duke.storage.LoadError;
+import seedu.duke.storage.Storage;
+import seedu.duke.task.Deadline;
+import seedu.duke.task.Recurring;
+import seedu.duke.task.Task;
+import seedu.duke.task.Todo;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StorageLoadTest {
+    @Test
+    public void testFirstPageIsPublishedInOrderOnce() throws Exception {
+        Path file = Files.createTempDirectory("duke-load").resolve("duke.txt");
+        Files.writeString(file, "T | N | swim\nT | N | cook\nT | N | read\nT | N | dance\nT | N | bake");
+        Storage storage = new Storage(file.toString());
+        List<List<Task>> pages = new ArrayList<>();
+        storage.setFirstPageListener(3, pages::add);
+
+        List<Task> tasks = storage.load();
+        storage.load();
+        assertEquals(1, pages.size());
+        assertEquals(3, pages.get(0).size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(tasks.get(i).getDescription(), pages.get(0).get(i).getDescription());
+        }
+        assertEquals("bake", pages.get(0).get(0).getDescription());
+    }
+
+    @Test
+    public void testBadLinesAreQuarantinedAndTheRestLoaded() throws Exception {
+        Path file = Files.createTempDirectory("duke-load").resolve("duke.txt");
+        Files.writeString(file, "T | N | swim\nD | N | essay | 2020-13-45\n\nX | cook\nT | N | read");
+        Storage storage = new Storage(file.toString());
+
+        List<Task> tasks = storage.load();
+        assertEquals(2, tasks.size());
+        List<LoadError> errors = storage.getLoadErrors();
+        assertEquals(2, errors.size());
+        assertEquals(2, errors.get(0).getLineNumber());
+        assertEquals("X | cook", errors.get(1).getLine());
+        assertEquals(4, errors.get(1).getLineNumber());
+
+        String quarantined = Files.readString(storage.getQuarantineFile());
+        assertTrue(quarantined.contains("D | N | essay | 2020-13-45\n"));
+        assertTrue(quarantined.contains("# duke.txt line 4: "));
+        assertEquals(2, Files.readAllLines(file).size()); // saved again without the bad lines
+
+        assertEquals(2, storage.load().size());
+        assertTrue(storage.getLoadErrors().isEmpty());
+    }
+
+    @Test
+    public void testDescriptionsWithBarsAreSavedAndLoadedBack() throws Exception {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new Todo("read a | b"));
+        tasks.add(new Deadline("essay | draft \\", LocalDate.of(2020, 1, 1)));
+        tasks.add(new Recurring("gym | legs", LocalDate.of(2020, 1, 6), 7, null));
+        tasks.add(new Todo("ends with a bar |"));
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).setId(i + 1);
+        }
+        tasks.get(0).setTags(Set.of("work"));
+        tasks.get(1).setPriority(Priority.HIGH);
+        Path file = Files.createTempDirectory("duke-load").resolve("duke.txt");
+        Storage storage = new Storage(file.toString());
+        storage.rewriteStorage(tasks);
+
+        List<Task> loadedTasks = new Storage(file.toString()).load();
+        assertEquals(tasks.size(), loadedTasks.size());
+        for (Task task : tasks) {
+            Task loadedTask = loadedTasks.stream()
+                    .filter(loaded -> loaded.getDescription().equals(task.getDescription()))
+                    .findFirst().orElseThrow();
+            assertEquals(Storage.toStorageString(task), Storage.toStorageString(loadedTask));
+            assertEquals(task.getTags(), loadedTask.getTags());
+            assertEquals(task.getPriority(), loadedTask.getPriority());
+        }
+    }
+
+    @Test
+    public void testLinesWithUnescapedBarsAreReadWhole() throws Exception {
+        assertEquals("read a | b", Storage.toTask("T | N | read a | b").getDescription());
+        Task task = Storage.toTask("T | N | read a | b | @1 #work");
+        assertEquals("read a | b", task.getDescription());
+        assertEquals(1, task.getId());
+        assertEquals(1, Storage.idOf("T | N | read a | b | @1 #work"));
+        assertEquals(0, Storage.idOf("T | N | read a | b"));
+        assertEquals(2, Storage.idOf(Storage.toStorageString(Storage.toTask("T | N | x \\| @1 | @2"))));
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.storage.Storage;
+import seedu.duke.task.TaskChange;
+import seedu.duke.task.TaskChangeFeed;
+import seedu.duke.task.TaskList;
+import seedu.duke.task.Todo;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TaskChangeFeedTest {
+    @Test
+    public void testChangesArriveInOrder() throws Exception {
+        Path file = Files.createTempDirectory("duke-feed").resolve("duke.txt");
+        Files.writeString(file, "T | N | read book");
+        Storage storage = new Storage(file.toString());
+        TaskList taskList = new TaskList(storage.load(), storage);
+        ChangeCollector collector = new ChangeCollector(Long.MAX_VALUE);
+        taskList.getChangeFeed().subscribe(collector);
+
+        taskList.addTask(new Todo("write essay"));
+        taskList.markTaskAsDone(2);
+        taskList.deleteTask(1);
+        taskList.getChangeFeed().close();
+
+        assertTrue(collector.completed.await(5, TimeUnit.SECONDS));
+        assertEquals("[#1 ADDED 1: T | N | write essay | @2, #2 MARKED_DONE 1: T | Y | write essay | @2, "
+                + "#3 DELETED 0: T | N | read book | @1]", collector.changes.toString());
+    }
+
+    @Test
+    public void testSortingPublishesReordered() throws Exception {
+        Path file = Files.createTempDirectory("duke-feed").resolve("duke.txt");
+        Files.writeString(file, "T | N | cook\nT | N | swim");
+        Storage storage = new Storage(file.toString());
+        TaskList taskList = new TaskList(storage.load(), storage);
+        ChangeCollector collector = new ChangeCollector(Long.MAX_VALUE);
+        taskList.getChangeFeed().subscribe(collector);
+
+        Collections.reverse(taskList.getTasks()); // out of order, as after recurring tasks move on
+        taskList.sortTasks();
+        taskList.sortTasks(); // already sorted, so nothing moves
+        taskList.getChangeFeed().close();
+
+        assertTrue(collector.completed.await(5, TimeUnit.SECONDS));
+        assertEquals("[#1 REORDERED]", collector.changes.toString());
+    }
+
+    @Test
+    public void testSlowSubscriberMissesChangesWithoutBlocking() throws Exception {
+        TaskChangeFeed feed = new TaskChangeFeed(new ArrayList<>(), 1);
+        ChangeCollector collector = new ChangeCollector(0);
+        feed.subscribe(collector);
+        collector.subscribed.await(5, TimeUnit.SECONDS);
+
+        for (int i = 0; i < 100; i++) {
+            feed.taskAdded(i, new Todo("task " + i));
+        }
+        assertTrue(feed.getDroppedCount() > 0);
+
+        collector.subscription.request(Long.MAX_VALUE);
+        feed.close();
+        assertTrue(collector.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(100, collector.changes.size() + feed.getDroppedCount());
+        assertEquals(1, collector.changes.get(0).getSequence());
+    }
+
+    private static class ChangeCollector implements Flow.Subscriber<TaskChange> {
+        private final List<TaskChange> changes = new ArrayList<>();
+        private final CountDownLatch subscribed = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final long initialRequest;
+        private volatile Flow.Subscription subscription;
+
+        ChangeCollector(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+            subscribed.countDown();
+        }
+
+        @Override
+        public void onNext(TaskChange change) {
+            changes.add(change);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+}
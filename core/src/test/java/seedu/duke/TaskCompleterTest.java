@@ -0,0 +1,48 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.autocomplete.Suggestion;
+import seedu.duke.autocomplete.TaskCompleter;
+import seedu.duke.task.Deadline;
+import seedu.duke.task.Task;
+import seedu.duke.task.Todo;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TaskCompleterTest {
+    private static String texts(List<Suggestion> suggestions) {
+        List<String> texts = new ArrayList<>();
+        for (Suggestion suggestion : suggestions) {
+            texts.add(suggestion.getText());
+        }
+        return texts.toString();
+    }
+
+    @Test
+    public void testCompletesCommandsWordsAndTasks() {
+        List<Task> tasks = new ArrayList<>();
+        Task essay = new Deadline("write essay", LocalDate.of(2020, 1, 1));
+        essay.setId(17);
+        Task review = new Todo("review essay draft");
+        review.setId(18);
+        tasks.add(essay);
+        tasks.add(review);
+        TaskCompleter completer = new TaskCompleter(tasks);
+
+        assertEquals("[deadline , delete ]", texts(completer.complete("de", 5)));
+        assertEquals("[find essay]", texts(completer.complete("find ESS", 5)));
+        assertEquals("[done #17, done #18]", texts(completer.complete("done ess", 5)));
+        assertEquals("[tag #18 ]", texts(completer.complete("tag dra ess", 5)));
+        assertTrue(completer.complete("done 1", 5).isEmpty());
+        assertTrue(completer.complete("done #1", 5).isEmpty());
+
+        completer.taskRemoved(1, review);
+        assertEquals("[done #17]", texts(completer.complete("done ess", 5)));
+        assertTrue(completer.complete("find dra", 5).isEmpty());
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.exception.TaskIndexOutOfBoundsException;
+import seedu.duke.parser.TaskSelector;
+import seedu.duke.storage.PartitionedStorage;
+import seedu.duke.storage.Storage;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskIdIndex;
+import seedu.duke.task.TaskList;
+import seedu.duke.task.Todo;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TaskIdIndexTest {
+    @Test
+    public void testIdsAreUniqueAndFollowTheHighestEverGiven() {
+        List<Task> tasks = new ArrayList<>();
+        for (String description : List.of("swim", "cook", "read")) {
+            tasks.add(new Todo(description));
+        }
+        tasks.get(0).setId(4);
+        tasks.get(1).setId(4);
+        TaskIdIndex.assignIds(tasks, 9);
+        assertEquals(4, tasks.get(0).getId());
+        assertEquals(10, tasks.get(1).getId());
+        assertEquals(11, tasks.get(2).getId());
+
+        TaskIdIndex index = new TaskIdIndex(tasks, 20);
+        Todo dance = new Todo("dance");
+        index.assignId(dance);
+        assertEquals(21, dance.getId());
+
+        Collections.reverse(tasks);
+        assertEquals(2, index.indexOf(4));
+        assertSame(tasks.get(0), index.getTask(11));
+        assertEquals(-1, index.indexOf(99));
+    }
+
+    @Test
+    public void testIdsOfDeletedTasksAreNotGivenAgainAfterARestart() throws Exception {
+        Path flatFile = Files.createTempDirectory("duke-ids").resolve("duke.txt");
+        Files.writeString(flatFile, "T | N | swim\nT | N | read");
+        assertEquals(3, restartAfterDeletingTheNewestTask(new Storage(flatFile.toString())));
+        assertEquals(4, restartAfterDeletingTheNewestTask(new Storage(flatFile.toString())));
+
+        Path otherFile = Files.createTempDirectory("duke-ids").resolve("duke.txt");
+        Files.writeString(otherFile, "T | N | swim\nT | N | read");
+        assertEquals(3, restartAfterDeletingTheNewestTask(new PartitionedStorage(otherFile.toString())));
+        assertEquals(4, restartAfterDeletingTheNewestTask(new PartitionedStorage(otherFile.toString())));
+    }
+
+    /**
+     * Loads the list, adds a task and deletes it again, and tells the id the task was given.
+     */
+    private static long restartAfterDeletingTheNewestTask(Storage storage) throws Exception {
+        TaskList taskList = new TaskList(storage.load(), storage);
+        Todo zzz = new Todo("zzz");
+        taskList.addTask(zzz);
+        taskList.deleteTask(taskList.getIndexNumber(zzz.getId()));
+        return zzz.getId();
+    }
+
+    @Test
+    public void testTasksAreSelectedById() throws Exception {
+        Path file = Files.createTempDirectory("duke-ids").resolve("duke.txt");
+        Files.writeString(file, "T | N | swim | @7\nT | N | cook | @3");
+        assertTrue(TaskSelector.isId(" #7 "));
+        assertFalse(TaskSelector.isId("#"));
+        assertFalse(TaskSelector.isId("#7a"));
+        assertFalse(TaskSelector.isId("7"));
+
+        Storage storage = new Storage(file.toString());
+        TaskList taskList = new TaskList(storage.load(), storage);
+        assertEquals("swim", taskList.getTasks().get(TaskSelector.toIndexNumber("#7", taskList) - 1).getDescription());
+        assertEquals(1, TaskSelector.toIndexNumber("#3", taskList)); // cook is sorted first
+        assertThrows(TaskIndexOutOfBoundsException.class, () -> TaskSelector.toIndexNumber("#8", taskList));
+        assertThrows(TaskIndexOutOfBoundsException.class, () ->
+                TaskSelector.toIndexNumber("#99999999999999999999", taskList));
+    }
+
+    @Test
+    public void testPositionsFollowAddedAndDeletedTasks() throws Exception {
+        Path file = Files.createTempDirectory("duke-ids").resolve("duke.txt");
+        Files.writeString(file, "T | N | cook | @1\nT | N | swim | @2");
+        Storage storage = new Storage(file.toString());
+        TaskList taskList = new TaskList(storage.load(), storage);
+
+        taskList.addTask(new Todo("read"));
+        assertEquals(3, taskList.getIndexNumber(2)); // swim moved down behind read
+        taskList.deleteTask(1);
+        assertEquals(1, taskList.getIndexNumber(3));
+        assertEquals(2, taskList.getIndexNumber(2));
+    }
+
+    @Test
+    public void testLinesWithBarsKeepTheirIdsAcrossRestarts() throws Exception {
+        Path file = Files.createTempDirectory("duke-ids").resolve("duke.txt");
+        Files.writeString(file, "");
+        Storage storage = new Storage(file.toString());
+        TaskList taskList = new TaskList(storage.load(), storage);
+        Todo todo = new Todo("read a | b");
+        taskList.addTask(todo);
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(List.of("T | N | read a \\| b | @" + todo.getId()), lines);
+
+        for (int restart = 0; restart < 2; restart++) {
+            Storage restarted = new Storage(file.toString());
+            TaskList reloaded = new TaskList(restarted.load(), restarted);
+            assertEquals("read a | b", reloaded.getTasks().get(0).getDescription());
+            assertEquals(todo.getId(), reloaded.getTasks().get(0).getId());
+            assertEquals(lines, Files.readAllLines(file));
+        }
+    }
+
+    @Test
+    public void testLinesAreFoundByIdWhenTheFileIsOutOfOrder() throws Exception {
+        Path file = Files.createTempDirectory("duke-ids").resolve("duke.txt");
+        Files.writeString(file, "T | N | cook | @1\nT | N | read | @2\nT | N | swim | @3");
+        Storage storage = new Storage(file.toString());
+        List<Task> tasks = storage.load();
+        Files.writeString(file, "T | N | swim | @3\nT | N | cook | @1\nT | N | read | @2"); // edited by hand
+
+        tasks.get(1).markAsDone(); // read, the second task of the list
+        storage.replaceInStorage(2, tasks.get(1));
+        assertEquals(List.of("T | N | swim | @3", "T | N | cook | @1", "T | Y | read | @2"),
+                Files.readAllLines(file));
+        tasks.get(0).markAsDone();
+        storage.replaceInStorage(1, tasks.get(0));
+        assertEquals("T | Y | cook | @1", Files.readAllLines(file).get(1));
+    }
+}
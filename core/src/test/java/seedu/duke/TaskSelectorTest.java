@@ -0,0 +1,132 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.command.DeleteCommand;
+import seedu.duke.command.DoneCommand;
+import seedu.duke.exception.InvalidDateException;
+import seedu.duke.exception.InvalidInputFormatException;
+import seedu.duke.exception.TaskIndexOutOfBoundsException;
+import seedu.duke.parser.TaskSelector;
+import seedu.duke.storage.Storage;
+import seedu.duke.task.Deadline;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskList;
+import seedu.duke.task.Todo;
+import seedu.duke.ui.Ui;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TaskSelectorTest {
+    private static List<Task> todos(int count) {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            tasks.add(new Todo(String.format("task %03d", i)));
+        }
+        return tasks;
+    }
+
+    @Test
+    public void testRangesAreMergedInOrder() throws Exception {
+        List<Task> tasks = todos(100);
+        int[] selected = TaskSelector.select("1-50,73,90", tasks);
+        assertEquals(52, selected.length);
+        assertEquals(0, selected[0]);
+        assertEquals(49, selected[49]);
+        assertEquals(72, selected[50]);
+        assertEquals(89, selected[51]);
+
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5}, TaskSelector.select(" 2-4, 3-6 ,5", tasks));
+        assertThrows(TaskIndexOutOfBoundsException.class, () -> TaskSelector.select("5-2", tasks));
+        assertThrows(TaskIndexOutOfBoundsException.class, () -> TaskSelector.select("0", tasks));
+        assertThrows(TaskIndexOutOfBoundsException.class, () -> TaskSelector.select("95-101", tasks));
+        assertThrows(InvalidInputFormatException.class, () -> TaskSelector.select("1-x", tasks));
+    }
+
+    @Test
+    public void testPredicatesSelectDoneAndDatedTasks() throws Exception {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new Deadline("essay", LocalDate.of(2020, 1, 1)));
+        tasks.add(new Todo("swim"));
+        tasks.add(new Deadline("report", LocalDate.of(2021, 1, 1)));
+        tasks.get(1).markAsDone();
+        tasks.get(2).markAsDone();
+
+        assertArrayEquals(new int[] {1, 2}, TaskSelector.select("/done", tasks));
+        assertArrayEquals(new int[] {0}, TaskSelector.select("/before 2020-06-01", tasks)); // the todo has no date
+        assertArrayEquals(new int[] {}, TaskSelector.select("/before 2019-01-01", tasks));
+        assertThrows(InvalidDateException.class, () -> TaskSelector.select("/before 1 Jan 2020", tasks));
+    }
+
+    @Test
+    public void testBulkCommandWritesStorageOnce() throws Exception {
+        Path file = Files.createTempDirectory("duke-selector").resolve("duke.txt");
+        StringBuilder content = new StringBuilder();
+        for (int i = 1; i <= 20; i++) {
+            content.append(String.format("T | N | task %03d\n", i));
+        }
+        Files.writeString(file, content.toString());
+        CountingStorage storage = new CountingStorage(file.toString());
+        TaskList taskList = new TaskList(storage.load(), storage);
+        Ui ui = new Ui();
+
+        storage.writeCount = 0;
+        new DoneCommand(new String[] {"done", "1-5,8"}).execute(taskList, ui, storage);
+        assertEquals(1, storage.writeCount);
+
+        storage.writeCount = 0;
+        new DeleteCommand(new String[] {"delete", "/done"}).execute(taskList, ui, storage);
+        assertEquals(1, storage.writeCount);
+        assertEquals(14, taskList.getTasks().size());
+        assertEquals(14, Files.readAllLines(file).size());
+    }
+
+    /**
+     * Counts the calls that write the hard disk.
+     */
+    private static class CountingStorage extends Storage {
+        private int writeCount;
+
+        private CountingStorage(String filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void rewriteStorage(List<Task> tasks) throws IOException {
+            writeCount++;
+            super.rewriteStorage(tasks);
+        }
+
+        @Override
+        public void replaceInStorage(int index, Task task) throws IOException {
+            writeCount++;
+            super.replaceInStorage(index, task);
+        }
+
+        @Override
+        public void insertInStorage(int index, Task task) throws IOException {
+            writeCount++;
+            super.insertInStorage(index, task);
+        }
+
+        @Override
+        public void deleteInStorage(int index) throws IOException {
+            writeCount++;
+            super.deleteInStorage(index);
+        }
+
+        @Override
+        public void deleteInStorage(int index, Task task) throws IOException {
+            writeCount++;
+            super.deleteInStorage(index, task);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.enums.TaskTypes;
+import seedu.duke.stats.FenwickTree;
+import seedu.duke.stats.TaskStatistics;
+import seedu.duke.task.Deadline;
+import seedu.duke.task.Event;
+import seedu.duke.task.Task;
+import seedu.duke.task.Todo;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TaskStatisticsTest {
+    @Test
+    public void testFenwickTreeRangeSums() {
+        Random random = new Random(3);
+        long[] values = new long[100];
+        FenwickTree tree = new FenwickTree(values.length);
+        for (int i = 0; i < 1000; i++) {
+            int index = random.nextInt(values.length);
+            long delta = random.nextInt(21) - 10;
+            values[index] += delta;
+            tree.add(index, delta);
+        }
+        FenwickTree built = new FenwickTree(values);
+        for (int from = 0; from <= values.length; from += 7) {
+            for (int to = from; to <= values.length; to += 5) {
+                long expected = 0;
+                for (int i = from; i < to; i++) {
+                    expected += values[i];
+                }
+                assertEquals(expected, tree.rangeSum(from, to));
+                assertEquals(expected, built.rangeSum(from, to));
+            }
+        }
+    }
+
+    @Test
+    public void testCountsFollowChanges() {
+        LocalDate day = LocalDate.of(2020, 1, 1);
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new Deadline("far past", LocalDate.of(1990, 6, 1)));
+        tasks.add(new Todo("read"));
+        TaskStatistics statistics = new TaskStatistics(tasks);
+
+        Deadline deadline = new Deadline("essay", day);
+        Event event = new Event("party", day.plusDays(10));
+        Event farEvent = new Event("reunion", LocalDate.of(2090, 1, 1));
+        statistics.taskAdded(0, deadline);
+        statistics.taskAdded(0, event);
+        statistics.taskAdded(0, farEvent);
+        assertEquals(1, statistics.countOpen(day, day));
+        assertEquals(2, statistics.countOpen(day, day.plusDays(10)));
+        assertEquals(4, statistics.countOpen(LocalDate.MIN, LocalDate.MAX));
+
+        deadline.markAsDone();
+        statistics.taskStatusChanged(0, deadline);
+        assertEquals(1, statistics.countDone(day, day.plusDays(10)));
+        assertEquals(1, statistics.countOpen(day, day.plusDays(10)));
+        assertEquals(1, statistics.getDoneCount(TaskTypes.DEADLINE));
+        assertEquals(1, statistics.getOpenCount(TaskTypes.DEADLINE));
+
+        statistics.taskRemoved(0, event);
+        assertEquals(0, statistics.countOpen(day, day.plusDays(10)));
+        assertEquals(1, statistics.getOpenCount(TaskTypes.EVENT));
+        assertEquals(1, statistics.getOpenCount(TaskTypes.TODO));
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.reminder.TimingWheel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimingWheelTest {
+    @Test
+    public void testTimersExpireAtTheirDueTick() {
+        Random random = new Random(7);
+        TimingWheel<Long> wheel = new TimingWheel<>(1000);
+        List<TimingWheel.Timer<Long>> cancelled = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            long dueTick = 1001 + random.nextInt(300000);
+            TimingWheel.Timer<Long> timer = wheel.add(dueTick, dueTick);
+            if (i % 10 == 0) {
+                cancelled.add(timer);
+            }
+        }
+        for (TimingWheel.Timer<Long> timer : cancelled) {
+            wheel.cancel(timer);
+        }
+        assertEquals(4500, wheel.size());
+
+        int expiredCount = 0;
+        while (wheel.size() > 0) {
+            for (long dueTick : wheel.advance()) {
+                assertEquals(wheel.getCurrentTick(), dueTick);
+                expiredCount++;
+            }
+        }
+        assertEquals(4500, expiredCount);
+    }
+
+    @Test
+    public void testOverdueTimerExpiresAtNextTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(50);
+        wheel.add(10, "overdue");
+        assertTrue(wheel.advance().contains("overdue"));
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.task.Task;
+import seedu.duke.task.TrigramIndex;
+import seedu.duke.task.Todo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TrigramIndexTest {
+    @Test
+    public void testTyposAreFoundAndFarTextsAreNot() {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new Todo("return library books"));
+        tasks.add(new Todo("buy groceries"));
+        tasks.add(new Todo("librarian meeting"));
+        TrigramIndex index = new TrigramIndex(tasks);
+
+        List<Task> found = index.search("libary", 10);
+        assertEquals("return library books", found.get(0).getDescription());
+        assertTrue(index.search("swimming", 10).isEmpty());
+        assertEquals(1, index.search("grocerys", 10).size());
+    }
+
+    @Test
+    public void testOnlyTheBestMatchesAreKept() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            tasks.add(new Todo("read chapter " + i));
+        }
+        tasks.add(new Todo("reed chapter"));
+        TrigramIndex index = new TrigramIndex(tasks);
+
+        List<Task> found = index.search("reed chapter", 5);
+        assertEquals(5, found.size());
+        assertEquals("reed chapter", found.get(0).getDescription());
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.loadtest.LoadReport;
+import seedu.duke.loadtest.TraceReplay;
+import seedu.duke.loadtest.WorkloadGenerator;
+import seedu.duke.storage.Storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkloadTest {
+    @Test
+    public void testGeneratedTraceReplaysWithoutErrors() throws Exception {
+        WorkloadGenerator generator = new WorkloadGenerator(200, 500,
+                WorkloadGenerator.toTypeWeights("todo:1,deadline:1,event:1,recurring:1"), 0.5, 0.3, 5, 40, 90, 7);
+        List<String> lines = generator.generateTaskLines();
+        assertEquals(lines, generator.generateTaskLines());
+        for (String line : lines) {
+            Storage.toTask(line);
+        }
+
+        Path taskFile = Files.createTempDirectory("duke-load").resolve("duke.txt");
+        Files.write(taskFile, lines);
+        TraceReplay replay = new TraceReplay(taskFile);
+        List<String> trace = generator.generateTrace(replay.getTaskCount());
+        int expectedCount = lines.size();
+        for (String command : trace) {
+            if (command.matches("(todo|deadline|event|recur) .*")) {
+                expectedCount++;
+            } else if (command.startsWith("delete ")) {
+                expectedCount--;
+            }
+        }
+        LoadReport report = replay.replay(trace);
+        assertEquals(expectedCount, replay.getTaskCount());
+        assertEquals(expectedCount, Files.readAllLines(taskFile).size());
+        assertTrue(report.getCommandsPerSecond() > 0);
+        assertTrue(report.getLatencyNanos(0.5) <= report.getLatencyNanos(0.99));
+    }
+}
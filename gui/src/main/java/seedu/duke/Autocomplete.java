@@ -0,0 +1,98 @@
+package seedu.duke;
+
+import javafx.application.Platform;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
+import javafx.scene.control.TextField;
+import seedu.duke.autocomplete.Suggestion;
+import seedu.duke.autocomplete.TaskCompleter;
+import seedu.duke.task.TaskList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shows suggestions under a text field as the user types. Suggestions are worked out on a background thread, so
+ * typing never waits for them, and each keystroke makes the suggestions for earlier text stale: they are skipped
+ * if they have not been worked out yet, and never shown if they have.
+ */
+public class Autocomplete {
+    private static final int SUGGESTION_LIMIT = 8;
+
+    private final TaskList taskList;
+    private final TextField field;
+    private final ContextMenu menu = new ContextMenu();
+    private final AtomicLong latestRequest = new AtomicLong();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "duke-autocomplete");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private TaskCompleter completer;
+
+    /**
+     * Starts suggesting completions for a text field. Must be called on the JavaFX thread.
+     *
+     * @param taskList The task list, whose tasks must not be null.
+     * @param field The text field the user types commands into.
+     */
+    public Autocomplete(TaskList taskList, TextField field) {
+        this.taskList = taskList;
+        this.field = field;
+        executor.execute(this::getCompleter); // builds the completer before the first keystroke
+        field.textProperty().addListener((observable, oldText, text) -> suggest(text));
+        field.focusedProperty().addListener((observable, wasFocused, isFocused) -> {
+            if (!isFocused) {
+                menu.hide();
+            }
+        });
+    }
+
+    private TaskCompleter getCompleter() {
+        if (completer == null) {
+            synchronized (taskList) {
+                completer = taskList.getCompleter();
+            }
+        }
+        return completer;
+    }
+
+    private void suggest(String text) {
+        long request = latestRequest.incrementAndGet();
+        executor.execute(() -> {
+            if (request != latestRequest.get()) {
+                return; // the user has typed more since
+            }
+            List<Suggestion> suggestions = getCompleter().complete(text, SUGGESTION_LIMIT);
+            Platform.runLater(() -> {
+                if (request == latestRequest.get()) {
+                    show(suggestions);
+                }
+            });
+        });
+    }
+
+    private void show(List<Suggestion> suggestions) {
+        if (suggestions.isEmpty()) {
+            menu.hide();
+            return;
+        }
+        List<MenuItem> items = new ArrayList<>();
+        for (Suggestion suggestion : suggestions) {
+            MenuItem item = new MenuItem(suggestion.getLabel());
+            item.setOnAction(event -> {
+                field.setText(suggestion.getText());
+                field.positionCaret(suggestion.getText().length());
+            });
+            items.add(item);
+        }
+        menu.getItems().setAll(items);
+        if (!menu.isShowing()) {
+            menu.show(field, Side.TOP, 0, 0);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.duke;
+
+//@Override
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.logging.Logger;
+
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Scene;
+import javafx.scene.layout.AnchorPane;
+import javafx.stage.Stage;
+import seedu.duke.ui.Ui;
+
+//@@author johannagwan-reused
+//Reused from https://github.com/johannagwan/duke/blob/master/tutorials/javaFxTutorialPart4.md with minor modifications.
+/**
+ * A GUI for Duke using FXML. The window is shown before the task file is loaded, which Duke does on its command
+ * thread, and the first page of tasks is shown as soon as it is known.
+ */
+public class Main extends Application {
+    private static final Logger LOGGER = Logger.getLogger(Main.class.getName());
+
+    private Duke duke;
+
+    @Override
+    public void start(Stage stage) {
+        try {
+            FXMLLoader fxmlLoader = new FXMLLoader(Main.class.getResource("/view/MainWindow.fxml"));
+            AnchorPane ap = fxmlLoader.load();
+            Scene scene = new Scene(ap);
+            stage.setScene(scene);
+            MainWindow mainWindow = fxmlLoader.<MainWindow>getController();
+            duke = Duke.startLoading(mainWindow::showFirstPage);
+            mainWindow.setDuke(duke);
+            stage.setTitle("Dodo");
+            stage.show();
+            if (Boolean.getBoolean("duke.startup.exitWhenReady")) {
+                timeStartup();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Lets the startup benchmark time the first frame and the first command, which waits for the task file to load,
+     * by logging when each is done, and then exits.
+     */
+    private void timeStartup() {
+        LOGGER.info("Dodo is shown");
+        duke.submit("stats").thenRun(() -> Platform.runLater(() -> {
+            LOGGER.info("Dodo is ready");
+            Platform.exit();
+        }));
+    }
+}
+//@@author
\ No newline at end of file
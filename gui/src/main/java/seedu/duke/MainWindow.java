@@ -0,0 +1,116 @@
+package seedu.duke;
+
+import javafx.application.Platform;
+import javafx.fxml.FXML;
+import javafx.scene.control.Button;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TextField;
+import javafx.scene.image.Image;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.VBox;
+import seedu.duke.task.Task;
+import seedu.duke.ui.Ui;
+
+import java.util.List;
+
+//@@author johannagwan-reused
+//Reused from https://github.com/johannagwan/duke/blob/master/tutorials/javaFxTutorialPart4.md with minor modifications.
+/**
+ * Controller for MainWindow. Provides the layout for the other controls.
+ */
+public class MainWindow extends AnchorPane {
+    @FXML
+    private ScrollPane scrollPane;
+    @FXML
+    private VBox dialogContainer;
+    @FXML
+    private TextField userInput;
+    @FXML
+    private Button sendButton;
+    @FXML
+    private TableView<Task> taskView;
+    @FXML
+    private TextField filterField;
+
+    private Duke duke;
+    private TaskTable taskTable;
+
+    private Image userImage = new Image(this.getClass().getResourceAsStream("/images/kuroko_chibi.jpg"));
+    private Image dukeImage = new Image(this.getClass().getResourceAsStream("/images/akashi_chibi.jpg"));
+
+    /**
+     * Initializes Duke GUI.
+     */
+    @FXML
+    public void initialize() {
+        Ui ui = new Ui();
+        scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
+        dialogContainer.prefWidthProperty().bind(scrollPane.widthProperty());
+        dialogContainer.getChildren().add(DialogBox.getDukeDialog(ui.greet(), dukeImage));
+        taskTable = new TaskTable(taskView, filterField, message -> dialogContainer.getChildren().add(
+                DialogBox.getDukeDialog(message, dukeImage)));
+    }
+
+    /**
+     * Shows the first tasks of the list in the task table while the rest of it is loading. May be called on any
+     * thread.
+     *
+     * @param firstTasks The first tasks of the list.
+     */
+    public void showFirstPage(List<Task> firstTasks) {
+        taskTable.showFirstPage(firstTasks);
+    }
+
+    /**
+     * Connects the window to Duke, whose task file may still be loading. Once it is loaded, the task table follows
+     * Duke's tasks, the user input is completed and Duke's reminders are shown as dialogs. If it cannot be loaded,
+     * the reason is shown as a dialog instead.
+     *
+     * @param d The Duke instance.
+     */
+    public void setDuke(Duke d) {
+        duke = d;
+        if (!duke.getLoading().isDone()) {
+            dialogContainer.getChildren().add(DialogBox.getDukeDialog(new Ui().formatLoading(), dukeImage));
+        }
+        duke.getLoading().whenComplete((loaded, error) -> Platform.runLater(this::followTaskList));
+    }
+
+    private void followTaskList() {
+        if (duke.getLoadFailure() != null) {
+            dialogContainer.getChildren().add(DialogBox.getDukeDialog(duke.getLoadFailure(), dukeImage));
+            return;
+        }
+        if (duke.getLoadWarning() != null) {
+            dialogContainer.getChildren().add(DialogBox.getDukeDialog(duke.getLoadWarning(), dukeImage));
+        }
+        taskTable.follow(duke.getTaskList());
+        new Autocomplete(duke.getTaskList(), userInput);
+        if (duke.getReminders() != null) {
+            Ui ui = new Ui();
+            duke.getReminders().addListener(task -> Platform.runLater(() -> dialogContainer.getChildren().add(
+                    DialogBox.getDukeDialog(ui.formatReminder(task), dukeImage))));
+        }
+    }
+
+    /**
+     * Creates two dialog boxes, one echoing user input and the other containing Duke's reply and then appends them to
+     * the dialog container. Clears the user input after processing. The input is run on Duke's command thread, so
+     * the window stays responsive while it waits for the task file to load or for a long command, and the reply is
+     * added once it is ready.
+     */
+    @FXML
+    private void handleUserInput() {
+        String input = userInput.getText();
+        dialogContainer.getChildren().add(DialogBox.getUserDialog(input, userImage));
+        userInput.clear();
+        duke.submit(input).exceptionally(Throwable::toString).thenAccept(response -> Platform.runLater(() -> {
+            dialogContainer.getChildren().add(DialogBox.getDukeDialog(response, dukeImage));
+            if (duke.isExit()) {
+                Platform.exit();
+            }
+        }));
+    }
+}
+//@@author
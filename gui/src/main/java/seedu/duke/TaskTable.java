@@ -0,0 +1,250 @@
+package seedu.duke;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TextField;
+import seedu.duke.exception.DukeException;
+import seedu.duke.storage.Storage;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskChange;
+import seedu.duke.task.TaskChangeFeed;
+import seedu.duke.task.TaskList;
+import seedu.duke.ui.Ui;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Shows the tasks of a TaskList in a table that follows the change feed of the list. Each change replaces, adds or
+ * removes one row of the table, and the sorted and filtered views over the rows pass on only that row, so the
+ * table never redraws the whole list. When the list is sorted, the rows are sorted the same way. The rows are
+ * copies of the tasks, so the table never reads a task while a command is changing it. Whenever the whole list has
+ * to be copied, it is copied on a background thread while holding the lock of the list, and only the copied rows are
+ * handed to the JavaFX thread, which never waits for a command. While the list is loading, the table can show its
+ * first page.
+ */
+public class TaskTable implements Flow.Subscriber<TaskChange> {
+    private static final int REQUESTED_CHANGES = 64;
+
+    private final ObservableList<Task> rows = FXCollections.observableArrayList();
+    private final FilteredList<Task> filteredRows = new FilteredList<>(rows);
+    private final Consumer<String> errorListener;
+    private final ExecutorService copier = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "duke-task-table");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private TaskList taskList;
+    private TaskChangeFeed feed;
+    private Flow.Subscription subscription;
+    private long appliedSequence;
+    private boolean isCopying;
+
+    /**
+     * Sets up a table to show tasks, which stays empty until it is given the first page or the list.
+     * Must be called on the JavaFX thread.
+     *
+     * @param table The table to show the tasks in.
+     * @param filterField The text field whose text filters the rows by keyword.
+     * @param errorListener Given a message for the user, on the JavaFX thread, if the table stops following the list.
+     */
+    public TaskTable(TableView<Task> table, TextField filterField, Consumer<String> errorListener) {
+        this.errorListener = errorListener;
+        SortedList<Task> sortedRows = new SortedList<>(filteredRows);
+        sortedRows.comparatorProperty().bind(table.comparatorProperty());
+        table.setItems(sortedRows);
+        addColumns(table);
+        filterField.textProperty().addListener((observable, oldText, text) -> setFilter(text));
+    }
+
+    /**
+     * Shows the first tasks of the list while the rest of it is loading. May be called on any thread, as the tasks
+     * are copied at once and shown on the JavaFX thread.
+     *
+     * @param firstTasks The first tasks of the list.
+     */
+    public void showFirstPage(List<Task> firstTasks) {
+        Task[] copies = toRows(firstTasks);
+        Platform.runLater(() -> {
+            if (taskList == null) {
+                rows.setAll(copies);
+            }
+        });
+    }
+
+    /**
+     * Fills the table with the tasks of a list and keeps it up to date. Must be called on the JavaFX thread; the
+     * list is copied on a background thread.
+     *
+     * @param taskList The task list, whose tasks must not be null.
+     */
+    public void follow(TaskList taskList) {
+        this.taskList = taskList;
+        feed = taskList.getChangeFeed();
+        copyTasks(true);
+    }
+
+    private static void addColumns(TableView<Task> table) {
+        TableColumn<Task, Long> idColumn = new TableColumn<>("#");
+        idColumn.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(cell.getValue().getId()));
+        table.getColumns().add(idColumn);
+        addColumn(table, "Done", Task::getStatusIcon);
+        addColumn(table, "Type", task -> task.getType().name().toLowerCase());
+        addColumn(table, "Task", Task::getDescription);
+        addColumn(table, "Date", task -> task.getDate() == null ? "" : task.getDate().toString());
+        addColumn(table, "Labels", task -> task.getLabels().trim());
+    }
+
+    private static void addColumn(TableView<Task> table, String name, Function<Task, String> value) {
+        TableColumn<Task, String> column = new TableColumn<>(name);
+        column.setCellValueFactory(cell -> new ReadOnlyStringWrapper(value.apply(cell.getValue())));
+        table.getColumns().add(column);
+    }
+
+    private void setFilter(String text) {
+        String keyword = text.trim().toLowerCase();
+        if (keyword.isEmpty()) {
+            filteredRows.setPredicate(null);
+        } else {
+            filteredRows.setPredicate(task -> task.toString().toLowerCase().contains(keyword));
+        }
+    }
+
+    /**
+     * Replaces all rows with copies of the tasks, made on a background thread while holding the lock of the task
+     * list. The rows are handed to the JavaFX thread before the lock is let go, so they are applied before any change
+     * made after them; changes that arrive meanwhile are skipped, as the copy already includes them. Must be called
+     * on the JavaFX thread.
+     *
+     * @param isSubscribing true to subscribe to the change feed together with the copy.
+     */
+    private void copyTasks(boolean isSubscribing) {
+        isCopying = true;
+        copier.execute(() -> {
+            synchronized (taskList) {
+                Task[] copies;
+                try {
+                    copies = toRows(taskList.getTasks());
+                } catch (IllegalStateException e) {
+                    onError(e);
+                    return;
+                }
+                long sequence = feed.getLastSequence();
+                Platform.runLater(() -> {
+                    rows.setAll(copies);
+                    appliedSequence = sequence;
+                    isCopying = false;
+                });
+                if (isSubscribing) {
+                    feed.subscribe(this);
+                }
+            }
+        });
+    }
+
+    private static Task[] toRows(List<Task> tasks) {
+        Task[] copies = new Task[tasks.size()];
+        for (int i = 0; i < copies.length; i++) {
+            copies[i] = toRow(Storage.toStorageString(tasks.get(i)));
+        }
+        return copies;
+    }
+
+    private static Task toRow(String line) {
+        try {
+            return Storage.toTask(line);
+        } catch (DukeException e) {
+            throw new IllegalStateException("Cannot read saved task " + line, e);
+        }
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(REQUESTED_CHANGES);
+    }
+
+    /**
+     * Applies a change on the JavaFX thread, and only then asks for another one, so that changes wait in the
+     * bounded buffer of the feed while the JavaFX thread is busy.
+     */
+    @Override
+    public void onNext(TaskChange change) {
+        Platform.runLater(() -> {
+            try {
+                apply(change);
+            } catch (IllegalStateException e) {
+                subscription.cancel();
+                onError(e);
+                return;
+            }
+            subscription.request(1);
+        });
+    }
+
+    private void apply(TaskChange change) {
+        if (isCopying || change.getSequence() <= appliedSequence) {
+            return; // in the rows being copied or already copied from the list
+        }
+        if (change.getSequence() != appliedSequence + 1) {
+            copyTasks(false); // changes were dropped
+            return;
+        }
+
+        appliedSequence = change.getSequence();
+        if (change.getType() == TaskChange.Type.REORDERED) {
+            FXCollections.sort(rows); // the rows sort like the tasks they copy
+            return;
+        }
+        Task row = toRow(change.getLine());
+        int index = indexOf(row.getId(), change.getIndex());
+        if (change.getType() == TaskChange.Type.DELETED) {
+            if (index >= 0) {
+                rows.remove(index);
+            }
+        } else if (index >= 0) {
+            rows.set(index, row);
+        } else {
+            rows.add(Math.min(change.getIndex(), rows.size()), row);
+        }
+    }
+
+    /**
+     * Finds the row of a task, looking first at the position the task had in the list.
+     */
+    private int indexOf(long id, int position) {
+        if (position < rows.size() && rows.get(position).getId() == id) {
+            return position;
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            if (rows.get(i).getId() == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Tells the user that the table no longer follows the list, e.g. as a saved task could not be read back.
+     */
+    @Override
+    public void onError(Throwable throwable) {
+        String message = new Ui().formatTaskTableError(throwable);
+        Platform.runLater(() -> errorListener.accept(message));
+    }
+
+    @Override
+    public void onComplete() {
+    }
+}
@@ -0,0 +1,75 @@
+#!/usr/bin/env bash
+# Measures how long the console and the GUI take to show their first prompt, and how much memory (peak RSS) they
+# use to get there. For the GUI, both the first frame and the first command, which waits for the tasks to load, are
+# timed. Build both jars first with ./gradlew shadowJar. The GUI needs a display.
+#
+# Usage: scripts/startup-benchmark.sh [number of runs, default 5] [number of tasks in duke.txt, default 0]
+
+set -e
+cd "$(dirname "$0")/.."
+RUNS=${1:-5}
+TASKS=${2:-0}
+CLI_JAR=$PWD/core/build/libs/duke-cli-0.3.jar
+GUI_JAR=$PWD/gui/build/libs/duke-0.3.jar
+WORK_DIR=$(mktemp -d) # so that the runs never touch your own duke.txt
+trap 'rm -rf "$WORK_DIR"' EXIT
+if (( TASKS > 0 )); then # sorted already, so that every run loads the same file
+    awk -v n="$TASKS" 'BEGIN { for (i = 1; i <= n; i++) printf "T | N | task %07d | @%d\n", i, i }' \
+        > "$WORK_DIR/duke.txt"
+fi
+HAS_GNU_TIME=false
+if /usr/bin/time -f "%M" true > /dev/null 2>&1; then
+    HAS_GNU_TIME=true
+fi
+
+# run_with_rss <file for the peak RSS in KB> <command...>
+run_with_rss() {
+    local rss_file=$1
+    shift
+    if $HAS_GNU_TIME; then
+        /usr/bin/time -f "%M" -o "$rss_file" "$@"
+    else
+        echo 0 > "$rss_file"
+        "$@"
+    fi
+}
+
+# measure <label> <what is timed> <line that marks it> <command...>
+# The GUI logs its markers, which go to standard error, so both streams are searched.
+measure() {
+    local label=$1 what=$2 marker=$3
+    shift 3
+    local times=() peak_rss_kb=0
+    for _ in $(seq "$RUNS"); do
+        local start rss_file elapsed_ms rss_kb
+        rss_file=$(mktemp)
+        start=$(date +%s%N)
+        elapsed_ms=$(cd "$WORK_DIR" && echo bye | run_with_rss "$rss_file" "$@" 2>&1 | {
+            while IFS= read -r line; do
+                if [[ $line == *"$marker"* ]]; then
+                    echo $(( ($(date +%s%N) - start) / 1000000 ))
+                    break
+                fi
+            done
+            cat > /dev/null
+        })
+        rss_kb=$(tail -n 1 "$rss_file")
+        rm -f "$rss_file"
+        times+=("$elapsed_ms")
+        if (( rss_kb > peak_rss_kb )); then
+            peak_rss_kb=$rss_kb
+        fi
+    done
+    local sorted rss
+    sorted=($(printf '%s\n' "${times[@]}" | sort -n))
+    rss="$(( peak_rss_kb / 1024 )) MB"
+    if ! $HAS_GNU_TIME; then
+        rss="n/a (needs GNU time)"
+    fi
+    printf '%-8s %-14s %5d ms (median of %d), peak RSS: %s\n' \
+        "$label" "$what:" "${sorted[$(( RUNS / 2 ))]}" "$RUNS" "$rss"
+}
+
+measure console "first prompt" "Hi there, I'm Dodo!" java -jar "$CLI_JAR"
+measure gui "first frame" "Dodo is shown" java -Dduke.startup.exitWhenReady=true -jar "$GUI_JAR"
+measure gui "first command" "Dodo is ready" java -Dduke.startup.exitWhenReady=true -jar "$GUI_JAR"
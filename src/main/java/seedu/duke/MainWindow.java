@@ -1,64 +0,0 @@
-package seedu.duke;
-
-import javafx.fxml.FXML;
-import javafx.scene.control.Button;
-import javafx.scene.control.ScrollPane;
-import javafx.scene.control.TextField;
-import javafx.scene.image.Image;
-import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.VBox;
-import seedu.duke.ui.Ui;
-
-import java.io.IOException;
-
-//@@author johannagwan-reused
-//Reused from https://github.com/johannagwan/duke/blob/master/tutorials/javaFxTutorialPart4.md with minor modifications.
-/**
- * Controller for MainWindow. Provides the layout for the other controls.
- */
-public class MainWindow extends AnchorPane {
-    @FXML
-    private ScrollPane scrollPane;
-    @FXML
-    private VBox dialogContainer;
-    @FXML
-    private TextField userInput;
-    @FXML
-    private Button sendButton;
-
-    private Duke duke;
-
-    private Image userImage = new Image(this.getClass().getResourceAsStream("/images/kuroko_chibi.jpg"));
-    private Image dukeImage = new Image(this.getClass().getResourceAsStream("/images/akashi_chibi.jpg"));
-
-    /**
-     * Initializes Duke GUI.
-     */
-    @FXML
-    public void initialize() {
-        Ui ui = new Ui();
-        scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
-        dialogContainer.prefWidthProperty().bind(scrollPane.widthProperty());
-        dialogContainer.getChildren().add(DialogBox.getDukeDialog(ui.greet(), dukeImage));
-    }
-
-    public void setDuke(Duke d) {
-        duke = d;
-    }
-
-    /**
-     * Creates two dialog boxes, one echoing user input and the other containing Duke's reply and then appends them to
-     * the dialog container. Clears the user input after processing.
-     */
-    @FXML
-    private void handleUserInput() throws IOException {
-        String input = userInput.getText();
-        String response = duke.getResponse(input);
-        dialogContainer.getChildren().addAll(
-                DialogBox.getUserDialog(input, userImage),
-                DialogBox.getDukeDialog(response, dukeImage)
-        );
-        userInput.clear();
-    }
-}
-//@@author
@@ -1,4 +0,0 @@
-package seedu.duke.exception;
-
-public class DukeException extends Exception {
-}